@@ -29,15 +29,24 @@ import me.blvckbytes.gpeee.functions.AExpressionFunction;
 import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
 import me.blvckbytes.gpeee.functions.std.*;
 import me.blvckbytes.gpeee.interpreter.*;
+import me.blvckbytes.gpeee.metrics.EvaluationMetricsCollector;
+import me.blvckbytes.gpeee.metrics.SamplingProfiler;
 import me.blvckbytes.gpeee.parser.Optimizer;
 import me.blvckbytes.gpeee.parser.Parser;
 import me.blvckbytes.gpeee.parser.expression.AExpression;
+import me.blvckbytes.gpeee.serialization.ExpressionBundle;
+import me.blvckbytes.gpeee.serialization.ExpressionSerializer;
 import me.blvckbytes.gpeee.tokenizer.Tokenizer;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class GPEEE implements IExpressionEvaluator, IStandardFunctionRegistry {
@@ -56,11 +65,13 @@ public class GPEEE implements IExpressionEvaluator, IStandardFunctionRegistry {
   private final Interpreter interpreter;
   private final Optimizer optimizer;
   private final Logger logger;
+  private final ExpressionSerializer serializer;
 
   private EvaluationEnvironmentBuilder baseEnvironment;
 
   public GPEEE(Logger logger) {
     this.logger = logger;
+    this.serializer = new ExpressionSerializer();
     this.parser = new Parser(this.logger);
     this.interpreter = new Interpreter(this.logger, this);
     this.optimizer = new Optimizer(this.logger, this.interpreter, this);
@@ -72,6 +83,35 @@ public class GPEEE implements IExpressionEvaluator, IStandardFunctionRegistry {
 
   public void setBaseEnvironment(EvaluationEnvironmentBuilder baseEnvironment) {
     this.baseEnvironment = baseEnvironment;
+
+    // Static expressions have to be evaluated the same way ahead of time as they would be at runtime
+    this.optimizer.setValueInterpreter(baseEnvironment.build().getValueInterpreter());
+  }
+
+  /**
+   * Installs a collector which is fed with metrics of all following evaluations,
+   * or removes the current collector when passing null, which disables instrumentation
+   * @param metricsCollector Collector to install
+   */
+  public void setMetricsCollector(@Nullable EvaluationMetricsCollector metricsCollector) {
+    this.interpreter.setMetricsCollector(metricsCollector);
+  }
+
+  public @Nullable EvaluationMetricsCollector getMetricsCollector() {
+    return this.interpreter.getMetricsCollector();
+  }
+
+  /**
+   * Installs a profiler which samples all following evaluations while it's running,
+   * or removes the current profiler when passing null
+   * @param profiler Profiler to install
+   */
+  public void setProfiler(@Nullable SamplingProfiler profiler) {
+    this.interpreter.setProfiler(profiler);
+  }
+
+  public @Nullable SamplingProfiler getProfiler() {
+    return this.interpreter.getProfiler();
   }
 
   @Override
@@ -84,6 +124,30 @@ public class GPEEE implements IExpressionEvaluator, IStandardFunctionRegistry {
     return optimizer.optimizeAST(expression);
   }
 
+  @Override
+  public AExpression loadOrParse(String input, @Nullable byte[] serialized) throws AEvaluatorError {
+    if (serialized != null) {
+      try {
+        AExpression expression = serializer.deserialize(serialized, input);
+
+        if (expression != null) {
+          // Prepared argument values are not part of the serialized form
+          optimizer.precompileArguments(expression);
+          return expression;
+        }
+      } catch (IOException e) {
+        logger.log(Level.WARNING, "Could not load a serialized expression, parsing it instead", e);
+      }
+    }
+
+    return optimizeExpression(parseString(input));
+  }
+
+  @Override
+  public ExpressionBundle openBundle(Path path) throws IOException {
+    return ExpressionBundle.open(path, serializer, optimizer::precompileArguments);
+  }
+
   @Override
   public Object evaluateExpression(AExpression expression, IEvaluationEnvironment environment) throws AEvaluatorError {
     if (this.baseEnvironment != null)
@@ -91,6 +155,27 @@ public class GPEEE implements IExpressionEvaluator, IStandardFunctionRegistry {
     return interpreter.evaluateExpression(expression, environment);
   }
 
+  @Override
+  public void evaluateInto(AExpression expression, IEvaluationEnvironment environment, Appendable output) throws AEvaluatorError, IOException {
+    if (this.baseEnvironment != null)
+      environment = baseEnvironment.build(environment);
+    interpreter.evaluateInto(expression, environment, output);
+  }
+
+  @Override
+  public CompletableFuture<Object> evaluateExpressionAsync(AExpression expression, IEvaluationEnvironment environment, Executor executor) {
+    if (this.baseEnvironment != null)
+      environment = baseEnvironment.build(environment);
+    return interpreter.evaluateExpressionAsync(expression, environment, executor);
+  }
+
+  @Override
+  public ReactiveExpression createReactiveExpression(AExpression expression, IEvaluationEnvironment environment) {
+    if (this.baseEnvironment != null)
+      environment = baseEnvironment.build(environment);
+    return new ReactiveExpression(interpreter, expression, environment);
+  }
+
   @Override
   public EvaluationEnvironmentBuilder getBaseEnvironment() {
     if (this.baseEnvironment == null)
@@ -134,6 +219,20 @@ public class GPEEE implements IExpressionEvaluator, IStandardFunctionRegistry {
     new FlattenFunction().registerSelf(this);
     new MinFunction().registerSelf(this);
     new MaxFunction().registerSelf(this);
+    new RegexMatchFunction().registerSelf(this);
+    new RegexReplaceFunction().registerSelf(this);
+    new RegexFindAllFunction().registerSelf(this);
+    new SumFunction().registerSelf(this);
+    new AvgFunction().registerSelf(this);
+    new CountFunction().registerSelf(this);
+    new MinOfFunction().registerSelf(this);
+    new MaxOfFunction().registerSelf(this);
+    new GroupByFunction().registerSelf(this);
+    new SortByFunction().registerSelf(this);
+    new SortFunction().registerSelf(this);
+    new TopKFunction().registerSelf(this);
+    new IndexByFunction().registerSelf(this);
+    new LookupFunction().registerSelf(this);
   }
 
   private static IEvaluationEnvironment createEmptyEnvironment() {
@@ -27,7 +27,16 @@ package me.blvckbytes.gpeee;
 import me.blvckbytes.gpeee.error.AEvaluatorError;
 import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.ReactiveExpression;
 import me.blvckbytes.gpeee.parser.expression.AExpression;
+import me.blvckbytes.gpeee.serialization.ExpressionBundle;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public interface IExpressionEvaluator {
 
@@ -49,6 +58,27 @@ public interface IExpressionEvaluator {
    */
   AExpression optimizeExpression(AExpression expression) throws AEvaluatorError;
 
+  /**
+   * Loads an expression which has previously been parsed, optimized and serialized by the
+   * {@link me.blvckbytes.gpeee.serialization.ExpressionSerializer}, which skips tokenizing and
+   * parsing entirely. Falls back to parsing and optimizing the input if there is no serialized form,
+   * or if it's malformed, has been produced by another format version or from a different input.
+   * @param input Input the expression has been compiled from
+   * @param serialized Serialized form, null if not available
+   * @return Root node of the AST
+   * @throws AEvaluatorError Error during the parsing or optimization process
+   */
+  AExpression loadOrParse(String input, @Nullable byte[] serialized) throws AEvaluatorError;
+
+  /**
+   * Maps a file written by the {@link me.blvckbytes.gpeee.serialization.ExpressionBundleWriter} into memory,
+   * whose expressions are prepared for evaluation on first use just like those loaded by {@link #loadOrParse}
+   * @param path Path of the file
+   * @return Bundle, backed by the mapped file
+   * @throws IOException The file could not be mapped or is not a valid bundle
+   */
+  ExpressionBundle openBundle(Path path) throws IOException;
+
   /**
    * Evaluates a previously parsed expression within a provided evaluation environment.
    * @param expression Expression to evaluate
@@ -57,6 +87,37 @@ public interface IExpressionEvaluator {
    */
   Object evaluateExpression(AExpression expression, IEvaluationEnvironment environment) throws AEvaluatorError;
 
+  /**
+   * Evaluates a previously parsed expression within a provided evaluation environment and writes
+   * the string representation of it's value into an output, streaming string literals, templates,
+   * concatenations and streaming functions like iter_cat instead of building up the result in memory.
+   * @param expression Expression to evaluate
+   * @param environment Environment to evaluate within
+   * @param output Output to write into
+   * @throws AEvaluatorError Error during the interpretation process
+   * @throws IOException Error while writing into the output
+   */
+  void evaluateInto(AExpression expression, IEvaluationEnvironment environment, Appendable output) throws AEvaluatorError, IOException;
+
+  /**
+   * Evaluates a previously parsed expression within a provided evaluation environment without blocking
+   * the calling thread, while waiting for asynchronous live variables and functions to complete.
+   * @param expression Expression to evaluate
+   * @param environment Environment to evaluate within
+   * @param executor Executor to run the evaluation on once all awaited values are available
+   * @return Future of the resulting expression value, completing exceptionally on errors
+   */
+  CompletableFuture<Object> evaluateExpressionAsync(AExpression expression, IEvaluationEnvironment environment, Executor executor);
+
+  /**
+   * Binds a previously parsed expression to an evaluation environment for repeated evaluations
+   * which only re-evaluate the subtrees affected by variables the caller signalled as changed.
+   * @param expression Expression to evaluate reactively
+   * @param environment Environment to evaluate within
+   * @return Reactive expression handle
+   */
+  ReactiveExpression createReactiveExpression(AExpression expression, IEvaluationEnvironment environment);
+
   /**
    * Get a copy of the evaluator's base environment to be safely modified and built by the caller
    */
@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.error;
+
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+
+public class EvaluationLimitExceededError extends AEvaluatorError {
+
+  public enum Limit {
+    NODE_VISITS,
+    COLLECTION_SIZE,
+    STRING_LENGTH,
+    TIMEOUT
+  }
+
+  private final Limit limit;
+
+  public EvaluationLimitExceededError(AExpression expression, Limit limit, String message) {
+    super(
+      expression.getHead().getRow(),
+      expression.getHead().getCol(),
+      expression.getFullContainingExpression(),
+      message
+    );
+
+    this.limit = limit;
+  }
+
+  /**
+   * Get the limit which has been exceeded
+   */
+  public Limit getLimit() {
+    return limit;
+  }
+}
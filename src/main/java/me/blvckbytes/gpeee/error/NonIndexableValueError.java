@@ -24,12 +24,12 @@
 
 package me.blvckbytes.gpeee.error;
 
-import me.blvckbytes.gpeee.parser.expression.IndexExpression;
+import me.blvckbytes.gpeee.parser.expression.AExpression;
 import org.jetbrains.annotations.Nullable;
 
 public class NonIndexableValueError extends AEvaluatorError {
 
-  public NonIndexableValueError(IndexExpression expression, @Nullable Object value) {
+  public NonIndexableValueError(AExpression expression, @Nullable Object value) {
     super(
       expression.getHead().getRow(),
       expression.getHead().getCol(),
@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.functions;
+
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A function which produces it's result asynchronously, for example by performing I/O.
+ *
+ * Asynchronous evaluations request the result when reaching an invocation of such a function,
+ * carry on with all other independent inputs and repeat once all results are available, without
+ * blocking any thread. Results are remembered per invocation site and arguments - where callbacks
+ * are told apart by their expression and captured variables - for the rest of that evaluation.
+ * Synchronous evaluations have to wait for the future to complete.
+ */
+public abstract class AAsyncExpressionFunction extends AExpressionFunction {
+
+  /**
+   * Called whenever a function call to the registered corresponding
+   * identifier is performed within an expression
+   * @param environment A reference to the current environment
+   * @param args Arguments supplied by the invocation
+   * @return Future of the return value of this function
+   */
+  public abstract CompletableFuture<?> applyAsync(IEvaluationEnvironment environment, List<@Nullable Object> args);
+
+  @Override
+  public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+    return applyAsync(environment, args).join();
+  }
+}
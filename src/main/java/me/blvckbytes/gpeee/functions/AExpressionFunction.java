@@ -56,6 +56,16 @@ public abstract class AExpressionFunction {
    */
   public abstract @Nullable List<ExpressionFunctionArgument> getArguments();
 
+  /**
+   * Whether the result of this function only depends on it's arguments and the variables
+   * it reads through the expressions it evaluates. Results of pure functions may be kept
+   * by a {@link me.blvckbytes.gpeee.interpreter.ReactiveExpression} until one of their
+   * inputs changed, while impure functions are re-invoked on every evaluation.
+   */
+  public boolean isPure() {
+    return false;
+  }
+
   //=========================================================================//
   //                                  Utilities                              //
   //=========================================================================//
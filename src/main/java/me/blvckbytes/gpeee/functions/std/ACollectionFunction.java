@@ -0,0 +1,206 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.functions.std;
+
+import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.IValueInterpreter;
+import me.blvckbytes.gpeee.interpreter.LazySequence;
+import me.blvckbytes.gpeee.interpreter.LongRange;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Base of standard functions which reduce, group or reorder a collection by a key that's
+ * extracted from each of it's items. Items are consumed in a single pass over the input,
+ * so that lazy sequences are never materialized into an intermediate list.
+ */
+public abstract class ACollectionFunction extends AStandardFunction {
+
+  /**
+   * Extracts the key of an item
+   * @param environment Environment to invoke the key mapper within
+   * @param keyMapper Key mapper, called with the item and it's index, null to use the item itself
+   * @param item Item to extract the key of
+   * @param index Index of the item within it's collection
+   * @return Key of the item
+   */
+  protected @Nullable Object extractKey(
+    IEvaluationEnvironment environment,
+    @Nullable AExpressionFunction keyMapper,
+    @Nullable Object item,
+    int index
+  ) {
+    if (keyMapper == null)
+      return item;
+
+    return keyMapper.apply(environment, Arrays.asList(item, index));
+  }
+
+  /**
+   * Get the number of items a collection is expected to yield, in order to presize buffers. Lazy
+   * sequences are not asked for their size, as that would compute all of their items up front.
+   * @param items Items to be consumed
+   * @param fallback Size to expect if the number of items is not known ahead of time
+   * @return Expected number of items
+   */
+  protected int expectedSize(Iterable<?> items, int fallback) {
+    if (items instanceof Collection && !(items instanceof LazySequence))
+      return ((Collection<?>) items).size();
+
+    return fallback;
+  }
+
+  /**
+   * Pairs each item with it's key, extracting every key exactly once
+   * @param environment Environment to invoke the key mapper within
+   * @param items Items to extract the keys of
+   * @param keyMapper Key mapper, called with the item and it's index, null to use the items themselves
+   * @return List of all items paired with their keys, in order
+   */
+  protected List<KeyedItem> extractKeys(
+    IEvaluationEnvironment environment,
+    Iterable<?> items,
+    @Nullable AExpressionFunction keyMapper
+  ) {
+    List<KeyedItem> result = new ArrayList<>(expectedSize(items, 10));
+
+    int index = 0;
+    for (Object item : items) {
+      result.add(new KeyedItem(item, extractKey(environment, keyMapper, item, index)));
+      ++index;
+    }
+
+    return result;
+  }
+
+  /**
+   * Finds the item with the smallest or biggest key, where the first one wins on ties
+   * @param environment Environment to invoke the key mapper within
+   * @param items Items to search through
+   * @param keyMapper Key mapper, called with the item and it's index, null to use the items themselves
+   * @param biggest Whether to look for the biggest instead of the smallest key
+   * @return Found item, null if there were no items with a key
+   */
+  protected @Nullable Object findExtremeItem(
+    IEvaluationEnvironment environment,
+    Iterable<?> items,
+    @Nullable AExpressionFunction keyMapper,
+    boolean biggest
+  ) {
+    // Ranges are ordered, so their bounds are known without visiting any items
+    if (keyMapper == null && items instanceof LongRange) {
+      LongRange range = (LongRange) items;
+
+      if (range.isEmpty())
+        return null;
+
+      return biggest ? range.getLast() : range.getFirst();
+    }
+
+    IValueInterpreter valueInterpreter = environment.getValueInterpreter();
+    Object result = null, resultKey = null;
+
+    int index = 0;
+    for (Object item : items) {
+      Object key = extractKey(environment, keyMapper, item, index++);
+
+      if (key == null)
+        continue;
+
+      if (resultKey == null) {
+        result = item;
+        resultKey = key;
+        continue;
+      }
+
+      int comparison = valueInterpreter.compare(key, resultKey);
+
+      if (biggest ? comparison > 0 : comparison < 0) {
+        result = item;
+        resultKey = key;
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Sorts items by their keys, which are extracted exactly once per item beforehand,
+   * where items of equal keys keep their order and items without a key are placed last
+   * @param environment Environment to invoke the key mapper within
+   * @param items Items to sort
+   * @param keyMapper Key mapper, called with the item and it's index, null to use the items themselves
+   * @param descending Whether to place the biggest key first
+   * @return New list of the sorted items
+   */
+  protected List<Object> sortItems(
+    IEvaluationEnvironment environment,
+    Iterable<?> items,
+    @Nullable AExpressionFunction keyMapper,
+    boolean descending
+  ) {
+    List<KeyedItem> keyedItems = extractKeys(environment, items, keyMapper);
+    keyedItems.sort(keyOrder(environment.getValueInterpreter(), descending));
+
+    List<Object> result = new ArrayList<>(keyedItems.size());
+
+    for (KeyedItem keyedItem : keyedItems)
+      result.add(keyedItem.item);
+
+    return result;
+  }
+
+  /**
+   * Orders keyed items by their keys, where items without a key are always placed last
+   * @param valueInterpreter Interpreter to compare keys with
+   * @param descending Whether to place the biggest key first
+   * @return Comparator of keyed items
+   */
+  protected Comparator<KeyedItem> keyOrder(IValueInterpreter valueInterpreter, boolean descending) {
+    return (a, b) -> {
+      if (a.key == null || b.key == null)
+        return a.key == null ? (b.key == null ? 0 : 1) : -1;
+
+      int result = valueInterpreter.compare(a.key, b.key);
+      return descending ? -result : result;
+    };
+  }
+
+  /**
+   * An item of a collection, paired with the key which has been extracted from it
+   */
+  protected static class KeyedItem {
+
+    protected final @Nullable Object item;
+    protected final @Nullable Object key;
+
+    protected KeyedItem(@Nullable Object item, @Nullable Object key) {
+      this.item = item;
+      this.key = key;
+    }
+  }
+}
@@ -26,6 +26,7 @@ package me.blvckbytes.gpeee.functions.std;
 
 import me.blvckbytes.gpeee.functions.AExpressionFunction;
 import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class AStandardFunction extends AExpressionFunction {
 
@@ -38,4 +39,31 @@ public abstract class AStandardFunction extends AExpressionFunction {
    */
   public abstract boolean returnsPrimaryResult();
 
+  /**
+   * Called by the optimizer for every argument which is constant, in order to prepare an expensive
+   * representation of it ahead of time - like a compiled pattern - which is then passed in place
+   * of the argument's value on every invocation and thus has to be accepted by the argument.
+   * @param index Index of the argument
+   * @param value Constant value of the argument
+   * @return Value to pass instead, null to keep passing the argument's value
+   */
+  public @Nullable Object precompileArgument(int index, @Nullable Object value) {
+    return null;
+  }
+
+  /**
+   * Whether functions of the evaluation- or interpretation environment which share this function's
+   * name take precedence over it. This applies to functions which have been added to the standard
+   * library later on, in order not to break environments which already use their names.
+   */
+  public boolean isShadowable() {
+    return false;
+  }
+
+  @Override
+  public boolean isPure() {
+    // Standard functions solely operate on their arguments, unless stated otherwise
+    return true;
+  }
+
 }
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.functions.std;
+
+import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
+import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Average - avg
+ *
+ * Returns the arithmetic mean of all items or of their mapped values, skipping null
+ * values, or null if there are no values at all
+ */
+public class AvgFunction extends ACollectionFunction {
+
+  @Override
+  public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+    Iterable<?> items = nonNull(args, 0);
+    @Nullable AExpressionFunction mapper = nullable(args, 1);
+
+    NumericAccumulator accumulator = new NumericAccumulator(environment.getValueInterpreter());
+
+    int index = 0;
+    for (Object item : items)
+      accumulator.add(extractKey(environment, mapper, item, index++));
+
+    return accumulator.getAverage();
+  }
+
+  @Override
+  public @Nullable List<ExpressionFunctionArgument> getArguments() {
+    // avg(items, (it, ind) => (..))
+    return Arrays.asList(
+      new ExpressionFunctionArgument("items",  "Items to average",                          true,  Iterable.class),
+      new ExpressionFunctionArgument("mapper", "Mapper of an item to the value to average", false, AExpressionFunction.class)
+    );
+  }
+
+  @Override
+  public void registerSelf(IStandardFunctionRegistry registry) {
+    registry.register("avg", this);
+  }
+
+  @Override
+  public boolean returnsPrimaryResult() {
+    return true;
+  }
+
+  @Override
+  public boolean isShadowable() {
+    return true;
+  }
+}
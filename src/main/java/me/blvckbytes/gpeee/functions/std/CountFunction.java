@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.functions.std;
+
+import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
+import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.IValueInterpreter;
+import me.blvckbytes.gpeee.interpreter.LazySequence;
+import me.blvckbytes.gpeee.interpreter.LongRange;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Count - count
+ *
+ * Returns the number of items, or of items which pass the predicate
+ */
+public class CountFunction extends AStandardFunction {
+
+  @Override
+  public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+    Iterable<?> items = nonNull(args, 0);
+    @Nullable AExpressionFunction predicate = nullable(args, 1);
+
+    if (predicate == null) {
+      if (items instanceof LongRange)
+        return ((LongRange) items).getLength();
+
+      // Lazy sequences are counted without keeping their items
+      if (items instanceof Collection && !(items instanceof LazySequence))
+        return (long) ((Collection<?>) items).size();
+    }
+
+    IValueInterpreter valueInterpreter = environment.getValueInterpreter();
+    long count = 0;
+
+    int index = 0;
+    for (Object item : items) {
+      if (predicate == null || valueInterpreter.asBoolean(predicate.apply(environment, Arrays.asList(item, index))))
+        ++count;
+
+      ++index;
+    }
+
+    return count;
+  }
+
+  @Override
+  public @Nullable List<ExpressionFunctionArgument> getArguments() {
+    // count(items, (it, ind) => (..))
+    return Arrays.asList(
+      new ExpressionFunctionArgument("items",     "Items to count",                         true,  Iterable.class),
+      new ExpressionFunctionArgument("predicate", "Predicate an item has to pass to count", false, AExpressionFunction.class)
+    );
+  }
+
+  @Override
+  public void registerSelf(IStandardFunctionRegistry registry) {
+    registry.register("count", this);
+  }
+
+  @Override
+  public boolean returnsPrimaryResult() {
+    return true;
+  }
+
+  @Override
+  public boolean isShadowable() {
+    return true;
+  }
+}
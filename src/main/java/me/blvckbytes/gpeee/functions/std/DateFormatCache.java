@@ -0,0 +1,352 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.functions.std;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded, thread-safe cache of date formatters and time-zones which is shared among all
+ * standard functions, evicting the least recently used entry as soon as it's full
+ */
+public final class DateFormatCache {
+
+  public static final DateFormatCache SHARED = new DateFormatCache(256);
+
+  private final Map<String, CompiledFormat> formats;
+  private final Map<String, ZoneId> zones;
+
+  public DateFormatCache(int capacity) {
+    this.formats = createLeastRecentlyUsedMap(capacity);
+    this.zones = createLeastRecentlyUsedMap(capacity);
+  }
+
+  /**
+   * Get the compiled format of a pattern, compiling it on first use
+   * @param pattern Pattern to compile
+   * @return Compiled format
+   * @throws IllegalArgumentException The pattern is malformed
+   */
+  public CompiledFormat getFormat(String pattern) {
+    synchronized (formats) {
+      CompiledFormat format = formats.get(pattern);
+      if (format != null)
+        return format;
+    }
+
+    CompiledFormat format = new CompiledFormat(pattern);
+
+    synchronized (formats) {
+      formats.put(pattern, format);
+    }
+
+    return format;
+  }
+
+  /**
+   * Get the zone of an id, resolving it on first use
+   * @param id Id of the zone
+   * @return Resolved zone
+   * @throws DateTimeException The id is malformed or unknown
+   */
+  public ZoneId getZone(String id) {
+    synchronized (zones) {
+      ZoneId zone = zones.get(id);
+      if (zone != null)
+        return zone;
+    }
+
+    ZoneId zone = ZoneId.of(id);
+
+    synchronized (zones) {
+      zones.put(id, zone);
+    }
+
+    return zone;
+  }
+
+  /**
+   * Resolves the value of a format argument, which either is a pattern or
+   * has already been compiled by {@link #precompileFormat} ahead of time
+   * @throws IllegalArgumentException The pattern is malformed
+   */
+  public CompiledFormat resolveFormat(Object value) {
+    if (value instanceof CompiledFormat)
+      return (CompiledFormat) value;
+    return getFormat((String) value);
+  }
+
+  /**
+   * Resolves the value of a zone argument, which either is an id or
+   * has already been resolved by {@link #precompileZone} ahead of time
+   * @throws DateTimeException The id is malformed or unknown
+   */
+  public ZoneId resolveZone(Object value) {
+    if (value instanceof ZoneId)
+      return (ZoneId) value;
+    return getZone((String) value);
+  }
+
+  public int size() {
+    synchronized (formats) {
+      return formats.size();
+    }
+  }
+
+  /**
+   * Compiles the constant value of a format argument ahead of time
+   * @param value Constant value of the argument
+   * @return Compiled format, null if the value is not a valid pattern, leaving the error up to the invocation
+   */
+  public static @Nullable CompiledFormat precompileFormat(@Nullable Object value) {
+    if (!(value instanceof String))
+      return null;
+
+    try {
+      return new CompiledFormat((String) value);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Resolves the constant value of a zone argument ahead of time
+   * @param value Constant value of the argument
+   * @return Resolved zone, null if the value is not a valid id, leaving the error up to the invocation
+   */
+  public static @Nullable ZoneId precompileZone(@Nullable Object value) {
+    if (!(value instanceof String))
+      return null;
+
+    try {
+      return ZoneId.of((String) value);
+    } catch (DateTimeException e) {
+      return null;
+    }
+  }
+
+  private static <T> Map<String, T> createLeastRecentlyUsedMap(int capacity) {
+    return new LinkedHashMap<String, T>(16, .75F, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * Immutable formatter of a pattern, which keeps a copy of itself per zone it has been used with.
+   * Patterns keep the meaning they have for {@link java.text.SimpleDateFormat}, where letters like
+   * u (day number of week), S (milliseconds) and F (day of week in month) as well as the characters
+   * [, ], #, { and } differ from the pattern syntax of {@link DateTimeFormatter}.
+   */
+  public static final class CompiledFormat {
+
+    // Formats are only ever used with a handful of zones, anything beyond is not worth keeping
+    private static final int MAX_ZONES = 16;
+
+    // Numeric fields, which are zero-padded to the number of pattern letters
+    private static final Map<Character, ChronoField> NUMERIC_FIELDS = new HashMap<>();
+
+    static {
+      NUMERIC_FIELDS.put('D', ChronoField.DAY_OF_YEAR);
+      NUMERIC_FIELDS.put('d', ChronoField.DAY_OF_MONTH);
+      NUMERIC_FIELDS.put('F', ChronoField.ALIGNED_WEEK_OF_MONTH);
+      NUMERIC_FIELDS.put('u', ChronoField.DAY_OF_WEEK);
+      NUMERIC_FIELDS.put('H', ChronoField.HOUR_OF_DAY);
+      NUMERIC_FIELDS.put('k', ChronoField.CLOCK_HOUR_OF_DAY);
+      NUMERIC_FIELDS.put('K', ChronoField.HOUR_OF_AMPM);
+      NUMERIC_FIELDS.put('h', ChronoField.CLOCK_HOUR_OF_AMPM);
+      NUMERIC_FIELDS.put('m', ChronoField.MINUTE_OF_HOUR);
+      NUMERIC_FIELDS.put('s', ChronoField.SECOND_OF_MINUTE);
+      NUMERIC_FIELDS.put('S', ChronoField.MILLI_OF_SECOND);
+    }
+
+    private final String pattern;
+    private final DateTimeFormatter formatter;
+    private final Map<ZoneId, DateTimeFormatter> formatterByZone;
+
+    private CompiledFormat(String pattern) {
+      this.pattern = pattern;
+      this.formatter = translateLegacyPattern(pattern);
+      this.formatterByZone = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get the formatter of this pattern which formats instants within the provided zone
+     * @param zone Zone to format in
+     * @return Thread-safe formatter
+     */
+    public DateTimeFormatter inZone(ZoneId zone) {
+      DateTimeFormatter zonedFormatter = formatterByZone.get(zone);
+
+      if (zonedFormatter != null)
+        return zonedFormatter;
+
+      zonedFormatter = formatter.withZone(zone);
+
+      if (formatterByZone.size() < MAX_ZONES)
+        formatterByZone.put(zone, zonedFormatter);
+
+      return zonedFormatter;
+    }
+
+    public String getPattern() {
+      return pattern;
+    }
+
+    /**
+     * Builds the formatter of a {@link java.text.SimpleDateFormat} pattern, which formats equally
+     * @param pattern Pattern to translate
+     * @return Formatter of the pattern
+     * @throws IllegalArgumentException The pattern is malformed
+     */
+    private static DateTimeFormatter translateLegacyPattern(String pattern) {
+      DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+
+      for (int i = 0; i < pattern.length();) {
+        char current = pattern.charAt(i);
+
+        // Quoted literal, where two consecutive quotes represent a quote
+        if (current == '\'') {
+          StringBuilder literal = new StringBuilder();
+          int end = i + 1;
+
+          while (true) {
+            if (end >= pattern.length())
+              throw new IllegalArgumentException("Unterminated quote");
+
+            if (pattern.charAt(end) == '\'') {
+              if (end + 1 < pattern.length() && pattern.charAt(end + 1) == '\'') {
+                literal.append('\'');
+                end += 2;
+                continue;
+              }
+
+              break;
+            }
+
+            literal.append(pattern.charAt(end++));
+          }
+
+          // An empty quote is a quote itself
+          builder.appendLiteral(end == i + 1 ? "'" : literal.toString());
+          i = end + 1;
+          continue;
+        }
+
+        // All other characters than letters are literals, including those reserved by java.time
+        if (!(current >= 'a' && current <= 'z' || current >= 'A' && current <= 'Z')) {
+          builder.appendLiteral(current);
+          ++i;
+          continue;
+        }
+
+        int count = 1;
+        while (i + count < pattern.length() && pattern.charAt(i + count) == current)
+          ++count;
+
+        i += count;
+
+        ChronoField numericField = NUMERIC_FIELDS.get(current);
+
+        if (numericField != null) {
+          builder.appendValue(numericField, Math.min(count, 19), 19, SignStyle.NOT_NEGATIVE);
+          continue;
+        }
+
+        switch (current) {
+          // Years are reduced to two digits for two letters in both syntaxes
+          case 'y':
+          case 'Y':
+            builder.appendPattern(repeat(current, count));
+            break;
+
+          // Four or more letters denote the full text, where java.time would use narrow text at five
+          case 'G':
+          case 'E':
+          case 'z':
+            builder.appendPattern(repeat(current, count >= 4 ? 4 : 1));
+            break;
+
+          case 'M':
+          case 'L':
+            builder.appendPattern(repeat(current, Math.min(count, 4)));
+            break;
+
+          case 'w':
+            builder.appendPattern(repeat(current, Math.min(count, 2)));
+            break;
+
+          case 'W':
+          case 'a':
+            builder.appendPattern(String.valueOf(current));
+            break;
+
+          // RFC 822 offset for any number of letters
+          case 'Z':
+            builder.appendPattern("Z");
+            break;
+
+          case 'X':
+            if (count > 3)
+              throw new IllegalArgumentException("Invalid ISO 8601 format: length=" + count);
+
+            builder.appendPattern(repeat(current, count));
+            break;
+
+          default:
+            throw new IllegalArgumentException("Illegal pattern character '" + current + "'");
+        }
+      }
+
+      return builder.toFormatter();
+    }
+
+    private static String repeat(char value, int count) {
+      StringBuilder result = new StringBuilder(count);
+
+      for (int i = 0; i < count; i++)
+        result.append(value);
+
+      return result.toString();
+    }
+
+    @Override
+    public String toString() {
+      return pattern;
+    }
+  }
+}
@@ -30,9 +30,11 @@ import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
 import org.jetbrains.annotations.Nullable;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
 import java.util.*;
 
 /**
@@ -42,72 +44,65 @@ import java.util.*;
  */
 public class DateFormatFunction extends AStandardFunction {
 
-  private final Map<String, Map<TimeZone, DateFormat>> dateFormatByStringFormatAndZone;
-
-  public DateFormatFunction() {
-    this.dateFormatByStringFormatAndZone = new HashMap<>();
-  }
-
   @Override
   public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
     Object date = nonNull(args, 0);
     String type = nonNull(args, 1);
-    String formatString = nonNull(args, 2);
-    String timeZone = nullableWithFallback(args, 3, "UTC");
+    Object format = nonNull(args, 2);
+    Object timeZone = nullableWithFallback(args, 3, "UTC");
 
-    TimeZone formatTimeZone;
+    ZoneId zone;
     try {
-      ZoneId timeZoneId = ZoneId.of(timeZone);
-      formatTimeZone = TimeZone.getTimeZone(timeZoneId);
+      zone = DateFormatCache.SHARED.resolveZone(timeZone);
     } catch (Exception e) {
       return new FunctionInvocationError(3, "Invalid timezone provided");
     }
 
-    DateFormat format;
+    DateTimeFormatter formatter;
     try {
-      format = getDateFormat(formatString, formatTimeZone);
+      formatter = DateFormatCache.SHARED.resolveFormat(format).inZone(zone);
     } catch (Exception e) {
       return new FunctionInvocationError(2, "Malformed date format");
     }
 
-    type = type.toLowerCase(Locale.ROOT);
+    TemporalAccessor temporal;
 
-    if (type.equals("date")) {
-      if (!(date instanceof Date))
-        return new FunctionInvocationError(0, "Not an instance of Date");
-
-      return format.format((Date) date);
+    if (type.equalsIgnoreCase("date")) {
+      if (date instanceof Date)
+        temporal = Instant.ofEpochMilli(((Date) date).getTime());
+      else if (date instanceof TemporalAccessor)
+        temporal = (TemporalAccessor) date;
+      else
+        return new FunctionInvocationError(0, "Not an instance of Date or TemporalAccessor");
     }
 
-    boolean isMillis = type.equals("millis");
-    if (type.equals("seconds") || isMillis) {
+    else if (type.equalsIgnoreCase("seconds") || type.equalsIgnoreCase("millis")) {
       if (!(date instanceof Number))
         return new FunctionInvocationError(0, "Not an instance of Number");
 
       long stamp = ((Number) date).longValue();
+      temporal = type.equalsIgnoreCase("millis") ? Instant.ofEpochMilli(stamp) : Instant.ofEpochSecond(stamp);
+    }
 
-      if (!isMillis)
-        stamp *= 1000;
+    else
+      return new FunctionInvocationError(1, "Invalid date type provided");
 
-      return format.format(new Date(stamp));
+    try {
+      return formatter.format(temporal);
+    } catch (DateTimeException e) {
+      return new FunctionInvocationError(2, "Date format requires fields the date doesn't have");
     }
-
-    return new FunctionInvocationError(1, "Invalid date type provided");
   }
 
-  private DateFormat getDateFormat(String format, TimeZone zone) {
-    Map<TimeZone, DateFormat> dateFormatByZone = this.dateFormatByStringFormatAndZone.computeIfAbsent(format, key -> new HashMap<>());
-
-    DateFormat dateFormat = dateFormatByZone.get(zone);
-
-    if (dateFormat != null)
-      return dateFormat;
+  @Override
+  public @Nullable Object precompileArgument(int index, @Nullable Object value) {
+    if (index == 2)
+      return DateFormatCache.precompileFormat(value);
 
-    dateFormat = new SimpleDateFormat(format);
-    dateFormat.setTimeZone(zone);
-    dateFormatByZone.put(zone, dateFormat);
+    if (index == 3)
+      return DateFormatCache.precompileZone(value);
 
-    return dateFormat;
+    return null;
   }
 
   @Override
@@ -115,8 +110,8 @@ public class DateFormatFunction extends AStandardFunction {
     return Arrays.asList(
       new ExpressionFunctionArgument("date",     "Input date to format",                                     true),
       new ExpressionFunctionArgument("type",     "Type of date provided (seconds, millis, date)",            true,  String.class),
-      new ExpressionFunctionArgument("format",   "Date format to apply",                                     true,  String.class),
-      new ExpressionFunctionArgument("timezone", "Timezone to use, defaults to UTC",                         false, String.class)
+      new ExpressionFunctionArgument("format",   "Date format to apply",                                     true,  DateFormatCache.CompiledFormat.class, String.class),
+      new ExpressionFunctionArgument("timezone", "Timezone to use, defaults to UTC",                         false, ZoneId.class, String.class)
     );
   }
 
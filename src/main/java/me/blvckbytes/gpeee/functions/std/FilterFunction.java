@@ -28,9 +28,9 @@ import me.blvckbytes.gpeee.functions.AExpressionFunction;
 import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
 import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.LazySequence;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -39,6 +39,7 @@ import java.util.List;
  *
  * Filters a collection of items by running each through a callback expression
  * which will map it to a boolean value and then collects passing items in the resulting collection.
+ * Items are filtered lazily, while the resulting sequence is being consumed.
  */
 public class FilterFunction extends AStandardFunction {
 
@@ -48,20 +49,10 @@ public class FilterFunction extends AStandardFunction {
     Iterable<?> items = nonNull(args, 0);
     AExpressionFunction mapper = nonNull(args, 1);
 
-    List<Object> result = new ArrayList<>();
-
-    // Loop all items with their indices
-    int c = 0;
-    for (Object item : items) {
-      Object mapperResult = mapper.apply(env, Arrays.asList(item, c++));
-
-      if (!env.getValueInterpreter().asBoolean(mapperResult))
-        continue;
-
-      result.add(item);
-    }
-
-    return result;
+    // Chains onto an already lazy input to fuse both stages into a single pass
+    return LazySequence.filter(items, (item, index) -> env.getValueInterpreter().asBoolean(
+      mapper.apply(env, Arrays.asList(item, index))
+    ));
   }
 
   @Override
@@ -80,6 +71,6 @@ public class FilterFunction extends AStandardFunction {
 
   @Override
   public boolean returnsPrimaryResult() {
-    return true;
+    return false;
   }
 }
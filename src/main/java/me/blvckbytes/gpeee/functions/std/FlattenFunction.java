@@ -27,44 +27,22 @@ package me.blvckbytes.gpeee.functions.std;
 import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
 import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.LazySequence;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
 /**
  * Flatten collections - flatten
  *
  * Returns a list containing all parameters provided, where collection items are flattened into the result.
+ * Items are flattened lazily, while the resulting sequence is being consumed.
  */
 public class FlattenFunction extends AStandardFunction {
 
   @Override
   public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
-    List<Object> result = new ArrayList<>();
-
-    for (Object arg : args) {
-      if (!(arg instanceof Collection)) {
-        result.add(arg);
-        continue;
-      }
-
-      flattenRecursively((Collection<?>) arg, result);
-    }
-
-    return result;
-  }
-
-  private void flattenRecursively(Collection<?> collection, List<Object> result) {
-    for (Object item : collection) {
-      if (!(item instanceof Collection)) {
-        result.add(item);
-        continue;
-      }
-
-      flattenRecursively((Collection<?>) item, result);
-    }
+    return LazySequence.flatten(args);
   }
 
   @Override
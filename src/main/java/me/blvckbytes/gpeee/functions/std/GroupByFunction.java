@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.functions.std;
+
+import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
+import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.IValueInterpreter;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Group by - group_by
+ *
+ * Returns a map of each key to the list of items (or of their mapped values) which share
+ * that key, where both keys and items keep the order in which they were encountered. Keys
+ * are stringified, just like the keys used for indexing maps, so that groups can be looked
+ * up by any key which stringifies equally.
+ */
+public class GroupByFunction extends ACollectionFunction {
+
+  @Override
+  public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+    Iterable<?> items = nonNull(args, 0);
+    AExpressionFunction keyMapper = nonNull(args, 1);
+    @Nullable AExpressionFunction valueMapper = nullable(args, 2);
+
+    IValueInterpreter valueInterpreter = environment.getValueInterpreter();
+    Map<String, List<Object>> result = new LinkedHashMap<>();
+
+    int index = 0;
+    for (Object item : items) {
+      String key = valueInterpreter.asString(extractKey(environment, keyMapper, item, index));
+      Object value = extractKey(environment, valueMapper, item, index);
+      result.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+      ++index;
+    }
+
+    return result;
+  }
+
+  @Override
+  public @Nullable List<ExpressionFunctionArgument> getArguments() {
+    // group_by(items, (it, ind) => (..), (it, ind) => (..))
+    return Arrays.asList(
+      new ExpressionFunctionArgument("items", "Items to group",                            true,  Iterable.class),
+      new ExpressionFunctionArgument("key",   "Mapper of an item to the key to group by",  true,  AExpressionFunction.class),
+      new ExpressionFunctionArgument("value", "Mapper of an item to the value to collect", false, AExpressionFunction.class)
+    );
+  }
+
+  @Override
+  public void registerSelf(IStandardFunctionRegistry registry) {
+    registry.register("group_by", this);
+  }
+
+  @Override
+  public boolean returnsPrimaryResult() {
+    return false;
+  }
+
+  @Override
+  public boolean isShadowable() {
+    return true;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.functions.std;
+
+import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
+import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
+import me.blvckbytes.gpeee.interpreter.HashIndex;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Index by - index_by
+ *
+ * Builds a hash index of all items by their keys, which answers repeated point lookups
+ * through lookup in constant time. See {@link HashIndex} for how keys are matched and
+ * which items are kept.
+ */
+public class IndexByFunction extends ACollectionFunction {
+
+  @Override
+  public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+    Iterable<?> items = nonNull(args, 0);
+    AExpressionFunction keyMapper = nonNull(args, 1);
+
+    HashIndex result = new HashIndex(expectedSize(items, 16));
+
+    int index = 0;
+    for (Object item : items) {
+      result.add(extractKey(environment, keyMapper, item, index), item);
+      ++index;
+    }
+
+    return result;
+  }
+
+  @Override
+  public @Nullable List<ExpressionFunctionArgument> getArguments() {
+    // index_by(items, (it, ind) => (..))
+    return Arrays.asList(
+      new ExpressionFunctionArgument("items", "Items to index",                              true,  Iterable.class),
+      new ExpressionFunctionArgument("key",   "Mapper of an item to the key to index it by", true,  AExpressionFunction.class)
+    );
+  }
+
+  @Override
+  public void registerSelf(IStandardFunctionRegistry registry) {
+    registry.register("index_by", this);
+  }
+
+  @Override
+  public boolean returnsPrimaryResult() {
+    return false;
+  }
+
+  @Override
+  public boolean isShadowable() {
+    return true;
+  }
+}
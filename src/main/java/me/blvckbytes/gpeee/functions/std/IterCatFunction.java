@@ -24,12 +24,16 @@
 
 package me.blvckbytes.gpeee.functions.std;
 
+import me.blvckbytes.gpeee.error.FunctionInvocationError;
 import me.blvckbytes.gpeee.functions.AExpressionFunction;
 import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
 import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
+import me.blvckbytes.gpeee.functions.IStreamingFunction;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -41,32 +45,52 @@ import java.util.List;
  * which will format it to a string value and then joins them all with the provided
  * separator. If there are no items, the fallback will be returned only.
  */
-public class IterCatFunction extends AStandardFunction {
+public class IterCatFunction extends AStandardFunction implements IStreamingFunction {
 
   @Override
   public Object apply(IEvaluationEnvironment env, List<@Nullable Object> args) {
+    StringBuilder result = new StringBuilder();
+
+    try {
+      applyInto(env, args, result);
+    } catch (IOException e) {
+      // Cannot occur when appending to a string builder
+      throw new UncheckedIOException(e);
+    }
+
+    // Respond with the built-up result
+    return result.toString();
+  }
+
+  @Override
+  public @Nullable FunctionInvocationError applyInto(IEvaluationEnvironment env, List<@Nullable Object> args, Appendable output) throws IOException {
     // Retrieve arguments
     Collection<?> items = nonNull(args, 0);
     AExpressionFunction mapper = nonNull(args, 1);
-    @Nullable String separator = nullableWithFallback(args, 2, ", ");
+    String separator = nullableWithFallback(args, 2, ", ");
     @Nullable String fallback = nullable(args, 3);
 
-    StringBuilder result = new StringBuilder();
+    // Separators are only written once there's some output
+    long length = 0;
 
     // Loop all items with their indices
     int c = 0;
     for (Object item : items) {
-      result.append(result.length() == 0 ? "" : separator).append(
-        mapper.apply(env, Arrays.asList(item, c++))
-      );
+      if (length > 0) {
+        output.append(separator);
+        length += separator.length();
+      }
+
+      String value = String.valueOf(mapper.apply(env, Arrays.asList(item, c++)));
+      output.append(value);
+      length += value.length();
     }
 
     // No items available but a fallback string has been supplied
-    if (items.size() == 0 && fallback != null)
-      return fallback;
+    if (c == 0 && fallback != null)
+      output.append(fallback);
 
-    // Respond with the built-up result
-    return result.toString();
+    return null;
   }
 
   @Override
@@ -27,6 +27,7 @@ package me.blvckbytes.gpeee.functions.std;
 import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
 import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.LongRange;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Array;
@@ -49,6 +50,11 @@ public class LenFunction extends AStandardFunction {
     if (input instanceof String)
       return ((String) input).length();
 
+    // Ranges may span more items than a collection's size can express
+    if (input instanceof LongRange)
+      return ((LongRange) input).getLength();
+
+    // Lazy sequences are counted without keeping their items
     if (input instanceof Collection<?>)
       return ((Collection<?>) input).size();
 
@@ -28,9 +28,9 @@ import me.blvckbytes.gpeee.functions.AExpressionFunction;
 import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
 import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.LazySequence;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -39,6 +39,7 @@ import java.util.List;
  *
  * Maps a collection of items by running each through a callback expression
  * which will map it to another value and then collects them in the resulting collection.
+ * Items are mapped lazily, while the resulting sequence is being consumed.
  */
 public class MapFunction extends AStandardFunction {
 
@@ -49,15 +50,11 @@ public class MapFunction extends AStandardFunction {
     AExpressionFunction mapper = nonNull(args, 1);
     Object fallback = nullable(args, 2);
 
-    List<Object> result = new ArrayList<>();
+    // Chains onto an already lazy input to fuse both stages into a single pass
+    LazySequence result = LazySequence.map(items, (item, index) -> mapper.apply(env, Arrays.asList(item, index)));
 
-    // Loop all items with their indices
-    int c = 0;
-    for (Object item : items)
-      result.add(mapper.apply(env, Arrays.asList(item, c++)));
-
-    if (result.size() == 0 && fallback != null)
-      result.add(fallback);
+    if (fallback != null)
+      return result.withFallback(fallback);
 
     return result;
   }
@@ -79,6 +76,6 @@ public class MapFunction extends AStandardFunction {
 
   @Override
   public boolean returnsPrimaryResult() {
-    return true;
+    return false;
   }
 }
@@ -24,24 +24,32 @@
 
 package me.blvckbytes.gpeee.functions.std;
 
+import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
 import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
 import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.IValueInterpreter;
+import me.blvckbytes.gpeee.parser.expression.FunctionInvocationExpression;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Minimum - min
  *
- * Returns the smaller of two values
+ * Returns the smaller of two values or the smallest item of a single collection
  */
-public class MinFunction extends AStandardFunction {
+public class MinFunction extends ACollectionFunction {
 
   @Override
   public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
-    Object a = nonNull(args, 0), b = nonNull(args, 1);
+    Object a = nonNull(args, 0);
+    @Nullable Object b = nullable(args, 1);
+
+    if (b == null)
+      return findExtremeItem(environment, (Collection<?>) a, null, false);
 
     if (environment.getValueInterpreter().compare(a, b) >= 0)
       return b;
@@ -49,11 +57,20 @@ public class MinFunction extends AStandardFunction {
     return a;
   }
 
+  @Override
+  public void validateArguments(FunctionInvocationExpression expression, IValueInterpreter valueInterpreter, List<@Nullable Object> args) throws InvalidFunctionArgumentTypeError {
+    // A single collection is reduced to it's smallest item
+    if (args.size() >= 1 && args.get(0) instanceof Collection && (args.size() < 2 || args.get(1) == null))
+      return;
+
+    super.validateArguments(expression, valueInterpreter, args);
+  }
+
   @Override
   public @Nullable List<ExpressionFunctionArgument> getArguments() {
     return Arrays.asList(
       new ExpressionFunctionArgument("a", "Value A", true),
-      new ExpressionFunctionArgument("b", "Value B", true)
+      new ExpressionFunctionArgument("b", "Value B, omit to reduce a collection passed as A", true)
     );
   }
 
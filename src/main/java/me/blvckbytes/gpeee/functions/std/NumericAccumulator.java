@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.functions.std;
+
+import me.blvckbytes.gpeee.interpreter.IValueInterpreter;
+import me.blvckbytes.gpeee.parser.MathOperation;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sums up numbers in primitive accumulators, which start out as a long and are promoted to
+ * a double as soon as a decimal is added or the sum overflows. Interpreters which compute
+ * with arbitrary precision have each number added by their own math instead.
+ */
+class NumericAccumulator {
+
+  private final IValueInterpreter valueInterpreter;
+  private final boolean precise;
+
+  private long longSum;
+  private double doubleSum;
+  private boolean isDouble;
+  private Object preciseSum;
+  private long count;
+
+  NumericAccumulator(IValueInterpreter valueInterpreter) {
+    this.valueInterpreter = valueInterpreter;
+    this.precise = valueInterpreter.isArbitraryPrecision();
+    this.preciseSum = 0L;
+  }
+
+  /**
+   * Adds a number to the sum
+   * @param value Value to add, null values are skipped
+   */
+  void add(@Nullable Object value) {
+    if (value == null)
+      return;
+
+    ++count;
+
+    if (precise) {
+      preciseSum = valueInterpreter.performMath(preciseSum, value, MathOperation.ADDITION);
+      return;
+    }
+
+    if (!isDouble && !valueInterpreter.hasDecimalPoint(value)) {
+      long number = valueInterpreter.asLong(value);
+      long result = longSum + number;
+
+      // No overflow occurred, as the result's sign matches at least one of the operands
+      if (((longSum ^ result) & (number ^ result)) >= 0) {
+        longSum = result;
+        return;
+      }
+
+      isDouble = true;
+      doubleSum = (double) longSum + number;
+      return;
+    }
+
+    if (!isDouble) {
+      isDouble = true;
+      doubleSum = longSum;
+    }
+
+    doubleSum += valueInterpreter.asDouble(value);
+  }
+
+  /**
+   * Get the sum of all added numbers, zero if there were none
+   */
+  Object getSum() {
+    if (precise)
+      return preciseSum;
+
+    if (isDouble)
+      return doubleSum;
+
+    return longSum;
+  }
+
+  /**
+   * Get the arithmetic mean of all added numbers
+   * @return Mean, null if there were no numbers
+   */
+  @Nullable Object getAverage() {
+    if (count == 0)
+      return null;
+
+    if (precise)
+      return valueInterpreter.performMath(preciseSum, count, MathOperation.DIVISION);
+
+    if (isDouble)
+      return doubleSum / count;
+
+    return (double) longSum / count;
+  }
+
+  long getCount() {
+    return count;
+  }
+}
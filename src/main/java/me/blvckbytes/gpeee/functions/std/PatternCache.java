@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.functions.std;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Bounded, thread-safe cache of compiled patterns which is shared among all standard
+ * functions, evicting the least recently used pattern as soon as it's full
+ */
+public final class PatternCache {
+
+  public static final PatternCache SHARED = new PatternCache(256);
+
+  private static final String REGEX_METACHARACTERS = ".$|()[]{}^?*+\\";
+
+  private final Map<String, Pattern> patterns;
+
+  public PatternCache(int capacity) {
+    this.patterns = new LinkedHashMap<String, Pattern>(16, .75F, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * Get the compiled pattern of a regex, compiling it on first use
+   * @param regex Regex to compile
+   * @return Compiled pattern
+   * @throws PatternSyntaxException The regex is malformed
+   */
+  public Pattern get(String regex) {
+    synchronized (patterns) {
+      Pattern pattern = patterns.get(regex);
+      if (pattern != null)
+        return pattern;
+    }
+
+    // Compile outside of the lock, as patterns may take a while to compile
+    Pattern pattern = Pattern.compile(regex);
+
+    synchronized (patterns) {
+      patterns.put(regex, pattern);
+    }
+
+    return pattern;
+  }
+
+  /**
+   * Resolves the value of a pattern argument, which either is a regex or
+   * has already been compiled by {@link #precompile} ahead of time
+   * @throws PatternSyntaxException The regex is malformed
+   */
+  public Pattern resolve(Object value) {
+    if (value instanceof Pattern)
+      return (Pattern) value;
+    return get((String) value);
+  }
+
+  public int size() {
+    synchronized (patterns) {
+      return patterns.size();
+    }
+  }
+
+  /**
+   * Compiles the constant value of a pattern argument ahead of time
+   * @param value Constant value of the argument
+   * @return Compiled pattern, null if the value is not a valid regex, leaving the error up to the invocation
+   */
+  public static @Nullable Pattern precompile(@Nullable Object value) {
+    if (!(value instanceof String))
+      return null;
+
+    try {
+      return Pattern.compile((String) value);
+    } catch (PatternSyntaxException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Checks whether a regex only matches itself, so that it can be searched for without a pattern
+   * @param regex Regex to check
+   * @return True if the regex doesn't contain any metacharacters
+   */
+  public static boolean isLiteral(String regex) {
+    if (regex.isEmpty())
+      return false;
+
+    for (int i = 0; i < regex.length(); i++) {
+      if (REGEX_METACHARACTERS.indexOf(regex.charAt(i)) >= 0)
+        return false;
+    }
+
+    return true;
+  }
+}
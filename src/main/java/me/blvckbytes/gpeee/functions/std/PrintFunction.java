@@ -66,4 +66,10 @@ public class PrintFunction extends AStandardFunction {
   public boolean returnsPrimaryResult() {
     return false;
   }
+
+  @Override
+  public boolean isPure() {
+    // Printing is a side effect which has to happen on every evaluation
+    return false;
+  }
 }
@@ -27,28 +27,25 @@ package me.blvckbytes.gpeee.functions.std;
 import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
 import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.LongRange;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 /**
  * Range - range
  *
- * Returns a list containing all the numbers included in the range
+ * Returns a list containing all the numbers included in the range, which
+ * is only backed by it's bounds and thus costs constant memory
  */
 public class RangeFunction extends AStandardFunction {
 
   @Override
   public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
     long start = nonNull(args, 0), end = nonNull(args, 1);
-    List<Integer> result = new ArrayList<>();
 
-    for (long i = start; i <= end; i++)
-      result.add((int) i);
-
-    return result;
+    return new LongRange(start, end);
   }
 
   @Override
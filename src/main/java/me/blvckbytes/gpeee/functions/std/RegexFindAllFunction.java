@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.functions.std;
+
+import me.blvckbytes.gpeee.error.FunctionInvocationError;
+import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
+import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Find all matches of a regular expression - regex_find_all
+ *
+ * Returns a list of all matches of the pattern within the input, in order.
+ */
+public class RegexFindAllFunction extends AStandardFunction {
+
+  @Override
+  public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+    String input = nonNull(args, 0);
+
+    Matcher matcher;
+    try {
+      matcher = PatternCache.SHARED.resolve(nonNull(args, 1)).matcher(input);
+    } catch (PatternSyntaxException e) {
+      return new FunctionInvocationError(1, "Malformed pattern");
+    }
+
+    List<String> result = new ArrayList<>();
+
+    while (matcher.find())
+      result.add(matcher.group());
+
+    return result;
+  }
+
+  @Override
+  public @Nullable Object precompileArgument(int index, @Nullable Object value) {
+    return index == 1 ? PatternCache.precompile(value) : null;
+  }
+
+  @Override
+  public @Nullable List<ExpressionFunctionArgument> getArguments() {
+    return Arrays.asList(
+      new ExpressionFunctionArgument("input",   "Input string to search in", true, String.class),
+      new ExpressionFunctionArgument("pattern", "Regular expression to search for", true, Pattern.class, String.class)
+    );
+  }
+
+  @Override
+  public void registerSelf(IStandardFunctionRegistry registry) {
+    registry.register("regex_find_all", this);
+  }
+
+  @Override
+  public boolean returnsPrimaryResult() {
+    return false;
+  }
+
+  @Override
+  public boolean isShadowable() {
+    return true;
+  }
+}
@@ -24,6 +24,7 @@
 
 package me.blvckbytes.gpeee.functions.std;
 
+import me.blvckbytes.gpeee.error.FunctionInvocationError;
 import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
 import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
@@ -32,6 +33,8 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * Split a string by a delimiter - split
@@ -43,15 +46,60 @@ public class SplitFunction extends AStandardFunction {
   @Override
   public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
     String input = nonNull(args, 0);
-    String delimiter = nullableWithFallback(args, 1, ",");
-    return Arrays.asList(input.split(delimiter));
+    Object delimiter = nullableWithFallback(args, 1, ",");
+
+    // Delimiters without any metacharacters can be searched for directly
+    if (delimiter instanceof String && PatternCache.isLiteral((String) delimiter))
+      return splitLiteral(input, (String) delimiter);
+
+    try {
+      return Arrays.asList(PatternCache.SHARED.resolve(delimiter).split(input));
+    } catch (PatternSyntaxException e) {
+      return new FunctionInvocationError(1, "Malformed delimiter pattern");
+    }
+  }
+
+  /**
+   * Splits the input on every occurrence of a literal delimiter, with the same semantics as {@link String#split}
+   */
+  private List<String> splitLiteral(String input, String delimiter) {
+    int index = input.indexOf(delimiter);
+
+    // No occurrence, the input remains as is
+    if (index < 0)
+      return Arrays.asList(input);
+
+    List<String> result = new ArrayList<>();
+    int start = 0;
+
+    while (index >= 0) {
+      result.add(input.substring(start, index));
+      start = index + delimiter.length();
+      index = input.indexOf(delimiter, start);
+    }
+
+    result.add(input.substring(start));
+
+    // Trailing empty strings are not included
+    while (!result.isEmpty() && result.get(result.size() - 1).isEmpty())
+      result.remove(result.size() - 1);
+
+    return result;
+  }
+
+  @Override
+  public @Nullable Object precompileArgument(int index, @Nullable Object value) {
+    if (index != 1 || !(value instanceof String) || PatternCache.isLiteral((String) value))
+      return null;
+
+    return PatternCache.precompile(value);
   }
 
   @Override
   public @Nullable List<ExpressionFunctionArgument> getArguments() {
     return Arrays.asList(
       new ExpressionFunctionArgument("input",     "Input string to split", true, String.class),
-      new ExpressionFunctionArgument("delimiter", "Delimiter to split on, default ','", false, String.class)
+      new ExpressionFunctionArgument("delimiter", "Delimiter pattern to split on, default ','", false, Pattern.class, String.class)
     );
   }
 
@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.functions.std;
+
+import me.blvckbytes.gpeee.error.FunctionInvocationError;
+import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
+import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.LazySequence;
+import me.blvckbytes.gpeee.interpreter.LongRange;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Top k - top_k
+ *
+ * Returns a new list of the k items with the biggest keys, ordered from biggest to smallest,
+ * where the key is the item itself if no key mapper has been provided. Only the k best items
+ * seen so far are kept in a bounded heap, so that n items are ranked in O(n log k) without
+ * ever sorting the whole collection. Of items with equal keys, the first ones win, while items
+ * without a key are ranked below all others.
+ */
+public class TopKFunction extends ACollectionFunction {
+
+  @Override
+  public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+    Iterable<?> items = nonNull(args, 0);
+    long k = nonNull(args, 1);
+    @Nullable AExpressionFunction keyMapper = nullable(args, 2);
+
+    if (k < 0)
+      return new FunctionInvocationError(1, "The number of items cannot be negative");
+
+    if (k == 0)
+      return new ArrayList<>();
+
+    // Ranges are ordered, so their biggest items are known without visiting all of them
+    if (keyMapper == null && items instanceof LongRange)
+      return topOfRange((LongRange) items, k);
+
+    // Ranks in descending key order, where the earlier of two equal items is better
+    Comparator<KeyedItem> keyOrder = keyOrder(environment.getValueInterpreter(), true);
+    Comparator<RankedItem> rankOrder = (a, b) -> {
+      int result = keyOrder.compare(a, b);
+      return result != 0 ? result : Integer.compare(a.index, b.index);
+    };
+
+    int capacity = (int) Math.max(1, Math.min(k, expectedSize(items, 16)));
+
+    // Keep the worst of the currently best items at the head, to be evicted first
+    PriorityQueue<RankedItem> heap = new PriorityQueue<>(capacity, rankOrder.reversed());
+
+    int index = 0;
+    for (Object item : items) {
+      RankedItem rankedItem = new RankedItem(item, extractKey(environment, keyMapper, item, index), index);
+      ++index;
+
+      if (heap.size() < k) {
+        heap.add(rankedItem);
+        continue;
+      }
+
+      if (rankOrder.compare(rankedItem, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(rankedItem);
+      }
+    }
+
+    RankedItem[] rankedItems = heap.toArray(new RankedItem[0]);
+    Arrays.sort(rankedItems, rankOrder);
+
+    List<Object> result = new ArrayList<>(rankedItems.length);
+
+    for (RankedItem rankedItem : rankedItems)
+      result.add(rankedItem.item);
+
+    return result;
+  }
+
+  private List<Object> topOfRange(LongRange range, long k) {
+    long length = Math.min(k, range.getLength());
+
+    if (length == 0)
+      return new ArrayList<>();
+
+    // Counts down from the range's end lazily, as both k and the range may exceed what fits into a list
+    return LazySequence.map(new LongRange(0, length - 1), (offset, index) -> range.getLast() - (long) offset);
+  }
+
+  @Override
+  public @Nullable List<ExpressionFunctionArgument> getArguments() {
+    // top_k(items, k, (it, ind) => (..))
+    return Arrays.asList(
+      new ExpressionFunctionArgument("items", "Items to rank",                                             true,  Iterable.class),
+      new ExpressionFunctionArgument("k",     "Number of items to keep",                                   true,  Long.class),
+      new ExpressionFunctionArgument("key",   "Mapper of an item to the key to rank by, default the item", false, AExpressionFunction.class)
+    );
+  }
+
+  @Override
+  public void registerSelf(IStandardFunctionRegistry registry) {
+    registry.register("top_k", this);
+  }
+
+  @Override
+  public boolean returnsPrimaryResult() {
+    return false;
+  }
+
+  /**
+   * A keyed item which remembers it's position within the collection, to rank equal keys by
+   */
+  private static class RankedItem extends KeyedItem {
+
+    private final int index;
+
+    private RankedItem(@Nullable Object item, @Nullable Object key, int index) {
+      super(item, key);
+      this.index = index;
+    }
+  }
+
+  @Override
+  public boolean isShadowable() {
+    return true;
+  }
+}
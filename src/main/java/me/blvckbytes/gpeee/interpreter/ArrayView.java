@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.interpreter;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * A read-only list view onto a section of an array, which shares the array's storage instead
+ * of copying it. Primitive arrays are accessed by their concrete type, without reflection, and
+ * their items are only boxed on access.
+ */
+public final class ArrayView extends AbstractList<Object> implements RandomAccess {
+
+  private final Object array;
+  private final int offset, length;
+
+  /**
+   * Create a new view onto a section of an array
+   * @param array Array of any component type
+   * @param fromIndex First index of the section, inclusive
+   * @param toIndex Last index of the section, exclusive
+   * @throws IllegalArgumentException The value is not an array
+   * @throws IndexOutOfBoundsException The section is not within the array
+   */
+  public ArrayView(Object array, int fromIndex, int toIndex) {
+    int arrayLength = length(array);
+
+    if (fromIndex < 0 || toIndex > arrayLength || fromIndex > toIndex)
+      throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Length: " + arrayLength);
+
+    this.array = array;
+    this.offset = fromIndex;
+    this.length = toIndex - fromIndex;
+  }
+
+  @Override
+  public Object get(int index) {
+    if (index < 0 || index >= length)
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+
+    return get(array, offset + index);
+  }
+
+  @Override
+  public int size() {
+    return length;
+  }
+
+  @Override
+  public ArrayView subList(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || toIndex > length || fromIndex > toIndex)
+      throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + length);
+
+    return new ArrayView(array, offset + fromIndex, offset + toIndex);
+  }
+
+  /**
+   * Get the length of an array of any component type
+   * @param array Array to get the length of
+   * @throws IllegalArgumentException The value is not an array
+   */
+  public static int length(Object array) {
+    if (array instanceof Object[])  return ((Object[]) array).length;
+    if (array instanceof int[])     return ((int[]) array).length;
+    if (array instanceof long[])    return ((long[]) array).length;
+    if (array instanceof double[])  return ((double[]) array).length;
+    if (array instanceof float[])   return ((float[]) array).length;
+    if (array instanceof byte[])    return ((byte[]) array).length;
+    if (array instanceof short[])   return ((short[]) array).length;
+    if (array instanceof char[])    return ((char[]) array).length;
+    if (array instanceof boolean[]) return ((boolean[]) array).length;
+    throw new IllegalArgumentException("Not an array: " + array.getClass());
+  }
+
+  /**
+   * Get the item at a given index of an array of any component type, where primitives are boxed
+   * @param array Array to access
+   * @param index Index of the item
+   * @throws IllegalArgumentException The value is not an array
+   * @throws ArrayIndexOutOfBoundsException The index is not within the array
+   */
+  public static Object get(Object array, int index) {
+    if (array instanceof Object[])  return ((Object[]) array)[index];
+    if (array instanceof int[])     return ((int[]) array)[index];
+    if (array instanceof long[])    return ((long[]) array)[index];
+    if (array instanceof double[])  return ((double[]) array)[index];
+    if (array instanceof float[])   return ((float[]) array)[index];
+    if (array instanceof byte[])    return ((byte[]) array)[index];
+    if (array instanceof short[])   return ((short[]) array)[index];
+    if (array instanceof char[])    return ((char[]) array)[index];
+    if (array instanceof boolean[]) return ((boolean[]) array)[index];
+    throw new IllegalArgumentException("Not an array: " + array.getClass());
+  }
+}
@@ -0,0 +1,325 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.interpreter;
+
+import me.blvckbytes.gpeee.functions.AAsyncExpressionFunction;
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+import me.blvckbytes.gpeee.parser.expression.FunctionInvocationExpression;
+import me.blvckbytes.gpeee.parser.expression.IdentifierExpression;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * State of a single asynchronous evaluation, which is made up of as many synchronous passes as
+ * there are levels of asynchronous inputs depending on each other. Whenever a pass reaches an
+ * input which is not yet available, it requests that input, carries on with a pending placeholder
+ * in it's place and thereby requests all other independent inputs within the same pass. Once all
+ * requested inputs are available, the next pass is scheduled. Passes never overlap.
+ *
+ * Functions are never invoked with pending values, and invocations of impure functions as well as
+ * reads of live variables are recorded, so that the next pass reuses their results instead of
+ * repeating their side effects, as long as it calls them in the same order with the same arguments.
+ */
+class AsyncEvaluation {
+
+  /**
+   * Placeholder of values which are still being computed within the current pass
+   */
+  static final Object PENDING = new Object() {
+    @Override
+    public String toString() {
+      return "<pending>";
+    }
+  };
+
+  private final Interpreter interpreter;
+  private final AExpression expression;
+  private final IEvaluationEnvironment environment;
+  private final Executor executor;
+  private final CompletableFuture<Object> result;
+
+  private final Map<String, Object> resolvedVariables;
+  private final Map<FunctionInvocationExpression, Map<List<Object>, Object>> resolvedInvocations;
+  private final Map<AExpression, List<RecordedCall>> recordedCalls;
+
+  // State of the current pass
+  private final List<PendingInput> pendingInputs;
+  private final Set<Object> pendingKeys;
+  private final Map<AExpression, Integer> callPositions;
+  private long pendingValues;
+  private @Nullable InterpretationEnvironment previousPass;
+
+  AsyncEvaluation(Interpreter interpreter, AExpression expression, IEvaluationEnvironment environment, Executor executor) {
+    this.interpreter = interpreter;
+    this.expression = expression;
+    this.environment = environment;
+    this.executor = executor;
+    this.result = new CompletableFuture<>();
+
+    this.resolvedVariables = new HashMap<>();
+    this.resolvedInvocations = new IdentityHashMap<>();
+    this.recordedCalls = new IdentityHashMap<>();
+
+    this.pendingInputs = new ArrayList<>();
+    this.pendingKeys = new HashSet<>();
+    this.callPositions = new IdentityHashMap<>();
+  }
+
+  /**
+   * Requests all referenced asynchronous live variables concurrently and
+   * schedules the first pass as soon as all of them are available
+   * @return Future of the expression's value
+   */
+  CompletableFuture<Object> start() {
+    Set<String> identifiers = new HashSet<>();
+
+    expression.visit(node -> {
+      if (node instanceof IdentifierExpression)
+        identifiers.add(((IdentifierExpression) node).getSymbol().toLowerCase(Locale.ROOT));
+    });
+
+    try {
+      for (Map.Entry<String, Supplier<? extends CompletableFuture<?>>> entry : environment.getAsyncLiveVariables().entrySet()) {
+        String symbol = entry.getKey();
+
+        if (identifiers.contains(symbol))
+          pendingInputs.add(new PendingInput(entry.getValue().get(), value -> resolvedVariables.put(symbol, value)));
+      }
+    } catch (Throwable error) {
+      result.completeExceptionally(error);
+      return result;
+    }
+
+    awaitPendingInputs();
+    return result;
+  }
+
+  /**
+   * Get the number of pending placeholders which have been handed out within the current pass,
+   * which - if it changed while computing a value - means that the value depends on them
+   */
+  long getPendingValues() {
+    return pendingValues;
+  }
+
+  /**
+   * Resolves an asynchronous live variable or requests it's value, if not yet available
+   * @param symbol Symbol of the variable
+   * @param valueSupplier Supplier of the variable's future
+   * @return Value of the variable, {@link #PENDING} if not yet available
+   */
+  @Nullable Object resolveVariable(String symbol, Supplier<? extends CompletableFuture<?>> valueSupplier) {
+    if (resolvedVariables.containsKey(symbol))
+      return resolvedVariables.get(symbol);
+
+    if (pendingKeys.add(symbol))
+      pendingInputs.add(new PendingInput(valueSupplier.get(), value -> resolvedVariables.put(symbol, value)));
+
+    ++pendingValues;
+    return PENDING;
+  }
+
+  /**
+   * Resolves an asynchronous function invocation by it's site and arguments or requests
+   * it's result, if not yet available
+   * @param invocation Invocation site
+   * @param function Function to invoke
+   * @param environment Environment of the invocation
+   * @param args Arguments of the invocation
+   * @return Result of the invocation, {@link #PENDING} if not yet available
+   */
+  @Nullable Object resolveInvocation(
+    FunctionInvocationExpression invocation,
+    AAsyncExpressionFunction function,
+    IEvaluationEnvironment environment,
+    List<@Nullable Object> args
+  ) {
+    Map<List<Object>, Object> results = resolvedInvocations.computeIfAbsent(invocation, k -> new HashMap<>());
+    List<Object> key = argumentsKey(args);
+
+    if (results.containsKey(key))
+      return results.get(key);
+
+    // Invocations of the same site with the same arguments are only requested once
+    if (pendingKeys.add(Arrays.asList(invocation, key)))
+      pendingInputs.add(new PendingInput(function.applyAsync(environment, args), value -> results.put(key, value)));
+
+    ++pendingValues;
+    return PENDING;
+  }
+
+  /**
+   * Performs a call which may have side effects, or reuses it's result if the previous pass
+   * has performed the same call at the same position of the call sequence of this site
+   * @param site Site of the call
+   * @param key Key of the call, made up of it's arguments
+   * @param call Call to perform
+   * @return Result of the call
+   */
+  @Nullable Object replayCall(AExpression site, Object key, Supplier<@Nullable Object> call) {
+    List<RecordedCall> calls = recordedCalls.computeIfAbsent(site, k -> new ArrayList<>());
+    int position = callPositions.merge(site, 1, Integer::sum) - 1;
+
+    if (position < calls.size()) {
+      RecordedCall recordedCall = calls.get(position);
+
+      if (recordedCall.isReplayable && recordedCall.key.equals(key))
+        return recordedCall.result;
+
+      // This pass diverged from the previous one, so all following calls are performed again
+      calls.subList(position, calls.size()).clear();
+    }
+
+    long pendingValuesBefore = pendingValues;
+    Object result = call.get();
+
+    // Results which depend on pending values have to be computed again
+    calls.add(new RecordedCall(key, result, pendingValues == pendingValuesBefore));
+    return result;
+  }
+
+  /**
+   * Creates the key of an argument list, where callbacks are identified by their
+   * expression and the variables they captured, as their instances differ on every pass
+   */
+  List<Object> argumentsKey(List<@Nullable Object> args) {
+    List<Object> key = new ArrayList<>(args.size());
+
+    for (Object arg : args)
+      key.add(arg instanceof Interpreter.CallbackFunction ? ((Interpreter.CallbackFunction) arg).getIdentity() : arg);
+
+    return key;
+  }
+
+  private void schedulePass() {
+    try {
+      executor.execute(this::evaluatePass);
+    } catch (Throwable error) {
+      result.completeExceptionally(error);
+    }
+  }
+
+  private void evaluatePass() {
+    pendingInputs.clear();
+    pendingKeys.clear();
+    callPositions.clear();
+    pendingValues = 0;
+
+    InterpretationEnvironment pass = new InterpretationEnvironment(null, this);
+
+    // Limits apply to the evaluation as a whole, not to each of it's passes
+    if (previousPass != null)
+      pass.continueLimitsOf(previousPass);
+
+    previousPass = pass;
+
+    Object value = null;
+    Throwable failure = null;
+
+    try {
+      value = interpreter.evaluateSession(expression, environment, pass);
+    } catch (Throwable error) {
+      failure = error;
+    }
+
+    // Values and errors of a pass which reached pending inputs may stem from placeholders and are discarded
+    if (!pendingInputs.isEmpty()) {
+      awaitPendingInputs();
+      return;
+    }
+
+    if (failure != null)
+      result.completeExceptionally(failure);
+    else
+      result.complete(value);
+  }
+
+  /**
+   * Waits for all inputs which have been requested by the current pass at once and
+   * schedules the next pass as soon as all of them are available
+   */
+  private void awaitPendingInputs() {
+    List<PendingInput> inputs = new ArrayList<>(pendingInputs);
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[inputs.size()];
+
+    for (int i = 0; i < futures.length; i++)
+      futures[i] = inputs.get(i).future;
+
+    CompletableFuture.allOf(futures).whenComplete((unused, error) -> {
+      if (error != null) {
+        result.completeExceptionally(unwrap(error));
+        return;
+      }
+
+      // All futures completed by now, joining doesn't block
+      for (PendingInput input : inputs)
+        input.resolution.accept(input.future.join());
+
+      schedulePass();
+    });
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    if (error instanceof CompletionException && error.getCause() != null)
+      return error.getCause();
+    return error;
+  }
+
+  /**
+   * An input which has been requested, along with how to remember it's value once available
+   */
+  private static class PendingInput {
+
+    final CompletableFuture<?> future;
+    final Consumer<@Nullable Object> resolution;
+
+    PendingInput(CompletableFuture<?> future, Consumer<@Nullable Object> resolution) {
+      this.future = future;
+      this.resolution = resolution;
+    }
+  }
+
+  /**
+   * A call which has been performed by a pass, along with it's result
+   */
+  private static class RecordedCall {
+
+    final Object key;
+    final @Nullable Object result;
+    final boolean isReplayable;
+
+    RecordedCall(Object key, @Nullable Object result, boolean isReplayable) {
+      this.key = key;
+      this.result = result;
+      this.isReplayable = isReplayable;
+    }
+  }
+}
@@ -5,7 +5,10 @@ import me.blvckbytes.gpeee.functions.AExpressionFunction;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 public class EvaluationEnvironmentBuilder {
@@ -13,18 +16,30 @@ public class EvaluationEnvironmentBuilder {
   private IValueInterpreter valueInterpreter;
   private final Map<String, Object> staticVariables;
   private final Map<String, Supplier<?>> liveVariables;
+  private final Map<String, Supplier<? extends CompletableFuture<?>>> asyncLiveVariables;
   private final Map<String, AExpressionFunction> functions;
+  private final Set<String> volatileLiveVariables;
+  private boolean liveVariableCaching;
+  private @Nullable EvaluationLimits evaluationLimits;
 
   private EvaluationEnvironmentBuilder(
     IValueInterpreter valueInterpreter,
     Map<String, Object> staticVariables,
     Map<String, Supplier<?>> liveVariables,
-    Map<String, AExpressionFunction> functions
+    Map<String, Supplier<? extends CompletableFuture<?>>> asyncLiveVariables,
+    Map<String, AExpressionFunction> functions,
+    Set<String> volatileLiveVariables,
+    boolean liveVariableCaching,
+    @Nullable EvaluationLimits evaluationLimits
   ) {
     this.valueInterpreter = valueInterpreter;
     this.staticVariables = staticVariables;
     this.liveVariables = liveVariables;
+    this.asyncLiveVariables = asyncLiveVariables;
     this.functions = functions;
+    this.volatileLiveVariables = volatileLiveVariables;
+    this.liveVariableCaching = liveVariableCaching;
+    this.evaluationLimits = evaluationLimits;
   }
 
   public EvaluationEnvironmentBuilder() {
@@ -32,7 +47,9 @@ public class EvaluationEnvironmentBuilder {
 
     this.staticVariables = new HashMap<>();
     this.liveVariables = new HashMap<>();
+    this.asyncLiveVariables = new HashMap<>();
     this.functions = new HashMap<>();
+    this.volatileLiveVariables = new HashSet<>();
   }
 
   public EvaluationEnvironmentBuilder withValueInterpreter(IValueInterpreter valueInterpreter) {
@@ -50,6 +67,39 @@ public class EvaluationEnvironmentBuilder {
     return this;
   }
 
+  /**
+   * Registers a live variable which is resolved asynchronously by the future of it's supplier
+   */
+  public EvaluationEnvironmentBuilder withAsyncLiveVariable(String identifier, Supplier<? extends CompletableFuture<?>> value) {
+    this.asyncLiveVariables.put(identifier, value);
+    return this;
+  }
+
+  /**
+   * Registers a live variable which is read fresh every time, even if live variable caching is enabled
+   */
+  public EvaluationEnvironmentBuilder withVolatileLiveVariable(String identifier, Supplier<?> value) {
+    this.liveVariables.put(identifier, value);
+    this.volatileLiveVariables.add(identifier);
+    return this;
+  }
+
+  /**
+   * Sets whether live variables are to be resolved at most once per evaluation session
+   */
+  public EvaluationEnvironmentBuilder withLiveVariableCaching(boolean enabled) {
+    this.liveVariableCaching = enabled;
+    return this;
+  }
+
+  /**
+   * Sets the limits each evaluation session within the built environment has to stay within
+   */
+  public EvaluationEnvironmentBuilder withEvaluationLimits(@Nullable EvaluationLimits evaluationLimits) {
+    this.evaluationLimits = evaluationLimits;
+    return this;
+  }
+
   public EvaluationEnvironmentBuilder withFunction(String identifier, AExpressionFunction function) {
     this.functions.put(identifier, function);
     return this;
@@ -60,7 +110,11 @@ public class EvaluationEnvironmentBuilder {
       valueInterpreter,
       new HashMap<>(staticVariables),
       new HashMap<>(liveVariables),
-      new HashMap<>(functions)
+      new HashMap<>(asyncLiveVariables),
+      new HashMap<>(functions),
+      new HashSet<>(volatileLiveVariables),
+      liveVariableCaching,
+      evaluationLimits
     );
   }
 
@@ -71,18 +125,37 @@ public class EvaluationEnvironmentBuilder {
   public IEvaluationEnvironment build(@Nullable IEvaluationEnvironment environmentToExtend) {
     Map<String, AExpressionFunction> resultingFunctions = new HashMap<>();
     Map<String, Supplier<?>> resultingLiveVariables = new HashMap<>();
+    Map<String, Supplier<? extends CompletableFuture<?>>> resultingAsyncLiveVariables = new HashMap<>();
     Map<String, Object> resultingStaticVariables = new HashMap<>();
+    Set<String> resultingVolatileLiveVariables = new HashSet<>();
 
     if (environmentToExtend != null) {
       resultingFunctions.putAll(environmentToExtend.getFunctions());
       resultingLiveVariables.putAll(environmentToExtend.getLiveVariables());
+      resultingAsyncLiveVariables.putAll(environmentToExtend.getAsyncLiveVariables());
       resultingStaticVariables.putAll(environmentToExtend.getStaticVariables());
+      resultingVolatileLiveVariables.addAll(environmentToExtend.getVolatileLiveVariables());
     }
 
     // Put builder-items last, as to make them prevail over the possibly extended environment
     resultingFunctions.putAll(this.functions);
     resultingLiveVariables.putAll(this.liveVariables);
+    resultingAsyncLiveVariables.putAll(this.asyncLiveVariables);
     resultingStaticVariables.putAll(this.staticVariables);
+    resultingVolatileLiveVariables.addAll(this.volatileLiveVariables);
+
+    // Caching is enabled as soon as either of both environments requests it
+    boolean resultingLiveVariableCaching = (
+      this.liveVariableCaching ||
+      (environmentToExtend != null && environmentToExtend.isLiveVariableCachingEnabled())
+    );
+
+    EvaluationLimits resultingEvaluationLimits = this.evaluationLimits;
+
+    if (resultingEvaluationLimits == null && environmentToExtend != null)
+      resultingEvaluationLimits = environmentToExtend.getEvaluationLimits();
+
+    EvaluationLimits finalEvaluationLimits = resultingEvaluationLimits;
 
     return new IEvaluationEnvironment() {
 
@@ -96,6 +169,11 @@ public class EvaluationEnvironmentBuilder {
         return resultingLiveVariables;
       }
 
+      @Override
+      public Map<String, Supplier<? extends CompletableFuture<?>>> getAsyncLiveVariables() {
+        return resultingAsyncLiveVariables;
+      }
+
       @Override
       public Map<String, Object> getStaticVariables() {
         return resultingStaticVariables;
@@ -105,6 +183,21 @@ public class EvaluationEnvironmentBuilder {
       public IValueInterpreter getValueInterpreter() {
         return valueInterpreter;
       }
+
+      @Override
+      public @Nullable EvaluationLimits getEvaluationLimits() {
+        return finalEvaluationLimits;
+      }
+
+      @Override
+      public boolean isLiveVariableCachingEnabled() {
+        return resultingLiveVariableCaching;
+      }
+
+      @Override
+      public Set<String> getVolatileLiveVariables() {
+        return resultingVolatileLiveVariables;
+      }
     };
   }
 }
@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.interpreter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits which a single evaluation session has to stay within, in order to safely evaluate
+ * untrusted expressions. Exceeding any of them aborts the evaluation by throwing an
+ * {@link me.blvckbytes.gpeee.error.EvaluationLimitExceededError}. All limits are disabled by default.
+ */
+public class EvaluationLimits {
+
+  // The deadline is only checked every so many node visits, as reading the clock isn't free
+  static final int DEADLINE_CHECK_INTERVAL = 64;
+
+  private long maxNodeVisits;
+  private int maxCollectionSize;
+  private int maxStringLength;
+  private long timeoutNanos;
+
+  public EvaluationLimits() {
+    this.maxNodeVisits = Long.MAX_VALUE;
+    this.maxCollectionSize = Integer.MAX_VALUE;
+    this.maxStringLength = Integer.MAX_VALUE;
+  }
+
+  /**
+   * Limits the number of expression nodes which may be evaluated
+   */
+  public EvaluationLimits withMaxNodeVisits(long maxNodeVisits) {
+    this.maxNodeVisits = maxNodeVisits;
+    return this;
+  }
+
+  /**
+   * Limits the size of collections produced by standard functions, like range, flatten or split
+   */
+  public EvaluationLimits withMaxCollectionSize(int maxCollectionSize) {
+    this.maxCollectionSize = maxCollectionSize;
+    return this;
+  }
+
+  /**
+   * Limits the length of strings produced by concatenations and standard functions
+   */
+  public EvaluationLimits withMaxStringLength(int maxStringLength) {
+    this.maxStringLength = maxStringLength;
+    return this;
+  }
+
+  /**
+   * Limits the wall-clock time an evaluation session may take
+   */
+  public EvaluationLimits withTimeout(long timeout, TimeUnit unit) {
+    this.timeoutNanos = unit.toNanos(timeout);
+    return this;
+  }
+
+  public long getMaxNodeVisits() {
+    return maxNodeVisits;
+  }
+
+  public int getMaxCollectionSize() {
+    return maxCollectionSize;
+  }
+
+  public int getMaxStringLength() {
+    return maxStringLength;
+  }
+
+  /**
+   * Get the timeout in nanoseconds, where zero represents no timeout
+   */
+  public long getTimeoutNanos() {
+    return timeoutNanos;
+  }
+}
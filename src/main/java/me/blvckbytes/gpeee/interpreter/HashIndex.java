@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.interpreter;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A hash index of items by a key extracted from each of them, which answers point lookups in
+ * constant time instead of scanning the whole collection. Keys are normalized to match like
+ * the non-strict equality operator matches them: a whole number is found no matter whether it's
+ * looked up as a long, an integer or a whole double, strings match ignoring case and whitespace
+ * padding, and strings which hold a number match that number. Of multiple items with the same
+ * key, the first one is kept, while items without a key are left out. Once built, an index is
+ * only read from and may thus be shared between evaluations and threads, for example as a
+ * static variable.
+ */
+public final class HashIndex {
+
+  private final Map<Object, Object> items;
+
+  /**
+   * Create a new, empty index
+   * @param expectedSize Number of items which are expected to be added
+   */
+  public HashIndex(int expectedSize) {
+    this.items = new HashMap<>(Math.max(16, (int) (expectedSize / .75F) + 1));
+  }
+
+  /**
+   * Build an index over all items of a collection
+   * @param items Items to index
+   * @param keyExtractor Extractor of an item's key, where null leaves out the item
+   * @return Built index
+   */
+  public static HashIndex of(Iterable<?> items, Function<Object, @Nullable Object> keyExtractor) {
+    // Lazy sequences would compute all of their items up front when asked for their size
+    boolean isSized = items instanceof Collection && !(items instanceof LazySequence);
+    HashIndex index = new HashIndex(isSized ? ((Collection<?>) items).size() : 16);
+
+    for (Object item : items)
+      index.add(keyExtractor.apply(item), item);
+
+    return index;
+  }
+
+  /**
+   * Add an item to this index, which is only intended to be called while building it
+   * @param key Key of the item
+   * @param item Item to add
+   * @return True if the item has been added, false if it had no key or the key has already been taken
+   */
+  public boolean add(@Nullable Object key, @Nullable Object item) {
+    if (key == null)
+      return false;
+
+    Object normalizedKey = normalizeKey(key);
+
+    // The first item of a key wins
+    if (items.containsKey(normalizedKey))
+      return false;
+
+    items.put(normalizedKey, item);
+    return true;
+  }
+
+  /**
+   * Look up the item of a given key
+   * @param key Key to look up
+   * @return Item of the key, null if there is none
+   */
+  public @Nullable Object get(@Nullable Object key) {
+    if (key == null)
+      return null;
+
+    return items.get(normalizeKey(key));
+  }
+
+  /**
+   * Check whether there's an item for a given key
+   * @param key Key to look up
+   * @return True if the key has been indexed
+   */
+  public boolean containsKey(@Nullable Object key) {
+    if (key == null)
+      return false;
+
+    return items.containsKey(normalizeKey(key));
+  }
+
+  /**
+   * Get the number of indexed items
+   */
+  public int size() {
+    return items.size();
+  }
+
+  /**
+   * Normalizes keys which are equal in non-strict comparisons to a single representation
+   * @param key Key to normalize
+   * @return Whole numbers as longs, other numbers as stripped decimals, numeric strings as their
+   *         number, other strings case-folded without padding and all other keys as is
+   */
+  private static Object normalizeKey(Object key) {
+    if (key instanceof String)
+      return normalizeString(((String) key).trim());
+
+    if (!(key instanceof Number) || key instanceof Long)
+      return key;
+
+    if (key instanceof Integer || key instanceof Short || key instanceof Byte)
+      return ((Number) key).longValue();
+
+    BigDecimal decimal;
+
+    if (key instanceof BigInteger)
+      decimal = new BigDecimal((BigInteger) key);
+
+    else if (key instanceof BigDecimal)
+      decimal = (BigDecimal) key;
+
+    else {
+      double doubleValue = ((Number) key).doubleValue();
+
+      if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue))
+        return doubleValue;
+
+      if (doubleValue == Math.rint(doubleValue) && Math.abs(doubleValue) < 0x1p63)
+        return (long) doubleValue;
+
+      decimal = BigDecimal.valueOf(doubleValue);
+    }
+
+    try {
+      return decimal.longValueExact();
+    } catch (ArithmeticException e) {
+      return decimal.stripTrailingZeros();
+    }
+  }
+
+  private static Object normalizeString(String key) {
+    // Strings are parsed just like when comparing them against numbers
+    try {
+      if (key.contains("."))
+        return normalizeKey(Double.parseDouble(key));
+
+      return Long.parseLong(key);
+    } catch (NumberFormatException ignored) {}
+
+    // Folds exactly like equalsIgnoreCase
+    StringBuilder result = new StringBuilder(key.length());
+    key.codePoints().forEach(c -> result.appendCodePoint(Character.toLowerCase(Character.toUpperCase(c))));
+    return result.toString();
+  }
+
+  @Override
+  public String toString() {
+    return "HashIndex{size=" + items.size() + "}";
+  }
+}
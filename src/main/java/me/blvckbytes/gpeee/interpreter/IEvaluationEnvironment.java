@@ -25,8 +25,12 @@
 package me.blvckbytes.gpeee.interpreter;
 
 import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 public interface IEvaluationEnvironment {
@@ -41,6 +45,15 @@ public interface IEvaluationEnvironment {
    */
   Map<String, Supplier<?>> getLiveVariables();
 
+  /**
+   * Mapping identifiers to available asynchronous live variables which an expression may resolve.
+   * Asynchronous evaluations fetch all referenced variables concurrently without blocking, while
+   * synchronous evaluations wait for the supplied future to complete.
+   */
+  default Map<String, Supplier<? extends CompletableFuture<?>>> getAsyncLiveVariables() {
+    return Collections.emptyMap();
+  }
+
   /**
    * Mapping identifiers to available static variables which an expression may resolve
    */
@@ -55,4 +68,28 @@ public interface IEvaluationEnvironment {
    */
   IValueInterpreter getValueInterpreter();
 
+  /**
+   * Get the limits each evaluation session within this environment has to stay within,
+   * where null represents no limits at all
+   */
+  default @Nullable EvaluationLimits getEvaluationLimits() {
+    return null;
+  }
+
+  /**
+   * Whether live variables are to be resolved at most once per evaluation session, where
+   * all further reads of a variable reuse the value its supplier returned the first time
+   */
+  default boolean isLiveVariableCachingEnabled() {
+    return false;
+  }
+
+  /**
+   * Identifiers of live variables which have to be read fresh every time,
+   * even if live variable caching is enabled
+   */
+  default Set<String> getVolatileLiveVariables() {
+    return Collections.emptySet();
+  }
+
 }
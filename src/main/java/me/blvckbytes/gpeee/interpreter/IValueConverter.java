@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.interpreter;
+
+/**
+ * Converts values of a certain type into the primitives the {@link StandardValueInterpreter} operates on,
+ * allowing hosts to define how their own types behave within expressions without subclassing the interpreter
+ * @param <T> Type of values to convert
+ */
+public interface IValueConverter<T> {
+
+  /**
+   * Converts a value into it's long representation, which is also used for comparisons
+   * and equality checks against values of other types, as long as it has no decimal point
+   */
+  long asLong(T value);
+
+  /**
+   * Converts a value into it's double representation, which is used for
+   * comparisons and math operations if it has a decimal point
+   */
+  default double asDouble(T value) {
+    return asLong(value);
+  }
+
+  /**
+   * Checks whether a value has a non-zero decimal part, which requires
+   * comparisons to be performed on it's double representation
+   */
+  default boolean hasDecimalPoint(T value) {
+    return false;
+  }
+
+  /**
+   * Converts a value into a boolean, which is true if it's numeric value is greater than zero by default
+   */
+  default boolean asBoolean(T value) {
+    if (hasDecimalPoint(value))
+      return Double.compare(asDouble(value), 0) > 0;
+    return asLong(value) > 0;
+  }
+}
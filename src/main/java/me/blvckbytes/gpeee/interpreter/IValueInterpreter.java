@@ -49,4 +49,12 @@ public interface IValueInterpreter {
 
   Object performMath(@Nullable Object a, @Nullable Object b, MathOperation operation);
 
+  /**
+   * Whether {@link #performMath} computes with arbitrary precision, in which case numbers
+   * are never to be accumulated in primitives, but always by performing math on them
+   */
+  default boolean isArbitraryPrecision() {
+    return false;
+  }
+
 }
@@ -1,18 +1,42 @@
 package me.blvckbytes.gpeee.interpreter;
 
+import me.blvckbytes.gpeee.error.EvaluationLimitExceededError;
 import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import me.blvckbytes.gpeee.metrics.ProfilerStack;
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public class InterpretationEnvironment {
 
   private final Map<String, AExpressionFunction> functions;
   private final Map<String, Object> variables;
+  private final Map<String, Object> liveVariableValues;
+  private final @Nullable ReactiveExpression reactiveExpression;
+  private final @Nullable AsyncEvaluation asyncEvaluation;
+
+  private @Nullable ProfilerStack profilerStack;
+  private boolean producedLazySequences;
+  private long nodeVisits;
+  private long deadlineNanos;
 
   public InterpretationEnvironment() {
+    this(null);
+  }
+
+  public InterpretationEnvironment(@Nullable ReactiveExpression reactiveExpression) {
+    this(reactiveExpression, null);
+  }
+
+  InterpretationEnvironment(@Nullable ReactiveExpression reactiveExpression, @Nullable AsyncEvaluation asyncEvaluation) {
     this.functions = new HashMap<>();
     this.variables = new HashMap<>();
+    this.liveVariableValues = new HashMap<>();
+    this.reactiveExpression = reactiveExpression;
+    this.asyncEvaluation = asyncEvaluation;
   }
 
   public Map<String, AExpressionFunction> getFunctions() {
@@ -22,4 +46,88 @@ public class InterpretationEnvironment {
   public Map<String, Object> getVariables() {
     return variables;
   }
+
+  /**
+   * Get the values of live variables which have already been resolved within this session
+   */
+  public Map<String, Object> getLiveVariableValues() {
+    return liveVariableValues;
+  }
+
+  /**
+   * Get the reactive expression this evaluation session is tracking dependencies for, if any
+   */
+  public @Nullable ReactiveExpression getReactiveExpression() {
+    return reactiveExpression;
+  }
+
+  /**
+   * Get the asynchronous evaluation this session is a pass of, if any
+   */
+  @Nullable AsyncEvaluation getAsyncEvaluation() {
+    return asyncEvaluation;
+  }
+
+  /**
+   * Whether a function invocation within this session has produced a lazy sequence
+   */
+  boolean hasProducedLazySequences() {
+    return producedLazySequences;
+  }
+
+  void setProducedLazySequences(boolean producedLazySequences) {
+    this.producedLazySequences = producedLazySequences;
+  }
+
+  /**
+   * Get the stack evaluated nodes are pushed onto for a sampling profiler, if any
+   */
+  @Nullable ProfilerStack getProfilerStack() {
+    return profilerStack;
+  }
+
+  void setProfilerStack(@Nullable ProfilerStack profilerStack) {
+    this.profilerStack = profilerStack;
+  }
+
+  /**
+   * Continues accounting node visits and time where another session left off, for
+   * evaluations which are made up of multiple sessions
+   * @param previous Previous session of the same evaluation
+   */
+  void continueLimitsOf(InterpretationEnvironment previous) {
+    this.nodeVisits = previous.nodeVisits;
+    this.deadlineNanos = previous.deadlineNanos;
+  }
+
+  /**
+   * Accounts for a node visit and checks the node visit and time limits of this session
+   * @param expression Expression which is about to be evaluated
+   * @param limits Limits to check against
+   * @throws EvaluationLimitExceededError A limit has been exceeded
+   */
+  void chargeNodeVisit(AExpression expression, EvaluationLimits limits) throws EvaluationLimitExceededError {
+    if (++nodeVisits > limits.getMaxNodeVisits()) {
+      throw new EvaluationLimitExceededError(
+        expression, EvaluationLimitExceededError.Limit.NODE_VISITS,
+        "Exceeded the maximum of " + limits.getMaxNodeVisits() + " node visits"
+      );
+    }
+
+    if (limits.getTimeoutNanos() <= 0)
+      return;
+
+    // The clock starts with the session's first visit
+    if (nodeVisits == 1) {
+      deadlineNanos = System.nanoTime() + limits.getTimeoutNanos();
+      return;
+    }
+
+    if (nodeVisits % EvaluationLimits.DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadlineNanos > 0) {
+      throw new EvaluationLimitExceededError(
+        expression, EvaluationLimitExceededError.Limit.TIMEOUT,
+        "Exceeded the time limit of " + TimeUnit.NANOSECONDS.toMillis(limits.getTimeoutNanos()) + "ms"
+      );
+    }
+  }
 }
@@ -28,38 +28,185 @@ import me.blvckbytes.gpeee.Tuple;
 import me.blvckbytes.gpeee.error.*;
 import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
 import me.blvckbytes.gpeee.logging.DebugLogSource;
+import me.blvckbytes.gpeee.metrics.EvaluationMetricsCollector;
+import me.blvckbytes.gpeee.metrics.ProfilerStack;
+import me.blvckbytes.gpeee.metrics.SamplingProfiler;
+import me.blvckbytes.gpeee.functions.AAsyncExpressionFunction;
 import me.blvckbytes.gpeee.functions.AExpressionFunction;
 import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
+import me.blvckbytes.gpeee.functions.IStreamingFunction;
+import me.blvckbytes.gpeee.functions.std.AStandardFunction;
 import me.blvckbytes.gpeee.parser.ComparisonOperation;
 import me.blvckbytes.gpeee.parser.EqualityOperation;
 import me.blvckbytes.gpeee.parser.MathOperation;
 import me.blvckbytes.gpeee.parser.expression.*;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Array;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class Interpreter {
 
+  // Marks function results which have already been written into the streaming output
+  private static final Object STREAMED = new Object();
+
   private final Logger logger;
   private final IStandardFunctionRegistry standardFunctionRegistry;
 
+  private volatile @Nullable EvaluationMetricsCollector metricsCollector;
+  private volatile @Nullable SamplingProfiler profiler;
+
   public Interpreter(Logger logger, IStandardFunctionRegistry standardFunctionRegistry) {
     this.logger = logger;
     this.standardFunctionRegistry = standardFunctionRegistry;
   }
 
+  /**
+   * Installs a collector which is fed with metrics of all following evaluations,
+   * or removes the current collector when passing null, which disables instrumentation
+   * @param metricsCollector Collector to install
+   */
+  public void setMetricsCollector(@Nullable EvaluationMetricsCollector metricsCollector) {
+    this.metricsCollector = metricsCollector;
+  }
+
+  public @Nullable EvaluationMetricsCollector getMetricsCollector() {
+    return metricsCollector;
+  }
+
+  /**
+   * Installs a profiler which samples all following evaluations while it's running,
+   * or removes the current profiler when passing null
+   * @param profiler Profiler to install
+   */
+  public void setProfiler(@Nullable SamplingProfiler profiler) {
+    this.profiler = profiler;
+  }
+
+  public @Nullable SamplingProfiler getProfiler() {
+    return profiler;
+  }
+
   public Object evaluateExpression(AExpression expression, IEvaluationEnvironment environment) throws AEvaluatorError {
     if (expression == null)
       return null;
 
     // Every expression evaluation starts out with a fresh interpretation environment
     // State is NOT kept between evaluation sessions
-    return evaluateExpressionSub(expression, environment, new InterpretationEnvironment());
+    return evaluateSession(expression, environment, new InterpretationEnvironment());
+  }
+
+  /**
+   * Evaluates a root expression as a whole session, which produces a fully computed value
+   * @param expression Root expression to evaluate
+   * @param environment Environment to evaluate within
+   * @param interpretationEnvironment Interpretation environment of the session
+   * @return Resulting expression value
+   * @throws AEvaluatorError Error during the interpretation process
+   */
+  Object evaluateSession(
+    AExpression expression,
+    IEvaluationEnvironment environment,
+    InterpretationEnvironment interpretationEnvironment
+  ) throws AEvaluatorError {
+    return evaluateSession(expression, environment, interpretationEnvironment, null);
+  }
+
+  /**
+   * Evaluates an expression into an output, streaming string results directly into it instead of
+   * building them up in memory first, where possible. This is the case for string literals, templates,
+   * concatenations, branches of if-then-else expressions and invocations of {@link IStreamingFunction}s,
+   * like iter_cat, while all other values are written in their string representation.
+   * @param expression Expression to evaluate
+   * @param environment Environment to evaluate within
+   * @param output Output to write the result into
+   * @throws AEvaluatorError Error during the interpretation process
+   * @throws IOException Error while writing into the output
+   */
+  public void evaluateInto(AExpression expression, IEvaluationEnvironment environment, Appendable output) throws AEvaluatorError, IOException {
+    if (expression == null)
+      return;
+
+    StreamingOutput streamingOutput = new StreamingOutput(output, expression, environment.getEvaluationLimits());
+
+    try {
+      evaluateSession(expression, environment, new InterpretationEnvironment(), streamingOutput);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private Object evaluateSession(
+    AExpression expression,
+    IEvaluationEnvironment environment,
+    InterpretationEnvironment interpretationEnvironment,
+    @Nullable StreamingOutput output
+  ) throws AEvaluatorError {
+    EvaluationMetricsCollector metricsCollector = this.metricsCollector;
+
+    long start = 0, allocatedBytes = 0;
+
+    if (metricsCollector != null) {
+      allocatedBytes = metricsCollector.currentThreadAllocatedBytes();
+      start = System.nanoTime();
+    }
+
+    SamplingProfiler profiler = this.profiler;
+
+    // Nodes are only pushed onto the thread's stack while there's someone to sample them
+    if (profiler != null && profiler.isRunning() && interpretationEnvironment.getProfilerStack() == null)
+      interpretationEnvironment.setProfilerStack(profiler.getCurrentThreadStack());
+
+    boolean failed = false;
+
+    try {
+      Object result = evaluateExpressionSub(expression, environment, interpretationEnvironment, output);
+
+      // Lazy sequences are bound to this evaluation session, so they're computed before leaving it
+      if (interpretationEnvironment.hasProducedLazySequences())
+        return LazySequence.materializeDeep(result);
+
+      return result;
+    } catch (AEvaluatorError error) {
+      failed = true;
+      throw error;
+    } finally {
+      if (metricsCollector != null) {
+        long nanos = System.nanoTime() - start;
+
+        if (allocatedBytes >= 0)
+          allocatedBytes = metricsCollector.currentThreadAllocatedBytes() - allocatedBytes;
+
+        metricsCollector.recordEvaluation(expression, nanos, allocatedBytes, failed);
+      }
+    }
+  }
+
+  /**
+   * Evaluates an expression without blocking the calling thread on asynchronous live variables
+   * or functions. All asynchronous live variables referenced by the expression are requested
+   * concurrently up front. Asynchronous function invocations are requested as they're reached,
+   * together with all other invocations which don't depend on pending results, after which the
+   * evaluation is repeated with all results known so far. Impure functions and live variables
+   * are not invoked again by such a repetition, as long as their arguments didn't change.
+   * @param expression Expression to evaluate
+   * @param environment Environment to evaluate within
+   * @param executor Executor to run the evaluation passes on, may be Runnable::run in order
+   *                 to continue on whichever thread completed the last awaited future
+   * @return Future of the expression's value, completing exceptionally on errors
+   */
+  public CompletableFuture<Object> evaluateExpressionAsync(AExpression expression, IEvaluationEnvironment environment, Executor executor) {
+    if (expression == null)
+      return CompletableFuture.completedFuture(null);
+
+    return new AsyncEvaluation(this, expression, environment, executor).start();
   }
 
   public Object evaluateExpressionSub(
@@ -67,10 +214,183 @@ public class Interpreter {
     IEvaluationEnvironment evaluationEnvironment,
     InterpretationEnvironment interpretationEnvironment
   ) throws AEvaluatorError {
+    return evaluateExpressionSub(expression, evaluationEnvironment, interpretationEnvironment, null);
+  }
+
+  /**
+   * Evaluates an expression, or writes it's result into the output if one is provided
+   */
+  private Object evaluateExpressionSub(
+    AExpression expression,
+    IEvaluationEnvironment evaluationEnvironment,
+    InterpretationEnvironment interpretationEnvironment,
+    @Nullable StreamingOutput output
+  ) throws AEvaluatorError {
 
     if (expression == null)
       return null;
 
+    EvaluationLimits limits = evaluationEnvironment.getEvaluationLimits();
+
+    if (limits != null)
+      interpretationEnvironment.chargeNodeVisit(expression, limits);
+
+    ProfilerStack profilerStack = interpretationEnvironment.getProfilerStack();
+
+    if (profilerStack == null)
+      return evaluateExpressionMeasured(expression, evaluationEnvironment, interpretationEnvironment, output);
+
+    profilerStack.push(expression);
+
+    try {
+      return evaluateExpressionMeasured(expression, evaluationEnvironment, interpretationEnvironment, output);
+    } finally {
+      profilerStack.pop();
+    }
+  }
+
+  private Object evaluateExpressionMeasured(
+    AExpression expression,
+    IEvaluationEnvironment evaluationEnvironment,
+    InterpretationEnvironment interpretationEnvironment,
+    @Nullable StreamingOutput output
+  ) throws AEvaluatorError {
+    EvaluationMetricsCollector metricsCollector = this.metricsCollector;
+
+    // Instrumentation is opt-in, so that the regular path doesn't read any clocks
+    if (metricsCollector == null)
+      return evaluateExpressionTracked(expression, evaluationEnvironment, interpretationEnvironment, output);
+
+    long start = System.nanoTime();
+
+    try {
+      return evaluateExpressionTracked(expression, evaluationEnvironment, interpretationEnvironment, output);
+    } finally {
+      metricsCollector.recordNode(expression, System.nanoTime() - start);
+    }
+  }
+
+  private Object evaluateExpressionTracked(
+    AExpression expression,
+    IEvaluationEnvironment evaluationEnvironment,
+    InterpretationEnvironment interpretationEnvironment,
+    @Nullable StreamingOutput output
+  ) throws AEvaluatorError {
+    // Streaming sessions are never reactive, as there's no value to cache
+    if (output != null) {
+      streamExpressionNode(expression, evaluationEnvironment, interpretationEnvironment, output);
+      return null;
+    }
+
+    ReactiveExpression reactiveExpression = interpretationEnvironment.getReactiveExpression();
+
+    // Reactive evaluations may answer from their cache and record the dependencies of this node
+    if (reactiveExpression != null)
+      return reactiveExpression.track(expression, () -> evaluateExpressionNode(expression, evaluationEnvironment, interpretationEnvironment, null));
+
+    return evaluateExpressionNode(expression, evaluationEnvironment, interpretationEnvironment, null);
+  }
+
+  /**
+   * Writes the string representation of an expression's value into the output, while
+   * streaming the parts of string producing expressions instead of building them up first
+   */
+  private void streamExpressionNode(
+    AExpression expression,
+    IEvaluationEnvironment evaluationEnvironment,
+    InterpretationEnvironment interpretationEnvironment,
+    StreamingOutput output
+  ) throws AEvaluatorError {
+    IValueInterpreter valueInterpreter = evaluationEnvironment.getValueInterpreter();
+
+    if (expression instanceof ProgramExpression) {
+      List<AExpression> lines = ((ProgramExpression) expression).getLines();
+
+      // Only the last line's value is the program's result
+      for (int i = 0; i < lines.size() - 1; i++)
+        evaluateExpressionSub(lines.get(i), evaluationEnvironment, interpretationEnvironment);
+
+      evaluateExpressionSub(lines.get(lines.size() - 1), evaluationEnvironment, interpretationEnvironment, output);
+      return;
+    }
+
+    if (expression instanceof StringExpression) {
+      output.append(valueInterpreter.asString(((StringExpression) expression).getValue()));
+      return;
+    }
+
+    if (expression instanceof TemplateExpression) {
+      TemplateExpression template = (TemplateExpression) expression;
+      List<String> segments = template.getSegments();
+      List<AExpression> slots = template.getSlots();
+
+      for (int i = 0; i < slots.size(); i++) {
+        output.append(segments.get(i));
+        evaluateExpressionSub(slots.get(i), evaluationEnvironment, interpretationEnvironment, output);
+      }
+
+      output.append(segments.get(slots.size()));
+      return;
+    }
+
+    // Concatenations evaluate from right to left, so only their leftmost part can be streamed
+
+    if (expression instanceof ConcatenationExpression) {
+      ConcatenationExpression concatenation = (ConcatenationExpression) expression;
+      String rhs = valueInterpreter.asString(evaluateExpressionSub(concatenation.getRhs(), evaluationEnvironment, interpretationEnvironment));
+
+      evaluateExpressionSub(concatenation.getLhs(), evaluationEnvironment, interpretationEnvironment, output);
+      output.append(rhs);
+      return;
+    }
+
+    if (expression instanceof ConcatenationChainExpression) {
+      List<AExpression> parts = ((ConcatenationChainExpression) expression).getParts();
+      String[] values = new String[parts.size()];
+
+      for (int i = values.length - 1; i >= 1; i--)
+        values[i] = valueInterpreter.asString(evaluateExpressionSub(parts.get(i), evaluationEnvironment, interpretationEnvironment));
+
+      evaluateExpressionSub(parts.get(0), evaluationEnvironment, interpretationEnvironment, output);
+
+      for (int i = 1; i < values.length; i++)
+        output.append(values[i]);
+      return;
+    }
+
+    if (expression instanceof IfThenElseExpression) {
+      IfThenElseExpression ifExpression = (IfThenElseExpression) expression;
+      Object condition = evaluateExpressionSub(ifExpression.getCondition(), evaluationEnvironment, interpretationEnvironment);
+
+      evaluateExpressionSub(
+        valueInterpreter.asBoolean(condition) ? ifExpression.getPositiveBody() : ifExpression.getNegativeBody(),
+        evaluationEnvironment, interpretationEnvironment, output
+      );
+      return;
+    }
+
+    // Streaming functions write into the output themselves
+    Object value = evaluateExpressionNode(
+      expression, evaluationEnvironment, interpretationEnvironment,
+      expression instanceof FunctionInvocationExpression ? output : null
+    );
+
+    if (value != STREAMED)
+      output.append(valueInterpreter.asString(value));
+  }
+
+  /**
+   * Evaluates an expression node
+   * @param output Output to let streaming functions write into, if the node is a function invocation
+   * @return Value of the node, {@link #STREAMED} if a function has written it's result into the output
+   */
+  private Object evaluateExpressionNode(
+    AExpression expression,
+    IEvaluationEnvironment evaluationEnvironment,
+    InterpretationEnvironment interpretationEnvironment,
+    @Nullable StreamingOutput output
+  ) throws AEvaluatorError {
+
     logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Evaluating " + expression.getClass().getSimpleName() + ": " + expression.expressionify());
 
     IValueInterpreter valueInterpreter = evaluationEnvironment.getValueInterpreter();
@@ -139,10 +459,22 @@ public class Interpreter {
         throw new UndefinedFunctionError(functionExpression.getName());
       }
 
+      EvaluationMetricsCollector metricsCollector = this.metricsCollector;
+
+      if (metricsCollector != null)
+        metricsCollector.recordFunctionCall(functionExpression.getName().getSymbol().toLowerCase(Locale.ROOT));
+
+      // Results of impure functions may change without any variable changing
+      if (!function.isPure() && interpretationEnvironment.getReactiveExpression() != null)
+        interpretationEnvironment.getReactiveExpression().recordImpureCall();
+
       logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Evaluating arguments of function invocation " + functionExpression.getName().getSymbol());
 
       @Nullable List<ExpressionFunctionArgument> argDefinitions = function.getArguments();
 
+      AsyncEvaluation asyncEvaluation = interpretationEnvironment.getAsyncEvaluation();
+      long pendingValues = asyncEvaluation == null ? 0 : asyncEvaluation.getPendingValues();
+
       List<Object> arguments = new ArrayList<>();
 
       // Argument definitions are available, fill up the argument list
@@ -155,12 +487,21 @@ public class Interpreter {
       boolean encounteredNamedArgument = false;
       int debugArgCounter = 0, nonNamedArgCounter = 0;
 
+      // Precompiled values are only ever prepared for standard functions, so they're not
+      // to be passed to environment functions which shadow a standard function's name
+      Object[] precompiledArguments = function instanceof AStandardFunction ? functionExpression.getPrecompiledArguments() : null;
+
       // Evaluate and collect all arguments
       for (Tuple<AExpression, @Nullable IdentifierExpression> argument : functionExpression.getArguments()) {
         int debugArgIndex = ++debugArgCounter;
         logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Evaluating argument " + debugArgIndex);
 
-        Object argumentValue = evaluateExpressionSub(argument.a, evaluationEnvironment, interpretationEnvironment);
+        Object argumentValue;
+
+        if (precompiledArguments != null && precompiledArguments[debugArgIndex - 1] != null)
+          argumentValue = precompiledArguments[debugArgIndex - 1];
+        else
+          argumentValue = evaluateExpressionSub(argument.a, evaluationEnvironment, interpretationEnvironment);
 
         // Argument definitions are available and this argument has a name attached
         if (argDefinitions != null && argument.b != null) {
@@ -213,11 +554,47 @@ public class Interpreter {
           arguments.set(nonNamedArgCounter++, argumentValue);
       }
 
+      if (asyncEvaluation != null) {
+
+        // Impure functions only ever receive fully computed values, which may not contain any placeholders
+        if (!function.isPure())
+          arguments.replaceAll(LazySequence::materializeDeep);
+
+        // Functions are never invoked with values which are still pending
+        if (asyncEvaluation.getPendingValues() != pendingValues)
+          return AsyncEvaluation.PENDING;
+      }
+
       // Let the function validate the arguments of it's invocation before actually performing the call
       function.validateArguments(functionExpression, evaluationEnvironment.getValueInterpreter(), arguments);
 
+      Object result;
+
+      // Asynchronous functions are requested, while the evaluation carries on until their result is available
+      if (asyncEvaluation != null && function instanceof AAsyncExpressionFunction)
+        result = asyncEvaluation.resolveInvocation(functionExpression, (AAsyncExpressionFunction) function, evaluationEnvironment, arguments);
+
+      // Side effects of impure functions are not repeated by later passes of an asynchronous evaluation
+      else if (asyncEvaluation != null && !function.isPure())
+        result = asyncEvaluation.replayCall(functionExpression, asyncEvaluation.argumentsKey(arguments), () -> function.apply(evaluationEnvironment, arguments));
+
+      // Let the function write it's result into the output directly
+      else if (output != null && function instanceof IStreamingFunction) {
+        try {
+          FunctionInvocationError error = ((IStreamingFunction) function).applyInto(evaluationEnvironment, arguments, output);
+          result = error == null ? STREAMED : error;
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+
       // Invoke and return that function's result
-      Object result = function.apply(evaluationEnvironment, arguments);
+      else
+        result = function.apply(evaluationEnvironment, arguments);
+
+      // Results which have been computed from pending values are pending themselves
+      if (asyncEvaluation != null && asyncEvaluation.getPendingValues() != pendingValues)
+        return AsyncEvaluation.PENDING;
 
       // Throw an exception based on the error description object, now that the expression ref is available
       if (result instanceof FunctionInvocationError) {
@@ -228,67 +605,23 @@ public class Interpreter {
       }
 
       logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Invoked function, result: " + result);
-      return result;
-    }
-
-    if (expression instanceof CallbackExpression) {
-      CallbackExpression callbackExpression = (CallbackExpression) expression;
-
-      logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Setting up the java endpoint for a callback expression");
-
-      // This lambda function will be called by java every time the callback is invoked
-      return new AExpressionFunction() {
-        @Override
-        public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
-          // Copy the static variable table and extend it below
-          Map<String, Object> combinedVariables = new HashMap<>(environment.getStaticVariables());
-
-          // Map all identifiers from the callback's signature to a matching java argument in sequence
-          // If there are more arguments in the signature than provided by java, they'll just be set to null
-          for (int i = 0; i < callbackExpression.getSignature().size(); i++) {
-            String variableIdentifier = callbackExpression.getSignature().get(i).getSymbol();
-            Object variableValue = i < args.size() ? args.get(i) : null;
-
-            logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Adding " + variableIdentifier + "=" + variableValue + " to a callback's environment");
-            combinedVariables.put(variableIdentifier, variableValue);
-          }
-
-          logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Evaluating a callback's body");
-
-          // Callback expressions are evaluated within their own environment, which extends the current environment
-          // by the additional variables coming from the arguments passed by the callback caller
-          Object result = evaluateExpressionSub(callbackExpression.getBody(), new IEvaluationEnvironment() {
-
-            @Override
-            public Map<String, AExpressionFunction> getFunctions() {
-              return environment.getFunctions();
-            }
 
-            @Override
-            public Map<String, Supplier<?>> getLiveVariables() {
-              return environment.getLiveVariables();
-            }
+      EvaluationLimits limits = evaluationEnvironment.getEvaluationLimits();
+      Object limitedResult = result;
 
-            @Override
-            public Map<String, ?> getStaticVariables() {
-              return combinedVariables;
-            }
+      if (limits != null && function instanceof AStandardFunction)
+        limitedResult = enforceResultLimits(functionExpression, result, limits);
 
-            @Override
-            public IValueInterpreter getValueInterpreter() {
-              return environment.getValueInterpreter();
-            }
-          }, interpretationEnvironment);
+      // Sequences might end up nested within the session's result, which then has to be searched for them
+      if (limitedResult instanceof LazySequence)
+        interpretationEnvironment.setProducedLazySequences(true);
 
-          logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Callback result=" + result);
-          return result;
-        }
+      return limitedResult;
+    }
 
-        @Override
-        public @Nullable List<ExpressionFunctionArgument> getArguments() {
-          return null;
-        }
-      };
+    if (expression instanceof CallbackExpression) {
+      logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Setting up the java endpoint for a callback expression");
+      return new CallbackFunction((CallbackExpression) expression, evaluationEnvironment, interpretationEnvironment);
     }
 
     /////////////////////// Control Flow ////////////////////////
@@ -296,9 +629,16 @@ public class Interpreter {
     if (expression instanceof IfThenElseExpression) {
       IfThenElseExpression ifExpression = (IfThenElseExpression) expression;
 
+      AsyncEvaluation asyncEvaluation = interpretationEnvironment.getAsyncEvaluation();
+      long pendingValues = asyncEvaluation == null ? 0 : asyncEvaluation.getPendingValues();
+
       // Evaluate the if statement's condition expression
       Object condition = evaluateExpressionSub(ifExpression.getCondition(), evaluationEnvironment, interpretationEnvironment);
 
+      // Neither branch is taken before the condition is known
+      if (asyncEvaluation != null && asyncEvaluation.getPendingValues() != pendingValues)
+        return AsyncEvaluation.PENDING;
+
       // Interpret the result as a boolean and evaluate the body accordingly
       if (evaluationEnvironment.getValueInterpreter().asBoolean(condition))
         return evaluateExpressionSub(ifExpression.getPositiveBody(), evaluationEnvironment, interpretationEnvironment);
@@ -306,6 +646,63 @@ public class Interpreter {
       return evaluateExpressionSub(ifExpression.getNegativeBody(), evaluationEnvironment, interpretationEnvironment);
     }
 
+    /////////////////////// Templates ////////////////////////
+
+    if (expression instanceof TemplateExpression) {
+      TemplateExpression template = (TemplateExpression) expression;
+      List<String> segments = template.getSegments();
+      List<AExpression> slots = template.getSlots();
+      EvaluationLimits limits = evaluationEnvironment.getEvaluationLimits();
+
+      // Constant segments are known up front, reserve a little extra for each slot's value
+      StringBuilder result = new StringBuilder(template.getSegmentsLength() + 16 * slots.size());
+
+      for (int i = 0; i < slots.size(); i++) {
+        result.append(segments.get(i));
+        result.append(valueInterpreter.asString(evaluateExpressionSub(slots.get(i), evaluationEnvironment, interpretationEnvironment)));
+
+        if (limits != null && result.length() > limits.getMaxStringLength())
+          throw stringLengthExceeded(expression, result.length(), limits);
+      }
+
+      result.append(segments.get(slots.size()));
+
+      if (limits != null && result.length() > limits.getMaxStringLength())
+        throw stringLengthExceeded(expression, result.length(), limits);
+
+      logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Template result: " + result);
+      return result.toString();
+    }
+
+    /////////////////////// Concatenation Chains ////////////////////////
+
+    if (expression instanceof ConcatenationChainExpression) {
+      List<AExpression> parts = ((ConcatenationChainExpression) expression).getParts();
+      String[] values = new String[parts.size()];
+      long length = 0;
+
+      // Evaluate from right to left, just like the chain of binary expressions it has been flattened from
+      for (int i = values.length - 1; i >= 0; i--) {
+        values[i] = valueInterpreter.asString(evaluateExpressionSub(parts.get(i), evaluationEnvironment, interpretationEnvironment));
+        length += values[i].length();
+      }
+
+      EvaluationLimits limits = evaluationEnvironment.getEvaluationLimits();
+
+      // Check before allocating the result
+      if (limits != null && length > limits.getMaxStringLength())
+        throw stringLengthExceeded(expression, length, limits);
+
+      // All lengths are known up front, so the buffer never has to grow
+      StringBuilder result = new StringBuilder((int) Math.min(length, Integer.MAX_VALUE));
+
+      for (String value : values)
+        result.append(value);
+
+      logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Concatenation chain result: " + result);
+      return result.toString();
+    }
+
     /////////////////////// Member Access ////////////////////////
 
     if (expression instanceof MemberAccessExpression) {
@@ -358,6 +755,39 @@ public class Interpreter {
       throw new UnknownMemberError(memberExpression, value, fieldName);
     }
 
+    /////////////////////////// Slices //////////////////////////
+
+    if (expression instanceof SliceExpression) {
+      SliceExpression sliceExpression = (SliceExpression) expression;
+      Object target = evaluateExpressionSub(sliceExpression.getTarget(), evaluationEnvironment, interpretationEnvironment);
+
+      // Optional slice of null, respond with null
+      if (target == null && sliceExpression.isOptional())
+        return null;
+
+      int size;
+
+      if (target instanceof List)
+        size = ((List<?>) target).size();
+      else if (target != null && target.getClass().isArray())
+        size = ArrayView.length(target);
+      else
+        throw new NonIndexableValueError(sliceExpression, target);
+
+      int from = evaluateSliceBound(sliceExpression.getFrom(), 0, size, evaluationEnvironment, interpretationEnvironment);
+
+      // Bounds which cross each other select nothing
+      int to = Math.max(from, evaluateSliceBound(sliceExpression.getTo(), size, size, evaluationEnvironment, interpretationEnvironment));
+
+      logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Slicing from " + from + " to " + to + " of " + size + " items");
+
+      // Views share the storage of their source, no items are copied
+      if (target instanceof List)
+        return ((List<?>) target).subList(from, to);
+
+      return new ArrayView(target, from, to);
+    }
+
     //////////////////// Binary Expressions /////////////////////
 
     if (expression instanceof ABinaryExpression) {
@@ -375,6 +805,7 @@ public class Interpreter {
         if (!isFunction) {
           if (
             evaluationEnvironment.getLiveVariables().containsKey(identifier) ||
+            evaluationEnvironment.getAsyncLiveVariables().containsKey(identifier) ||
             evaluationEnvironment.getStaticVariables().containsKey(identifier) ||
             interpretationEnvironment.getVariables().containsKey(identifier)
           ) {
@@ -383,13 +814,17 @@ public class Interpreter {
 
           logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Storing variable " + identifier + " within the interpretation environment");
 
+          // Variables may be accessed any number of times
+          if (rhs instanceof LazySequence)
+            ((LazySequence) rhs).share();
+
           interpretationEnvironment.getVariables().put(identifier, rhs);
         }
 
         // Is a function, check for existing function names before adding
         else {
           if (
-            standardFunctionRegistry.lookup(identifier) != null ||
+            isUnshadowableStandardFunction(identifier) ||
             evaluationEnvironment.getFunctions().containsKey(identifier) ||
             interpretationEnvironment.getFunctions().containsKey(identifier)
           ) {
@@ -502,7 +937,14 @@ public class Interpreter {
       }
 
       if (expression instanceof ConcatenationExpression) {
-        String result = valueInterpreter.asString(lhs) + valueInterpreter.asString(rhs);
+        String lhsString = valueInterpreter.asString(lhs), rhsString = valueInterpreter.asString(rhs);
+        EvaluationLimits limits = evaluationEnvironment.getEvaluationLimits();
+
+        // Check before allocating the result
+        if (limits != null && (long) lhsString.length() + rhsString.length() > limits.getMaxStringLength())
+          throw stringLengthExceeded(expression, (long) lhsString.length() + rhsString.length(), limits);
+
+        String result = lhsString + rhsString;
         logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Concatenation Operation result: " + result);
         return result;
       }
@@ -510,72 +952,119 @@ public class Interpreter {
       if (expression instanceof IndexExpression) {
         IndexExpression indexExpression = (IndexExpression) expression;
 
-        if (lhs instanceof List) {
-          List<?> list = (List<?>) lhs;
-          int key = (int) valueInterpreter.asLong(rhs);
-          int listLength = list.size();
+        if (lhs instanceof Map) {
+          Map<?, ?> map = (Map<?, ?>) lhs;
+          String key = rhs instanceof String ? (String) rhs : valueInterpreter.asString(rhs);
 
-          // Not a valid list index
-          if (key >= listLength) {
+          // Only probe for the key's presence if there's no value
+          Object result = map.get(key);
+
+          // Not a valid map member
+          if (result == null && !map.containsKey(key)) {
 
             // Index is optional, respond with null
             if (indexExpression.isOptional())
               return null;
 
-            throw new InvalidIndexError(indexExpression, key, listLength);
+            throw new InvalidMapKeyError(indexExpression, key);
           }
 
-          Object result = list.get(key);
+          logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Indexing a map at " + key + ": " + result);
 
-          logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Indexing a list at " + key + ": " + result);
+          return result;
+        }
+
+        long index = asIndex(rhs, valueInterpreter);
+
+        if (lhs instanceof LongRange) {
+          LongRange range = (LongRange) lhs;
+          long key = index < 0 ? index + range.getLength() : index;
+
+          // Not a valid range index
+          if (key < 0 || key >= range.getLength()) {
+
+            // Index is optional, respond with null
+            if (indexExpression.isOptional())
+              return null;
+
+            throw new InvalidIndexError(indexExpression, index, range.size());
+          }
+
+          long result = range.getAt(key);
+
+          logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Indexing a range at " + key + ": " + result);
 
           return result;
         }
 
-        if (lhs != null && lhs.getClass().isArray()) {
-          int key = (int) valueInterpreter.asLong(rhs);
-          int arrayLength = Array.getLength(lhs);
+        if (lhs instanceof LazySequence) {
+          LazySequence sequence = (LazySequence) lhs;
 
-          // Not a valid array index
-          if (key >= arrayLength) {
+          // Counting from the end requires the sequence's size up front
+          long key = index < 0 ? index + sequence.size() : index;
+
+          // Only compute the sequence up until the requested index
+          if (key < 0 || key > Integer.MAX_VALUE || !sequence.hasIndex((int) key)) {
 
             // Index is optional, respond with null
             if (indexExpression.isOptional())
               return null;
 
-            throw new InvalidIndexError(indexExpression, key, arrayLength);
+            throw new InvalidIndexError(indexExpression, index, sequence.size());
           }
 
-          Object result = Array.get(lhs, key);
+          Object result = sequence.get((int) key);
 
-          logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Indexing an array at " + key + ": " + result);
+          logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Indexing a lazy sequence at " + key + ": " + result);
 
           return result;
         }
 
-        if (lhs instanceof Map) {
-          Map<?, ?> map = (Map<?, ?>) lhs;
-          String key = valueInterpreter.asString(rhs);
+        if (lhs instanceof List) {
+          List<?> list = (List<?>) lhs;
+          int listLength = list.size();
+          long key = index < 0 ? index + listLength : index;
 
-          // Not a valid map member
-          if (!map.containsKey(key)) {
+          // Not a valid list index
+          if (key < 0 || key >= listLength) {
 
             // Index is optional, respond with null
             if (indexExpression.isOptional())
               return null;
 
-            throw new InvalidMapKeyError(indexExpression, key);
+            throw new InvalidIndexError(indexExpression, index, listLength);
           }
 
-          Object result = map.get(key);
+          Object result = list.get((int) key);
 
-          logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Indexing a map at " + key + ": " + result);
+          logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Indexing a list at " + key + ": " + result);
+
+          return result;
+        }
+
+        if (lhs != null && lhs.getClass().isArray()) {
+          int arrayLength = ArrayView.length(lhs);
+          long key = index < 0 ? index + arrayLength : index;
+
+          // Not a valid array index
+          if (key < 0 || key >= arrayLength) {
+
+            // Index is optional, respond with null
+            if (indexExpression.isOptional())
+              return null;
+
+            throw new InvalidIndexError(indexExpression, index, arrayLength);
+          }
+
+          Object result = ArrayView.get(lhs, (int) key);
+
+          logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Indexing an array at " + key + ": " + result);
 
           return result;
         }
 
         // Cannot index this type of value
-        throw new NonIndexableValueError((IndexExpression) expression, lhs);
+        throw new NonIndexableValueError(indexExpression, lhs);
       }
     }
 
@@ -587,12 +1076,8 @@ public class Interpreter {
       Object input = evaluateExpressionSub(((AUnaryExpression) expression).getInput(), evaluationEnvironment, interpretationEnvironment);
 
       if (expression instanceof FlipSignExpression) {
-        Object result;
-
-        if (valueInterpreter.hasDecimalPoint(input))
-          result = -1 * valueInterpreter.asDouble(input);
-        else
-          result = -1 * valueInterpreter.asLong(input);
+        // Flipping the sign of the smallest long overflows, which math operations take care of
+        Object result = valueInterpreter.performMath(-1L, input, MathOperation.MULTIPLICATION);
 
         logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Flip Sign Operation result: " + result);
         return result;
@@ -608,6 +1093,91 @@ public class Interpreter {
     throw new IllegalStateException("Cannot parse unknown expression type " + expression.getClass());
   }
 
+  /**
+   * Resolves the value of an index, where whole numbers are taken as is
+   * @param value Value of the index
+   * @param valueInterpreter Interpreter to convert other values with
+   * @return Index, which counts from the end if negative
+   */
+  private long asIndex(@Nullable Object value, IValueInterpreter valueInterpreter) {
+    if (value instanceof Long || value instanceof Integer)
+      return ((Number) value).longValue();
+
+    return valueInterpreter.asLong(value);
+  }
+
+  /**
+   * Evaluates a bound of a slice and clamps it into the sliced collection
+   * @param bound Expression of the bound, null if it has been omitted
+   * @param fallback Value of an omitted bound
+   * @param size Size of the sliced collection
+   * @return Bound within the range of zero up to the size, inclusive
+   */
+  private int evaluateSliceBound(
+    @Nullable AExpression bound,
+    int fallback,
+    int size,
+    IEvaluationEnvironment evaluationEnvironment,
+    InterpretationEnvironment interpretationEnvironment
+  ) throws AEvaluatorError {
+    if (bound == null)
+      return fallback;
+
+    long value = asIndex(evaluateExpressionSub(bound, evaluationEnvironment, interpretationEnvironment), evaluationEnvironment.getValueInterpreter());
+
+    // Negative bounds count from the end
+    if (value < 0)
+      value += size;
+
+    return (int) Math.max(0, Math.min(value, size));
+  }
+
+  /**
+   * Makes sure that the result of a standard function stays within the collection size and
+   * string length limits, where lazy sequences are checked while they're being consumed
+   * @param expression Invocation which produced the result
+   * @param result Result of the invocation
+   * @param limits Limits to check against
+   * @return Result to continue with
+   * @throws EvaluationLimitExceededError A limit has been exceeded
+   */
+  private Object enforceResultLimits(
+    FunctionInvocationExpression expression,
+    Object result,
+    EvaluationLimits limits
+  ) throws EvaluationLimitExceededError {
+    int maxSize = limits.getMaxCollectionSize();
+
+    if (result instanceof LazySequence)
+      return ((LazySequence) result).bounded(maxSize, () -> collectionSizeExceeded(expression, limits));
+
+    // Ranges cost constant memory, so they're only checked once they're consumed beyond the limit
+    if (result instanceof LongRange && ((LongRange) result).getLength() > maxSize)
+      return new LazySequence((LongRange) result).bounded(maxSize, () -> collectionSizeExceeded(expression, limits));
+
+    if (result instanceof Collection && ((Collection<?>) result).size() > maxSize)
+      throw collectionSizeExceeded(expression, limits);
+
+    if (result instanceof String && ((String) result).length() > limits.getMaxStringLength())
+      throw stringLengthExceeded(expression, ((String) result).length(), limits);
+
+    return result;
+  }
+
+  private EvaluationLimitExceededError collectionSizeExceeded(AExpression expression, EvaluationLimits limits) {
+    return new EvaluationLimitExceededError(
+      expression, EvaluationLimitExceededError.Limit.COLLECTION_SIZE,
+      "The resulting collection exceeds the maximum size of " + limits.getMaxCollectionSize()
+    );
+  }
+
+  private EvaluationLimitExceededError stringLengthExceeded(AExpression expression, long length, EvaluationLimits limits) {
+    return new EvaluationLimitExceededError(
+      expression, EvaluationLimitExceededError.Limit.STRING_LENGTH,
+      "The string of length " + length + " exceeds the maximum length of " + limits.getMaxStringLength()
+    );
+  }
+
   /**
    * Tries to look up a function within the provided environments based on an identifier
    * @param evaluationEnvironment Evaluation environment to look in
@@ -624,8 +1194,8 @@ public class Interpreter {
 
     logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Looking up function " + symbol);
 
-    AExpressionFunction stdFunction = standardFunctionRegistry.lookup(symbol);
-    if (stdFunction != null) {
+    AStandardFunction stdFunction = standardFunctionRegistry.lookup(symbol);
+    if (stdFunction != null && !stdFunction.isShadowable()) {
       logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Resolved standard function");
       return stdFunction;
     }
@@ -640,9 +1210,25 @@ public class Interpreter {
       return interpretationEnvironment.getFunctions().get(symbol);
     }
 
+    if (stdFunction != null) {
+      logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Resolved shadowable standard function");
+      return stdFunction;
+    }
+
     return null;
   }
 
+  /**
+   * Checks whether the provided identifier names a standard function which
+   * cannot be shadowed by functions of the evaluation- or interpretation environment
+   * @param identifier Identifier to check
+   * @return True if the name is reserved for a standard function
+   */
+  private boolean isUnshadowableStandardFunction(String identifier) {
+    AStandardFunction stdFunction = standardFunctionRegistry.lookup(identifier);
+    return stdFunction != null && !stdFunction.isShadowable();
+  }
+
   /**
    * Tries to look up a variable within the provided environments based on an identifier
    * @param evaluationEnvironment Evaluation environment to look in
@@ -665,12 +1251,59 @@ public class Interpreter {
 
       logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Resolved static variable value: " + value);
 
+      if (interpretationEnvironment.getReactiveExpression() != null)
+        interpretationEnvironment.getReactiveExpression().recordVariableRead(symbol);
+
       return value;
     }
 
     Supplier<?> valueSupplier = evaluationEnvironment.getLiveVariables().get(symbol);
-    if (valueSupplier != null) {
-      Object value = valueSupplier.get();
+    Supplier<? extends CompletableFuture<?>> asyncValueSupplier = null;
+
+    if (valueSupplier == null)
+      asyncValueSupplier = evaluationEnvironment.getAsyncLiveVariables().get(symbol);
+
+    if (valueSupplier != null || asyncValueSupplier != null) {
+      if (interpretationEnvironment.getReactiveExpression() != null)
+        interpretationEnvironment.getReactiveExpression().recordVariableRead(symbol);
+
+      boolean isCacheable = (
+        evaluationEnvironment.isLiveVariableCachingEnabled() &&
+        !evaluationEnvironment.getVolatileLiveVariables().contains(symbol)
+      );
+
+      Map<String, Object> liveVariableValues = interpretationEnvironment.getLiveVariableValues();
+
+      // Already resolved within this session
+      if (isCacheable && liveVariableValues.containsKey(symbol)) {
+        Object value = liveVariableValues.get(symbol);
+
+        logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Resolved cached dynamic variable value: " + value);
+
+        return value;
+      }
+
+      Object value;
+      AsyncEvaluation asyncEvaluation = interpretationEnvironment.getAsyncEvaluation();
+
+      // Later passes of an asynchronous evaluation reuse the values read by previous passes
+      if (valueSupplier != null && asyncEvaluation != null)
+        value = asyncEvaluation.replayCall(identifier, symbol, valueSupplier::get);
+
+      else if (valueSupplier != null)
+        value = valueSupplier.get();
+
+      // Yields a pending placeholder if the value is not yet available
+      else if (asyncEvaluation != null)
+        value = asyncEvaluation.resolveVariable(symbol, asyncValueSupplier);
+
+      // Synchronous evaluations have to wait for the value
+      else
+        value = asyncValueSupplier.get().join();
+
+      // Placeholders have to be read again, so that readers know that they depend on a pending value
+      if (isCacheable && value != AsyncEvaluation.PENDING)
+        liveVariableValues.put(symbol, value);
 
       logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Resolved dynamic variable value: " + value);
 
@@ -682,9 +1315,162 @@ public class Interpreter {
 
       logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Resolved interpretation environment variable value: " + value);
 
+      if (interpretationEnvironment.getReactiveExpression() != null)
+        interpretationEnvironment.getReactiveExpression().recordLocalVariableRead(symbol);
+
       return value;
     }
 
     throw new UndefinedVariableError(identifier);
   }
-}
\ No newline at end of file
+
+  /**
+   * Java endpoint of a callback expression, which is called by java every time the callback is invoked
+   */
+  class CallbackFunction extends AExpressionFunction {
+
+    private final CallbackExpression callbackExpression;
+    private final Map<String, Object> capturedVariables;
+    private final InterpretationEnvironment interpretationEnvironment;
+
+    private CallbackFunction(
+      CallbackExpression callbackExpression,
+      IEvaluationEnvironment definingEnvironment,
+      InterpretationEnvironment interpretationEnvironment
+    ) {
+      this.callbackExpression = callbackExpression;
+      this.interpretationEnvironment = interpretationEnvironment;
+
+      // Callbacks defined within the body of another callback capture it's signature's variables
+      this.capturedVariables = definingEnvironment instanceof CallbackEnvironment ? ((CallbackEnvironment) definingEnvironment).signatureVariables : Collections.emptyMap();
+    }
+
+    /**
+     * Get a value which is equal for all instances of the same callback expression
+     * which captured the same variables, regardless of when they have been created
+     */
+    Object getIdentity() {
+      return Arrays.asList(callbackExpression, capturedVariables);
+    }
+
+    @Override
+    public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+      // Copy the static variable table and extend it below
+      Map<String, Object> combinedVariables = new HashMap<>(environment.getStaticVariables());
+      Map<String, Object> signatureVariables = new HashMap<>(capturedVariables);
+
+      // Map all identifiers from the callback's signature to a matching java argument in sequence
+      // If there are more arguments in the signature than provided by java, they'll just be set to null
+      for (int i = 0; i < callbackExpression.getSignature().size(); i++) {
+        String variableIdentifier = callbackExpression.getSignature().get(i).getSymbol();
+        Object variableValue = i < args.size() ? args.get(i) : null;
+
+        // Parameters may be accessed any number of times
+        if (variableValue instanceof LazySequence)
+          ((LazySequence) variableValue).share();
+
+        logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Adding " + variableIdentifier + "=" + variableValue + " to a callback's environment");
+        combinedVariables.put(variableIdentifier, variableValue);
+        signatureVariables.put(variableIdentifier, variableValue);
+      }
+
+      logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Evaluating a callback's body");
+
+      ReactiveExpression reactiveExpression = interpretationEnvironment.getReactiveExpression();
+
+      // Callback bodies are evaluated with changing arguments, so their nodes may never be cached
+      if (reactiveExpression != null)
+        reactiveExpression.enterCallback(callbackExpression.getSignature());
+
+      // Callback expressions are evaluated within their own environment, which extends the current environment
+      // by the additional variables coming from the arguments passed by the callback caller
+      Object result;
+
+      try {
+        result = evaluateExpressionSub(
+          callbackExpression.getBody(),
+          new CallbackEnvironment(environment, combinedVariables, signatureVariables),
+          interpretationEnvironment
+        );
+      } finally {
+        if (reactiveExpression != null)
+          reactiveExpression.exitCallback();
+      }
+
+      logger.log(Level.FINEST, () -> DebugLogSource.INTERPRETER + "Callback result=" + result);
+      return result;
+    }
+
+    @Override
+    public @Nullable List<ExpressionFunctionArgument> getArguments() {
+      return null;
+    }
+
+    @Override
+    public boolean isPure() {
+      // Whatever the body reads or invokes is tracked while it's being evaluated
+      return true;
+    }
+  }
+
+  /**
+   * Environment of a callback's body, which extends the environment the callback
+   * has been invoked within by the variables of the callback's signature
+   */
+  private static class CallbackEnvironment implements IEvaluationEnvironment {
+
+    private final IEvaluationEnvironment environment;
+    private final Map<String, Object> combinedVariables;
+    private final Map<String, Object> signatureVariables;
+
+    private CallbackEnvironment(
+      IEvaluationEnvironment environment,
+      Map<String, Object> combinedVariables,
+      Map<String, Object> signatureVariables
+    ) {
+      this.environment = environment;
+      this.combinedVariables = combinedVariables;
+      this.signatureVariables = signatureVariables;
+    }
+
+    @Override
+    public Map<String, AExpressionFunction> getFunctions() {
+      return environment.getFunctions();
+    }
+
+    @Override
+    public Map<String, Supplier<?>> getLiveVariables() {
+      return environment.getLiveVariables();
+    }
+
+    @Override
+    public Map<String, Supplier<? extends CompletableFuture<?>>> getAsyncLiveVariables() {
+      return environment.getAsyncLiveVariables();
+    }
+
+    @Override
+    public Map<String, ?> getStaticVariables() {
+      return combinedVariables;
+    }
+
+    @Override
+    public IValueInterpreter getValueInterpreter() {
+      return environment.getValueInterpreter();
+    }
+
+    @Override
+    public @Nullable EvaluationLimits getEvaluationLimits() {
+      return environment.getEvaluationLimits();
+    }
+
+    @Override
+    public boolean isLiveVariableCachingEnabled() {
+      return environment.isLiveVariableCachingEnabled();
+    }
+
+    @Override
+    public Set<String> getVolatileLiveVariables() {
+      return environment.getVolatileLiveVariables();
+    }
+  }
+}
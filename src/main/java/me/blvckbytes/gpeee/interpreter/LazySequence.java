@@ -0,0 +1,461 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.interpreter;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * A sequence of items which are only computed while it's being consumed. Pipeline stages
+ * (mapping, filtering, flattening) pull from the raw items of their upstream, which fuses a whole
+ * chain of stages into a single pass over the source without allocating intermediate collections.
+ * Consumers which stop iterating early also stop the whole pipeline early.
+ *
+ * Only sequences which are accessed directly - as opposed to feeding a stage - keep their items as
+ * they're first computed, so that every item of the consumed sequence - and thereby every callback of
+ * it's pipeline - is computed at most once, no matter how often or in which way it's consumed afterwards.
+ * Sequences which may be both fed into a stage and accessed directly, like those stored in variables,
+ * have to be {@link #share shared}. Instances are not thread-safe, as they're only meant to live
+ * within an evaluation session.
+ */
+public class LazySequence extends AbstractList<Object> implements RandomAccess {
+
+  private final Iterable<?> source;
+  private @Nullable List<Object> computed;
+  private @Nullable Iterator<?> upstream;
+  private boolean exhausted, pulled;
+
+  public LazySequence(Iterable<?> source) {
+    this.source = source;
+  }
+
+  /**
+   * Keeps all items of this sequence as they're first computed, even if a stage pulls from it
+   * later on, as the sequence may be consumed more than once
+   */
+  public void share() {
+    if (computed == null)
+      computed = new ArrayList<>();
+  }
+
+  //=========================================================================//
+  //                             Pipeline Stages                             //
+  //=========================================================================//
+
+  /**
+   * Creates a new sequence which maps every item of the input
+   * @param items Input items, chained onto if they're already lazy
+   * @param mapper Mapper, called with the item and it's index
+   * @return Mapped sequence
+   */
+  public static LazySequence map(Iterable<?> items, BiFunction<Object, Integer, Object> mapper) {
+    return new LazySequence(() -> new Iterator<Object>() {
+
+      private final Iterator<Object> upstream = pull(items);
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return upstream.hasNext();
+      }
+
+      @Override
+      public Object next() {
+        return mapper.apply(upstream.next(), index++);
+      }
+    });
+  }
+
+  /**
+   * Creates a new sequence which only contains items of the input passing the predicate
+   * @param items Input items, chained onto if they're already lazy
+   * @param predicate Predicate, called with the item and it's index
+   * @return Filtered sequence
+   */
+  public static LazySequence filter(Iterable<?> items, BiFunction<Object, Integer, Boolean> predicate) {
+    return new LazySequence(() -> new LookAheadIterator() {
+
+      private final Iterator<Object> upstream = pull(items);
+      private int index;
+
+      @Override
+      protected boolean computeNext() {
+        while (upstream.hasNext()) {
+          Object item = upstream.next();
+
+          if (!predicate.apply(item, index++))
+            continue;
+
+          setNext(item);
+          return true;
+        }
+
+        return false;
+      }
+    });
+  }
+
+  /**
+   * Creates a new sequence which yields the fallback value if this sequence is empty
+   * @param fallback Fallback value to yield as the only item
+   * @return Sequence with fallback
+   */
+  public LazySequence withFallback(Object fallback) {
+    return new LazySequence(() -> {
+      Iterator<Object> upstream = pull(this);
+
+      if (upstream.hasNext())
+        return upstream;
+
+      return Collections.singletonList(fallback).iterator();
+    });
+  }
+
+  /**
+   * Creates a new sequence which throws as soon as it would yield more items than allowed
+   * @param maxSize Maximum number of items to yield
+   * @param onExceeded Supplier of the error to throw once the maximum has been exceeded
+   * @return Bounded sequence
+   */
+  public LazySequence bounded(int maxSize, Supplier<? extends RuntimeException> onExceeded) {
+    return new LazySequence(() -> new Iterator<Object>() {
+
+      private final Iterator<Object> upstream = pull(LazySequence.this);
+      private int count;
+
+      @Override
+      public boolean hasNext() {
+        return upstream.hasNext();
+      }
+
+      @Override
+      public Object next() {
+        if (++count > maxSize)
+          throw onExceeded.get();
+
+        return upstream.next();
+      }
+    });
+  }
+
+  /**
+   * Creates a new sequence which contains all passed items, where collections
+   * are - recursively - flattened into the resulting sequence
+   * @param items Items to flatten
+   * @return Flattened sequence
+   */
+  public static LazySequence flatten(Iterable<?> items) {
+    return new LazySequence(() -> new LookAheadIterator() {
+
+      private final Deque<Iterator<?>> iterators = new ArrayDeque<>(Collections.singleton(pull(items)));
+
+      @Override
+      protected boolean computeNext() {
+        while (!iterators.isEmpty()) {
+          Iterator<?> current = iterators.peek();
+
+          // Done with this level, continue at the parent
+          if (!current.hasNext()) {
+            iterators.pop();
+            continue;
+          }
+
+          Object item = current.next();
+
+          // Descend into the collection
+          if (item instanceof Collection) {
+            iterators.push(pull((Collection<?>) item));
+            continue;
+          }
+
+          setNext(item);
+          return true;
+        }
+
+        return false;
+      }
+    });
+  }
+
+  //=========================================================================//
+  //                              Materialization                            //
+  //=========================================================================//
+
+  /**
+   * Computes all remaining items of this sequence, which are kept for all further accesses
+   * @return Unmodifiable list of all items
+   */
+  public List<Object> materialize() {
+    computeUntil(Integer.MAX_VALUE);
+    return Collections.unmodifiableList(computed);
+  }
+
+  /**
+   * Computes all remaining items of this sequence and copies them into a new list
+   * @return Mutable list of all items
+   */
+  public List<Object> toList() {
+    computeUntil(Integer.MAX_VALUE);
+    return new ArrayList<>(computed);
+  }
+
+  /**
+   * Replaces all lazy sequences within a value - be it the value itself, or items of
+   * lists and values of maps, recursively - by lists of their items, copying only those
+   * containers which actually held a sequence. This way, no part of a value which leaves
+   * an evaluation session will ever compute items outside of it.
+   * @param value Value to materialize
+   * @return Value without any lazy sequences
+   */
+  public static Object materializeDeep(Object value) {
+    return materializeDeep(value, Collections.newSetFromMap(new IdentityHashMap<>()));
+  }
+
+  private static Object materializeDeep(Object value, Set<Object> visited) {
+    if (value instanceof LazySequence)
+      value = ((LazySequence) value).toList();
+
+    else if (!(value instanceof List || value instanceof Map))
+      return value;
+
+    // Containers which reference themselves have already been handled further up
+    if (!visited.add(value))
+      return value;
+
+    if (value instanceof List) {
+      List<?> list = (List<?>) value;
+      List<Object> result = null;
+
+      int index = 0;
+      for (Object item : list) {
+        Object materializedItem = materializeDeep(item, visited);
+
+        // Copy all preceding items on the first change
+        if (materializedItem != item && result == null)
+          result = new ArrayList<>(list.subList(0, index));
+
+        if (result != null)
+          result.add(materializedItem);
+
+        ++index;
+      }
+
+      return result == null ? list : result;
+    }
+
+    Map<?, ?> map = (Map<?, ?>) value;
+    Map<Object, Object> result = null;
+
+    for (Map.Entry<?, ?> entry : map.entrySet()) {
+      Object materializedValue = materializeDeep(entry.getValue(), visited);
+
+      if (materializedValue != entry.getValue() && result == null)
+        result = new LinkedHashMap<>(map);
+
+      if (result != null)
+        result.put(entry.getKey(), materializedValue);
+    }
+
+    return result == null ? map : result;
+  }
+
+  /**
+   * Get an iterator over the raw items of a stage's input, which only goes through the
+   * buffer of a lazy input if that's already in use
+   * @param items Input items
+   * @return Iterator over all items
+   */
+  @SuppressWarnings("unchecked")
+  private static Iterator<Object> pull(Iterable<?> items) {
+    // Items are only ever read, so any iterator can be viewed as an iterator of objects
+    if (!(items instanceof LazySequence))
+      return (Iterator<Object>) items.iterator();
+
+    LazySequence sequence = (LazySequence) items;
+
+    // Only a single stage may take over the items of a sequence which hasn't been accessed directly,
+    // while all further consumers have to go through the buffer
+    if (sequence.computed == null && !sequence.pulled) {
+      sequence.pulled = true;
+      return (Iterator<Object>) sequence.source.iterator();
+    }
+
+    return sequence.iterator();
+  }
+
+  /**
+   * Computes items until the item at the given index is known or the upstream is exhausted
+   * @param index Index of the item which is required to be computed
+   */
+  private void computeUntil(int index) {
+    if (computed == null)
+      computed = new ArrayList<>();
+
+    if (exhausted || index < computed.size())
+      return;
+
+    if (upstream == null)
+      upstream = source.iterator();
+
+    while (computed.size() <= index) {
+      if (!upstream.hasNext()) {
+        exhausted = true;
+        upstream = null;
+        return;
+      }
+
+      computed.add(upstream.next());
+    }
+  }
+
+  //=========================================================================//
+  //                                   List                                  //
+  //=========================================================================//
+
+  @Override
+  public Iterator<Object> iterator() {
+    return new Iterator<Object>() {
+
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        computeUntil(index);
+        return index < computed.size();
+      }
+
+      @Override
+      public Object next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+
+        return computed.get(index++);
+      }
+    };
+  }
+
+  /**
+   * Checks whether this sequence has an item at the given index, while only
+   * computing items up until that index
+   * @param index Index to check
+   * @return True if there's an item at the index
+   */
+  public boolean hasIndex(int index) {
+    if (index < 0)
+      return false;
+
+    computeUntil(index);
+    return index < computed.size();
+  }
+
+  @Override
+  public Object get(int index) {
+    if (index >= 0) {
+      // Only compute items up until the requested index
+      computeUntil(index);
+
+      if (index < computed.size())
+        return computed.get(index);
+    }
+
+    throw new IndexOutOfBoundsException("Index: " + index);
+  }
+
+  @Override
+  public int size() {
+    computeUntil(Integer.MAX_VALUE);
+    return computed.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    computeUntil(0);
+    return computed.isEmpty();
+  }
+
+  @Override
+  public ListIterator<Object> listIterator(int index) {
+    return materialize().listIterator(index);
+  }
+
+  @Override
+  public List<Object> subList(int fromIndex, int toIndex) {
+    return materialize().subList(fromIndex, toIndex);
+  }
+
+  @Override
+  public Object[] toArray() {
+    return materialize().toArray();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] a) {
+    return materialize().toArray(a);
+  }
+
+  /**
+   * Iterator base for stages which need to look ahead in order to decide whether there's a next item
+   */
+  private static abstract class LookAheadIterator implements Iterator<Object> {
+
+    private Object next;
+    private boolean hasComputedNext, hasNext;
+
+    /**
+     * Tries to compute the next item and passes it to {@link #setNext(Object)}
+     * @return True if there was a next item, false if the end has been reached
+     */
+    protected abstract boolean computeNext();
+
+    protected void setNext(Object next) {
+      this.next = next;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (!hasComputedNext) {
+        hasNext = computeNext();
+        hasComputedNext = true;
+      }
+
+      return hasNext;
+    }
+
+    @Override
+    public Object next() {
+      if (!hasNext())
+        throw new NoSuchElementException();
+
+      hasComputedNext = false;
+
+      Object result = next;
+      next = null;
+      return result;
+    }
+  }
+}
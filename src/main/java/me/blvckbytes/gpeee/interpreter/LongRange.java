@@ -0,0 +1,224 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.interpreter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * An immutable, inclusive range of consecutive whole numbers which is only backed by it's bounds,
+ * so that it costs constant memory no matter how many numbers it spans. Sizes, lookups and
+ * containment checks are answered arithmetically, while items are boxed on access only.
+ */
+public final class LongRange extends AbstractList<Object> implements RandomAccess {
+
+  private final long first, last;
+  private final long length;
+
+  /**
+   * Create a new range, which is empty if the end lies before the start
+   * @param start First number of the range
+   * @param end Last number of the range
+   */
+  public LongRange(long start, long end) {
+    this.first = start;
+    this.last = end;
+
+    if (end < start)
+      this.length = 0;
+
+    // The distance between far apart bounds exceeds the range of a long
+    else if (end - start < 0 || end - start == Long.MAX_VALUE)
+      this.length = Long.MAX_VALUE;
+
+    else
+      this.length = end - start + 1;
+  }
+
+  /**
+   * Get the number at a given position of this range
+   * @param index Position, which may exceed the integer range
+   * @return Number at the position
+   * @throws IndexOutOfBoundsException The position is not within this range
+   */
+  public long getAt(long index) {
+    if (index < 0 || index >= length)
+      throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+
+    return first + index;
+  }
+
+  /**
+   * Get the number of items within this range, which - unlike {@link #size()} - isn't capped
+   */
+  public long getLength() {
+    return length;
+  }
+
+  /**
+   * Get the first and thereby smallest number of this range
+   * @throws NoSuchElementException The range is empty
+   */
+  public long getFirst() {
+    if (length == 0)
+      throw new NoSuchElementException();
+
+    return first;
+  }
+
+  /**
+   * Get the last and thereby largest number of this range
+   * @throws NoSuchElementException The range is empty
+   */
+  public long getLast() {
+    if (length == 0)
+      throw new NoSuchElementException();
+
+    return last;
+  }
+
+  //=========================================================================//
+  //                                   List                                  //
+  //=========================================================================//
+
+  @Override
+  public Object get(int index) {
+    return getAt(index);
+  }
+
+  @Override
+  public int size() {
+    return (int) Math.min(length, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return length == 0;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return positionOf(o) >= 0;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    long position = positionOf(o);
+    return position > Integer.MAX_VALUE ? -1 : (int) position;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    // Every number occurs at most once
+    return indexOf(o);
+  }
+
+  /**
+   * Get the position of a number within this range
+   * @param o Number to locate
+   * @return Position, -1 if the value is not a whole number within this range
+   */
+  private long positionOf(Object o) {
+    if (!(o instanceof Number) || length == 0)
+      return -1;
+
+    Number number = (Number) o;
+    long value;
+
+    if (o instanceof Long || o instanceof Integer || o instanceof Short || o instanceof Byte)
+      value = number.longValue();
+
+    else if (o instanceof Double || o instanceof Float) {
+      double doubleValue = number.doubleValue();
+
+      // Only whole numbers can be a member
+      if (doubleValue != Math.rint(doubleValue) || Math.abs(doubleValue) >= 0x1p63)
+        return -1;
+
+      value = (long) doubleValue;
+    }
+
+    else if (o instanceof BigInteger || o instanceof BigDecimal) {
+      try {
+        value = o instanceof BigInteger ? ((BigInteger) o).longValueExact() : ((BigDecimal) o).longValueExact();
+      } catch (ArithmeticException e) {
+        return -1;
+      }
+    }
+
+    else
+      return -1;
+
+    if (value < first || value > last)
+      return -1;
+
+    return value - first;
+  }
+
+  @Override
+  public Iterator<Object> iterator() {
+    return new Iterator<Object>() {
+
+      private long index;
+
+      @Override
+      public boolean hasNext() {
+        return index < length;
+      }
+
+      @Override
+      public Object next() {
+        if (index >= length)
+          throw new NoSuchElementException();
+
+        return first + index++;
+      }
+    };
+  }
+
+  @Override
+  public List<Object> subList(int fromIndex, int toIndex) {
+    if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex)
+      throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size());
+
+    return new LongRange(first + fromIndex, first + toIndex - 1);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o instanceof LongRange) {
+      LongRange other = (LongRange) o;
+      return length == other.length && (length == 0 || first == other.first);
+    }
+
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+}
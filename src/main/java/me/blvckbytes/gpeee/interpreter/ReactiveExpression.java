@@ -0,0 +1,312 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.interpreter;
+
+import me.blvckbytes.gpeee.error.AEvaluatorError;
+import me.blvckbytes.gpeee.parser.expression.*;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * An expression bound to an environment which keeps the results of all of it's subtrees
+ * between evaluations, together with the variables (static, live and local) each subtree
+ * read. Once the host signals that specific variables changed, only the subtrees which
+ * depend on them are evaluated again; live variable suppliers of unaffected subtrees are
+ * not even invoked. It is thereby the host's responsibility to signal every change.
+ *
+ * Subtrees which invoke impure functions (see {@link me.blvckbytes.gpeee.functions.AExpressionFunction#isPure()}),
+ * define variables or functions or produce lazy sequences are re-evaluated every time. Nodes
+ * within callback bodies are never cached, as they're evaluated with varying arguments.
+ *
+ * Instances are not thread-safe; evaluate and signal from the same thread.
+ */
+public class ReactiveExpression {
+
+  private final Interpreter interpreter;
+  private final AExpression expression;
+  private final IEvaluationEnvironment environment;
+
+  // Cached subtree results by node identity
+  private final Map<AExpression, CachedResult> cachedResults;
+
+  // Reverse index of variable identifier to all nodes which read it, used for invalidation
+  private final Map<String, Set<AExpression>> dependentsByIdentifier;
+
+  // Dependency frames of all nodes currently being evaluated, innermost on top
+  private final Deque<DependencyFrame> frames;
+
+  // Dependencies of local variables assigned during the current evaluation
+  private final Map<String, DependencyFrame> localVariableFrames;
+
+  // Parameter names of all callbacks currently being evaluated, which shadow environment variables
+  private final Deque<Set<String>> callbackParameters;
+
+  private Set<String> lastDependencies;
+
+  public ReactiveExpression(Interpreter interpreter, AExpression expression, IEvaluationEnvironment environment) {
+    this.interpreter = interpreter;
+    this.expression = expression;
+    this.environment = environment;
+
+    this.cachedResults = new IdentityHashMap<>();
+    this.dependentsByIdentifier = new HashMap<>();
+    this.frames = new ArrayDeque<>();
+    this.localVariableFrames = new HashMap<>();
+    this.callbackParameters = new ArrayDeque<>();
+    this.lastDependencies = Collections.emptySet();
+  }
+
+  //=========================================================================//
+  //                                    API                                  //
+  //=========================================================================//
+
+  /**
+   * Evaluates the expression, only re-evaluating subtrees which have been
+   * invalidated since the last evaluation or which cannot be cached
+   * @return Resulting expression value
+   * @throws AEvaluatorError Error during the interpretation process
+   */
+  public Object evaluate() throws AEvaluatorError {
+    frames.clear();
+    localVariableFrames.clear();
+    callbackParameters.clear();
+
+    return interpreter.evaluateSession(expression, environment, new InterpretationEnvironment(this));
+  }
+
+  /**
+   * Signals that the values of the provided variables changed, which invalidates
+   * all cached subtrees that read any of them
+   * @param identifiers Identifiers of the changed variables
+   */
+  public void signalChanged(String... identifiers) {
+    signalChanged(Arrays.asList(identifiers));
+  }
+
+  /**
+   * Signals that the values of the provided variables changed, which invalidates
+   * all cached subtrees that read any of them
+   * @param identifiers Identifiers of the changed variables
+   */
+  public void signalChanged(Collection<String> identifiers) {
+    for (String identifier : identifiers) {
+      Set<AExpression> dependents = dependentsByIdentifier.remove(identifier.toLowerCase(Locale.ROOT));
+
+      if (dependents == null)
+        continue;
+
+      for (AExpression dependent : dependents)
+        cachedResults.remove(dependent);
+    }
+  }
+
+  /**
+   * Invalidates all cached subtrees, causing a full evaluation next time
+   */
+  public void invalidateAll() {
+    cachedResults.clear();
+    dependentsByIdentifier.clear();
+  }
+
+  /**
+   * Get the identifiers of all environment variables the last evaluation depended on
+   */
+  public Set<String> getDependencies() {
+    return Collections.unmodifiableSet(lastDependencies);
+  }
+
+  public AExpression getExpression() {
+    return expression;
+  }
+
+  //=========================================================================//
+  //                               Internal API                              //
+  //=========================================================================//
+
+  /**
+   * Evaluates a node within it's own dependency frame or responds with it's cached result
+   * @param node Node to evaluate
+   * @param evaluation Evaluation of the node's value
+   * @return Value of the node
+   */
+  Object track(AExpression node, Supplier<Object> evaluation) {
+    // Immediate values have no dependencies and callback expressions only capture
+    // the current session; reads of callback bodies end up in the invoking frame
+    if (
+      !callbackParameters.isEmpty() ||
+      node instanceof LongExpression || node instanceof DoubleExpression ||
+      node instanceof StringExpression || node instanceof LiteralExpression ||
+      node instanceof CallbackExpression
+    )
+      return evaluation.get();
+
+    CachedResult cachedResult = cachedResults.get(node);
+
+    if (cachedResult != null) {
+      DependencyFrame parent = frames.peek();
+
+      if (parent != null)
+        parent.dependencies.addAll(cachedResult.dependencies);
+      else
+        lastDependencies = cachedResult.dependencies;
+
+      return cachedResult.value;
+    }
+
+    DependencyFrame frame = new DependencyFrame();
+    frames.push(frame);
+
+    Object value;
+
+    try {
+      value = evaluation.get();
+
+      // The root's lazy result would only be consumed after leaving it's frame
+      if (frames.size() == 1)
+        value = LazySequence.materializeDeep(value);
+    } finally {
+      frames.pop();
+    }
+
+    if (node instanceof AssignmentExpression) {
+      frame.hasSideEffects = true;
+
+      // Readers of this variable depend on whatever the assigned value depended on
+      String identifier = ((IdentifierExpression) ((AssignmentExpression) node).getLhs()).getSymbol();
+      localVariableFrames.put(identifier.toLowerCase(Locale.ROOT), frame);
+    }
+
+    DependencyFrame parent = frames.peek();
+
+    if (parent != null) {
+      parent.dependencies.addAll(frame.dependencies);
+      parent.isVolatile |= frame.isVolatile;
+      parent.hasSideEffects |= frame.hasSideEffects;
+    }
+    else
+      lastDependencies = frame.dependencies;
+
+    // Lazy sequences are bound to their evaluation session
+    if (frame.isVolatile || frame.hasSideEffects || value instanceof LazySequence)
+      return value;
+
+    cachedResults.put(node, new CachedResult(value, frame.dependencies));
+
+    for (String dependency : frame.dependencies)
+      dependentsByIdentifier.computeIfAbsent(dependency, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(node);
+
+    return value;
+  }
+
+  /**
+   * Records that the currently evaluated node read a static or a live variable
+   * @param identifier Identifier of the variable
+   */
+  void recordVariableRead(String identifier) {
+    DependencyFrame frame = frames.peek();
+
+    if (frame == null)
+      return;
+
+    // Callback arguments are not part of the environment
+    for (Set<String> parameters : callbackParameters) {
+      if (parameters.contains(identifier))
+        return;
+    }
+
+    frame.dependencies.add(identifier);
+  }
+
+  /**
+   * Records that the currently evaluated node read a variable of the interpretation environment
+   * @param identifier Identifier of the variable
+   */
+  void recordLocalVariableRead(String identifier) {
+    DependencyFrame frame = frames.peek();
+
+    if (frame == null)
+      return;
+
+    DependencyFrame variableFrame = localVariableFrames.get(identifier);
+
+    // Unknown origin (assigned within a callback), there's nothing to depend on
+    if (variableFrame == null) {
+      frame.isVolatile = true;
+      return;
+    }
+
+    frame.dependencies.addAll(variableFrame.dependencies);
+    frame.isVolatile |= variableFrame.isVolatile;
+  }
+
+  /**
+   * Records that the currently evaluated node invoked an impure function
+   */
+  void recordImpureCall() {
+    DependencyFrame frame = frames.peek();
+
+    if (frame != null)
+      frame.isVolatile = true;
+  }
+
+  /**
+   * Marks the beginning of a callback body's evaluation
+   * @param signature Parameters of the callback
+   */
+  void enterCallback(List<IdentifierExpression> signature) {
+    Set<String> parameters = new HashSet<>();
+
+    for (IdentifierExpression parameter : signature)
+      parameters.add(parameter.getSymbol().toLowerCase(Locale.ROOT));
+
+    callbackParameters.push(parameters);
+  }
+
+  void exitCallback() {
+    callbackParameters.pop();
+  }
+
+  private static class DependencyFrame {
+    final Set<String> dependencies = new HashSet<>();
+
+    // The value may change without any dependency changing
+    boolean isVolatile;
+
+    // The evaluation altered the interpretation environment and thus has to be repeated
+    boolean hasSideEffects;
+  }
+
+  private static class CachedResult {
+    final @Nullable Object value;
+    final Set<String> dependencies;
+
+    CachedResult(@Nullable Object value, Set<String> dependencies) {
+      this.value = value;
+      this.dependencies = dependencies;
+    }
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.interpreter;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Converters for all types the {@link StandardValueInterpreter} supports out of the box
+ */
+final class StandardValueConverters {
+
+  // Null equals zero and false
+  static final IValueConverter<Object> NULL = value -> 0;
+
+  static final IValueConverter<Boolean> BOOLEAN = new IValueConverter<Boolean>() {
+    @Override
+    public long asLong(Boolean value) {
+      return value ? 1 : 0;
+    }
+
+    @Override
+    public boolean asBoolean(Boolean value) {
+      return value;
+    }
+  };
+
+  static final IValueConverter<Long> LONG = new IValueConverter<Long>() {
+    @Override
+    public long asLong(Long value) {
+      return value;
+    }
+
+    @Override
+    public double asDouble(Long value) {
+      return value;
+    }
+
+    @Override
+    public boolean asBoolean(Long value) {
+      return value > 0;
+    }
+  };
+
+  // Decimal numbers compare by their double value only if they actually have a decimal part
+  static final IValueConverter<Number> DECIMAL = new IValueConverter<Number>() {
+    @Override
+    public long asLong(Number value) {
+      return value.longValue();
+    }
+
+    @Override
+    public double asDouble(Number value) {
+      return value.doubleValue();
+    }
+
+    @Override
+    public boolean hasDecimalPoint(Number value) {
+      return value.doubleValue() % 1 != 0;
+    }
+  };
+
+  static final IValueConverter<BigDecimal> BIG_DECIMAL = new IValueConverter<BigDecimal>() {
+    @Override
+    public long asLong(BigDecimal value) {
+      return value.longValue();
+    }
+
+    @Override
+    public double asDouble(BigDecimal value) {
+      return value.doubleValue();
+    }
+
+    @Override
+    public boolean hasDecimalPoint(BigDecimal value) {
+      return value.scale() > 0 && value.signum() != 0 && value.stripTrailingZeros().scale() > 0;
+    }
+
+    @Override
+    public boolean asBoolean(BigDecimal value) {
+      return value.signum() > 0;
+    }
+  };
+
+  static final IValueConverter<BigInteger> BIG_INTEGER = new IValueConverter<BigInteger>() {
+    @Override
+    public long asLong(BigInteger value) {
+      return value.longValue();
+    }
+
+    @Override
+    public double asDouble(BigInteger value) {
+      return value.doubleValue();
+    }
+
+    @Override
+    public boolean asBoolean(BigInteger value) {
+      return value.signum() > 0;
+    }
+  };
+
+  static final IValueConverter<Number> NUMBER = new IValueConverter<Number>() {
+    @Override
+    public long asLong(Number value) {
+      return value.longValue();
+    }
+
+    @Override
+    public double asDouble(Number value) {
+      return value.doubleValue();
+    }
+
+    @Override
+    public boolean asBoolean(Number value) {
+      return value.longValue() > 0;
+    }
+  };
+
+  // A string will be zero if blank and one otherwise
+  static final IValueConverter<String> STRING = value -> {
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) != ' ')
+        return 1;
+    }
+    return 0;
+  };
+
+  // Collections, maps and arrays will be zero if empty and one otherwise
+
+  static final IValueConverter<Collection<?>> COLLECTION = value -> value.isEmpty() ? 0 : 1;
+
+  static final IValueConverter<Map<?, ?>> MAP = value -> value.isEmpty() ? 0 : 1;
+
+  static final IValueConverter<Object> ARRAY = value -> Array.getLength(value) == 0 ? 0 : 1;
+
+  // Unknown other values are interpreted as zero
+  static final IValueConverter<Object> UNKNOWN = value -> 0;
+
+  private StandardValueConverters() {}
+
+  /**
+   * Looks up the built-in converter responsible for values of the provided type
+   */
+  static IValueConverter<?> forType(Class<?> type) {
+    if (type == Long.class)
+      return LONG;
+
+    if (type == Double.class || type == Float.class)
+      return DECIMAL;
+
+    if (type == BigDecimal.class)
+      return BIG_DECIMAL;
+
+    if (type == BigInteger.class)
+      return BIG_INTEGER;
+
+    if (Number.class.isAssignableFrom(type))
+      return NUMBER;
+
+    if (type == Boolean.class)
+      return BOOLEAN;
+
+    if (type == String.class)
+      return STRING;
+
+    if (Collection.class.isAssignableFrom(type))
+      return COLLECTION;
+
+    if (Map.class.isAssignableFrom(type))
+      return MAP;
+
+    if (type.isArray())
+      return ARRAY;
+
+    return UNKNOWN;
+  }
+
+  /**
+   * Looks up the converter responsible for values of the provided type among
+   * the registered converters, preferring superclasses over interfaces
+   * @return Registered converter, null if there is none for this type
+   */
+  static @Nullable IValueConverter<?> findRegistered(Class<?> type, Map<Class<?>, IValueConverter<?>> registered) {
+    if (registered.isEmpty())
+      return null;
+
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      IValueConverter<?> converter = registered.get(current);
+      if (converter != null)
+        return converter;
+    }
+
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      for (Class<?> interfaceType : current.getInterfaces()) {
+        IValueConverter<?> converter = findRegistered(interfaceType, registered);
+        if (converter != null)
+          return converter;
+      }
+    }
+
+    return null;
+  }
+}
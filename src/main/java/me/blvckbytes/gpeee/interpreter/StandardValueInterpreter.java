@@ -28,80 +28,87 @@ import me.blvckbytes.gpeee.parser.MathOperation;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
 import java.util.*;
 import java.util.function.BiFunction;
 
 public class StandardValueInterpreter implements IValueInterpreter {
 
-  @Override
-  public boolean asBoolean(@Nullable Object value) {
-    if (value == null)
-      return false;
+  private final @Nullable MathContext mathContext;
+  private final Map<Class<?>, IValueConverter<?>> registeredConverters;
+  private volatile ClassValue<IValueConverter<Object>> converters;
 
-    if (value instanceof Boolean)
-      return ((Boolean) value);
-
-    // Considered true whenever it's integer value is greater than zero
-    return compare(value, 0) > 0;
+  public StandardValueInterpreter() {
+    this(null);
   }
 
-  @Override
-  public long asLong(@Nullable Object value) {
-    if (value == null)
-      return 0;
+  /**
+   * Creates an interpreter which performs math on decimals with arbitrary precision, using
+   * {@link BigDecimal}s and {@link BigInteger}s, while whole numbers stay longs as long as they fit
+   * @param mathContext Context to round decimal results with, null to perform math on doubles
+   */
+  public StandardValueInterpreter(@Nullable MathContext mathContext) {
+    this.mathContext = mathContext;
+    this.registeredConverters = new HashMap<>();
+    this.converters = createConverterTable();
+  }
 
-    if (value instanceof Long)
-      return ((Long) value);
+  public @Nullable MathContext getMathContext() {
+    return mathContext;
+  }
 
-    // Is a boolean, true equals one, false zero
-    if (value instanceof Boolean)
-      return ((Boolean) value) ? 1 : 0;
+  @Override
+  public boolean isArbitraryPrecision() {
+    return mathContext != null;
+  }
 
-    // Is any other number, get it's value as a long
-    if (value instanceof Number)
-      return ((Number) value).longValue();
+  /**
+   * Registers a converter for values of the provided type and all of it's subtypes, which takes
+   * precedence over the built-in conversions as well as converters registered for it's supertypes
+   * @param type Type of values to convert
+   * @param converter Converter to use for these values
+   */
+  public synchronized <T> void registerConverter(Class<T> type, IValueConverter<? super T> converter) {
+    registeredConverters.put(type, converter);
 
-    // A collection will be zero if empty and one otherwise
-    if (value instanceof Collection)
-      return ((Collection<?>) value).size() == 0 ? 0 : 1;
+    // Lookups which have already been cached might be affected, so start over
+    converters = createConverterTable();
+  }
 
-    // A map will be zero if empty and one otherwise
-    if (value instanceof Map)
-      return ((Map<?, ?>) value).size() == 0 ? 0 : 1;
+  private ClassValue<IValueConverter<Object>> createConverterTable() {
+    Map<Class<?>, IValueConverter<?>> registered = new HashMap<>(registeredConverters);
 
-    // An array will be zero if empty and one otherwise
-    if (value.getClass().isArray())
-      return Array.getLength(value) == 0 ? 0 : 1;
+    return new ClassValue<IValueConverter<Object>>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      protected IValueConverter<Object> computeValue(Class<?> type) {
+        IValueConverter<?> converter = StandardValueConverters.findRegistered(type, registered);
+        return (IValueConverter<Object>) (converter != null ? converter : StandardValueConverters.forType(type));
+      }
+    };
+  }
 
-    // A string will be zero if blank and one otherwise
-    if (value instanceof String)
-      return isBlank((String) value) ? 0 : 1;
+  private IValueConverter<Object> converterOf(@Nullable Object value) {
+    if (value == null)
+      return StandardValueConverters.NULL;
+    return converters.get(value.getClass());
+  }
 
-    // Unknown other value, interpret as zero
-    return 0;
+  @Override
+  public boolean asBoolean(@Nullable Object value) {
+    return converterOf(value).asBoolean(value);
   }
 
-  private boolean isBlank(String input) {
-    for (char c : input.toCharArray())
-      if (c != ' ')
-        return false;
-    return true;
+  @Override
+  public long asLong(@Nullable Object value) {
+    return converterOf(value).asLong(value);
   }
 
   @Override
   public double asDouble(@Nullable Object value) {
-    if (value == null)
-      return 0;
-
-    if (value instanceof Double)
-      return ((Double) value);
-
-    // Is any other number, get it's value as a double
-    if (value instanceof Number)
-      return ((Number) value).doubleValue();
-
-    // Interpret as long and implicitly cast to a double
-    return asLong(value);
+    return converterOf(value).asDouble(value);
   }
 
   @Override
@@ -112,42 +119,141 @@ public class StandardValueInterpreter implements IValueInterpreter {
     if (value instanceof String)
       return ((String) value);
 
-    // Transform a map to a list of it's entries
+    // Never use scientific notation for decimals
+    if (value instanceof BigDecimal)
+      return ((BigDecimal) value).toPlainString();
+
+    if (value instanceof Map || value instanceof Map.Entry || value instanceof Collection<?> || value.getClass().isArray()) {
+      StringBuilder result = new StringBuilder();
+      appendString(result, value);
+      return result.toString();
+    }
+
+    return value.toString();
+  }
+
+  /**
+   * Appends the string representation of a value to a builder which is shared
+   * among all nested values, in order to avoid building intermediate strings
+   */
+  private void appendString(StringBuilder result, @Nullable Object value) {
+    // Maps are represented as a list of their entries
     if (value instanceof Map) {
-      Map<?, ?> map = (Map<?, ?>) value;
-      return asString(new ArrayList<>(map.entrySet()));
+      appendItems(result, ((Map<?, ?>) value).entrySet());
+      return;
     }
 
     // Stringify map entries
     if (value instanceof Map.Entry) {
       Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
-      return "(" + asString(entry.getKey()) + " -> " + asString(entry.getValue()) + ")";
+      result.append('(');
+      appendString(result, entry.getKey());
+      result.append(" -> ");
+      appendString(result, entry.getValue());
+      result.append(')');
+      return;
     }
 
-    if (value instanceof Collection<?> || value.getClass().isArray()) {
-      StringBuilder result = new StringBuilder();
+    // Also streams lazy sequences, as their items are only computed while iterating
+    if (value instanceof Collection<?>) {
+      appendItems(result, (Collection<?>) value);
+      return;
+    }
 
-      if (value.getClass().isArray()) {
-        for (int i = 0; i < Array.getLength(value); i++)
-          result.append(i == 0 ? "" : ", ").append(asString(Array.get(value, i)));
-      }
+    if (value != null && value.getClass().isArray()) {
+      appendArray(result, value);
+      return;
+    }
 
-      else {
-        int i = 0;
-        for (Object item : ((Collection<?>) value)) {
-          result.append(i == 0 ? "" : ", ").append(asString(item));
-          i++;
-        }
-      }
+    result.append(asString(value));
+  }
+
+  private void appendItems(StringBuilder result, Collection<?> items) {
+    result.append('[');
 
-      return "[" + result + "]";
+    boolean first = true;
+    for (Object item : items) {
+      if (!first)
+        result.append(", ");
+
+      appendString(result, item);
+      first = false;
     }
 
-    return value.toString();
+    result.append(']');
+  }
+
+  private void appendArray(StringBuilder result, Object array) {
+    result.append('[');
+
+    // Primitive arrays are appended without boxing their items
+    if (array instanceof int[]) {
+      int[] items = (int[]) array;
+      for (int i = 0; i < items.length; i++)
+        result.append(i == 0 ? "" : ", ").append(items[i]);
+    }
+
+    else if (array instanceof long[]) {
+      long[] items = (long[]) array;
+      for (int i = 0; i < items.length; i++)
+        result.append(i == 0 ? "" : ", ").append(items[i]);
+    }
+
+    else if (array instanceof double[]) {
+      double[] items = (double[]) array;
+      for (int i = 0; i < items.length; i++)
+        result.append(i == 0 ? "" : ", ").append(items[i]);
+    }
+
+    else if (array instanceof float[]) {
+      float[] items = (float[]) array;
+      for (int i = 0; i < items.length; i++)
+        result.append(i == 0 ? "" : ", ").append(items[i]);
+    }
+
+    else if (array instanceof boolean[]) {
+      boolean[] items = (boolean[]) array;
+      for (int i = 0; i < items.length; i++)
+        result.append(i == 0 ? "" : ", ").append(items[i]);
+    }
+
+    else if (array instanceof char[]) {
+      char[] items = (char[]) array;
+      for (int i = 0; i < items.length; i++)
+        result.append(i == 0 ? "" : ", ").append(items[i]);
+    }
+
+    else if (array instanceof byte[]) {
+      byte[] items = (byte[]) array;
+      for (int i = 0; i < items.length; i++)
+        result.append(i == 0 ? "" : ", ").append(items[i]);
+    }
+
+    else if (array instanceof short[]) {
+      short[] items = (short[]) array;
+      for (int i = 0; i < items.length; i++)
+        result.append(i == 0 ? "" : ", ").append(items[i]);
+    }
+
+    else {
+      Object[] items = (Object[]) array;
+      for (int i = 0; i < items.length; i++) {
+        if (i != 0)
+          result.append(", ");
+
+        appendString(result, items[i]);
+      }
+    }
+
+    result.append(']');
   }
 
   @Override
   public List<Object> asCollection(@Nullable Object value) {
+    // Lazy sequences are computed in a single pass
+    if (value instanceof LazySequence)
+      return ((LazySequence) value).toList();
+
     // Collections are just wrapped in arraylists
     if (value instanceof Collection<?>)
       return new ArrayList<>((Collection<?>) value);
@@ -169,9 +275,7 @@ public class StandardValueInterpreter implements IValueInterpreter {
 
   @Override
   public boolean hasDecimalPoint(@Nullable Object value) {
-    if (value instanceof Double || value instanceof Float)
-      return ((Number) value).doubleValue() % 1 != 0;
-    return false;
+    return converterOf(value).hasDecimalPoint(value);
   }
 
   @Override
@@ -231,7 +335,7 @@ public class StandardValueInterpreter implements IValueInterpreter {
       if (cA.size() != cB.size())
         return false;
 
-      return doIterablesContainSameItems(cA, cB, strict, (vA, vB) -> areEqual(vA, vB, strict));
+      return doIterablesContainSameItems(cA, cB, strict, true, (vA, vB) -> areEqual(vA, vB, strict));
     }
 
     // Both values are a map, compare their type and entry sets
@@ -243,7 +347,7 @@ public class StandardValueInterpreter implements IValueInterpreter {
         return false;
 
       return doIterablesContainSameItems(
-        mA.entrySet(), mB.entrySet(), strict,
+        mA.entrySet(), mB.entrySet(), strict, false,
         (vA, vB) -> {
           Map.Entry<?, ?> eA = (Map.Entry<?, ?>) vA, eB = (Map.Entry<?, ?>) vB;
 
@@ -266,7 +370,7 @@ public class StandardValueInterpreter implements IValueInterpreter {
       if (lengthA != Array.getLength(b))
         return false;
 
-      return doIterablesContainSameItems(wrapArrayInIterable(a), wrapArrayInIterable(b), strict, (vA, vB) -> areEqual(vA, vB, strict));
+      return doIterablesContainSameItems(wrapArrayInIterable(a), wrapArrayInIterable(b), strict, true, (vA, vB) -> areEqual(vA, vB, strict));
     }
 
     // Fallback: Compare as integers (in non-strict mode now anyways)
@@ -301,12 +405,13 @@ public class StandardValueInterpreter implements IValueInterpreter {
    * @param iterableA Iterable A
    * @param iterableB Iterable B
    * @param strict Whether to compare sequence order too
+   * @param normalize Whether items may be matched up by their normalized keys if not in strict mode
    * @param comparator External value comparator function
    * @return True if all items that are available in A are also available in B
    */
   private boolean doIterablesContainSameItems(
     Iterable<?> iterableA, Iterable<?> iterableB,
-    boolean strict, BiFunction<Object, Object, Boolean> comparator
+    boolean strict, boolean normalize, BiFunction<Object, Object, Boolean> comparator
   ) {
 
     // Check items in order
@@ -329,24 +434,40 @@ public class StandardValueInterpreter implements IValueInterpreter {
 
     // Check items while ignoring order
 
-    // Keep track of matched indices in the B iterator
-    // to not match the same "slot" twice
-    List<Integer> matchedBIndices = new ArrayList<>();
+    List<Object> remainingA = new ArrayList<>(), remainingB = new ArrayList<>();
 
-    for (Object valueA : iterableA) {
-      Iterator<?> iterB = iterableB.iterator();
+    Boolean normalizedMatch = normalize ? matchNormalizedItems(iterableA, iterableB, remainingA, remainingB) : null;
+
+    if (normalizedMatch != null) {
+      // Normalized items are only ever equal to items of the same key
+      if (!normalizedMatch || remainingA.size() != remainingB.size())
+        return false;
+    }
+
+    else {
+      remainingA.clear();
+      remainingB.clear();
+
+      for (Object valueA : iterableA)
+        remainingA.add(valueA);
+
+      for (Object valueB : iterableB)
+        remainingB.add(valueB);
+    }
+
+    // Keep track of matched indices in B to not match the same "slot" twice
+    boolean[] matchedB = new boolean[remainingB.size()];
+
+    for (Object valueA : remainingA) {
       boolean anyMatched = false;
 
-      int indexB = 0;
-      while (iterB.hasNext()) {
-        // An item mismatched
-        if (!comparator.apply(valueA, iterB.next()) || matchedBIndices.contains(indexB)) {
-          ++indexB;
+      for (int indexB = 0; indexB < matchedB.length; indexB++) {
+        // Already matched or an item mismatched
+        if (matchedB[indexB] || !comparator.apply(valueA, remainingB.get(indexB)))
           continue;
-        }
 
         anyMatched = true;
-        matchedBIndices.add(indexB);
+        matchedB[indexB] = true;
         break;
       }
 
@@ -357,56 +478,335 @@ public class StandardValueInterpreter implements IValueInterpreter {
     return true;
   }
 
-  @Override
-  public Object performMath(@Nullable Object a, @Nullable Object b, MathOperation operation) {
-    switch (operation) {
-      case ADDITION: {
-        if (hasDecimalPoint(a) || hasDecimalPoint(b))
-          return asDouble(a) + asDouble(b);
-        return asLong(a) + asLong(b);
+  /**
+   * Matches up the items of two iterables as multisets of their normalized keys, while collecting all items
+   * which have no key or remained unmatched. Strings are keyed by their trimmed and case folded contents and
+   * numbers by their value, where strings containing digits stay unkeyed if there are also numbers, as they
+   * might equal them. All other values - like null, booleans or collections - may equal numbers as well as
+   * strings, in which case normalization is not possible at all.
+   * @return Whether all normalized items of A matched, null if the items cannot be normalized
+   */
+  private @Nullable Boolean matchNormalizedItems(
+    Iterable<?> iterableA, Iterable<?> iterableB,
+    List<Object> remainingA, List<Object> remainingB
+  ) {
+    boolean hasNumbers = false, hasStrings = false;
+
+    for (Iterable<?> iterable : new Iterable<?>[] { iterableA, iterableB }) {
+      for (Object value : iterable) {
+        if (value instanceof String)
+          hasStrings = true;
+
+        else if (normalizeNumber(value) != null)
+          hasNumbers = true;
+
+        else
+          return null;
       }
+    }
+
+    Map<Object, int[]> countsByKey = new HashMap<>();
 
-      case SUBTRACTION: {
-        if (hasDecimalPoint(a) || hasDecimalPoint(b))
-          return asDouble(a) - asDouble(b);
-        return asLong(a) - asLong(b);
+    for (Object valueB : iterableB) {
+      Object key = normalizedKey(valueB, hasNumbers, hasStrings);
+
+      if (key == null) {
+        remainingB.add(valueB);
+        continue;
       }
 
-      case MULTIPLICATION: {
-        if (hasDecimalPoint(a) || hasDecimalPoint(b))
-          return asDouble(a) * asDouble(b);
-        return asLong(a) * asLong(b);
+      countsByKey.computeIfAbsent(key, k -> new int[1])[0]++;
+    }
+
+    for (Object valueA : iterableA) {
+      Object key = normalizedKey(valueA, hasNumbers, hasStrings);
+
+      if (key == null) {
+        remainingA.add(valueA);
+        continue;
       }
 
-      case DIVISION: {
-        if (hasDecimalPoint(a) || hasDecimalPoint(b))
-          return asDouble(a) / asDouble(b);
+      int[] count = countsByKey.get(key);
+
+      // There's no item with this key left in B
+      if (count == null || count[0] == 0)
+        return false;
+
+      count[0]--;
+    }
+
+    return true;
+  }
+
+  private @Nullable Object normalizedKey(Object value, boolean hasNumbers, boolean hasStrings) {
+    if (value instanceof String) {
+      String string = ((String) value).trim();
+
+      if (hasNumbers && containsDigit(string))
+        return null;
 
-        long lA = asLong(a), lB = asLong(b);
+      // Folds exactly like equalsIgnoreCase
+      StringBuilder key = new StringBuilder(string.length());
+      string.codePoints().forEach(c -> key.appendCodePoint(Character.toLowerCase(Character.toUpperCase(c))));
+      return key.toString();
+    }
+
+    return hasStrings ? null : normalizeNumber(value);
+  }
+
+  /**
+   * Normalizes a number to a key which equals the key of all numbers it compares equal to,
+   * being a Long for whole and a Double for decimal numbers
+   * @return Normalized key, null if the value is not a number or has no such key
+   */
+  private @Nullable Object normalizeNumber(@Nullable Object value) {
+    if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)
+      return ((Number) value).longValue();
 
-        // Not an even division, use doubles to not truncate the decimal places
-        if (lA % lB > 0)
-          return (double) lA / (double) lB;
+    if (!(value instanceof Double || value instanceof Float))
+      return null;
+
+    double number = ((Number) value).doubleValue();
+
+    if (hasDecimalPoint(value))
+      return number;
+
+    // Negative zero and whole numbers outside of the long range don't compare consistently
+    if (number == 0 && 1 / number < 0 || Math.abs(number) >= 0x1p63)
+      return null;
+
+    return (long) number;
+  }
+
+  private boolean containsDigit(String input) {
+    for (int i = 0; i < input.length(); i++) {
+      if (Character.isDigit(input.charAt(i)))
+        return true;
+    }
+    return false;
+  }
+
+  @Override
+  public Object performMath(@Nullable Object a, @Nullable Object b, MathOperation operation) {
+    if (hasDecimalPoint(a) || hasDecimalPoint(b) || (mathContext != null && (isBigNumber(a) || isBigNumber(b)))) {
+      // Arbitrary precision is only available for finite values
+      if (mathContext != null && isFinite(a) && isFinite(b))
+        return performDecimalMath(asBigDecimal(a), asBigDecimal(b), operation);
+
+      return performDoubleMath(asDouble(a), asDouble(b), operation);
+    }
 
-        return lA / lB;
+    return performLongMath(asLong(a), asLong(b), operation);
+  }
+
+  private Object performLongMath(long a, long b, MathOperation operation) {
+    // Results which overflow are promoted instead of silently wrapping around
+    try {
+      switch (operation) {
+        case ADDITION:
+          return Math.addExact(a, b);
+
+        case SUBTRACTION:
+          return Math.subtractExact(a, b);
+
+        case MULTIPLICATION:
+          return Math.multiplyExact(a, b);
+
+        case DIVISION: {
+          // Not an even division, use decimals to not truncate the decimal places
+          if (mathContext != null && a % b != 0)
+            return performDecimalMath(BigDecimal.valueOf(a), BigDecimal.valueOf(b), operation);
+
+          if (a % b > 0)
+            return (double) a / (double) b;
+
+          // Dividing the smallest long by minus one overflows
+          if (a == Long.MIN_VALUE && b == -1)
+            throw new ArithmeticException("long overflow");
+
+          return a / b;
+        }
+
+        case MODULO:
+          return a % b;
+
+        case POWER: {
+          if (b >= 0)
+            return powerExact(a, b);
+
+          if (mathContext != null)
+            return performDecimalMath(BigDecimal.valueOf(a), BigDecimal.valueOf(b), operation);
+
+          return (long) Math.pow(a, b);
+        }
+
+        // Unknown operation
+        default:
+          return null;
       }
+    } catch (ArithmeticException e) {
+      // Division by zero is not an overflow
+      if (b == 0 && (operation == MathOperation.DIVISION || operation == MathOperation.MODULO))
+        throw e;
+
+      if (mathContext != null)
+        return performDecimalMath(BigDecimal.valueOf(a), BigDecimal.valueOf(b), operation);
+
+      return performDoubleMath(a, b, operation);
+    }
+  }
+
+  /**
+   * Raises a base to a non-negative exponent by repeated squaring
+   * @throws ArithmeticException The result overflows a long
+   */
+  private long powerExact(long base, long exponent) {
+    long result = 1;
+
+    while (exponent > 0) {
+      if ((exponent & 1) == 1)
+        result = Math.multiplyExact(result, base);
+
+      exponent >>= 1;
+
+      // Squaring the base once more than needed may overflow on it's own
+      if (exponent > 0)
+        base = Math.multiplyExact(base, base);
+    }
+
+    return result;
+  }
+
+  private Object performDoubleMath(double a, double b, MathOperation operation) {
+    switch (operation) {
+      case ADDITION:
+        return a + b;
+
+      case SUBTRACTION:
+        return a - b;
+
+      case MULTIPLICATION:
+        return a * b;
+
+      case DIVISION:
+        return a / b;
+
+      case MODULO:
+        return a % b;
+
+      case POWER:
+        return Math.pow(a, b);
+
+      // Unknown operation
+      default:
+        return null;
+    }
+  }
+
+  private Object performDecimalMath(BigDecimal a, BigDecimal b, MathOperation operation) {
+    BigDecimal result;
+
+    // Decimals cannot represent the infinite or undefined results of dividing by zero
+    if (b.signum() == 0 && (operation == MathOperation.DIVISION || operation == MathOperation.MODULO))
+      return performDoubleMath(a.doubleValue(), b.doubleValue(), operation);
+
+    switch (operation) {
+      case ADDITION:
+        result = a.add(b, mathContext);
+        break;
+
+      case SUBTRACTION:
+        result = a.subtract(b, mathContext);
+        break;
+
+      case MULTIPLICATION:
+        result = a.multiply(b, mathContext);
+        break;
+
+      case DIVISION:
+        result = a.divide(b, mathContext);
+        break;
 
       case MODULO: {
-        if (hasDecimalPoint(a) || hasDecimalPoint(b))
-          return asDouble(a) % asDouble(b);
-        return asLong(a) % asLong(b);
+        // The integer quotient has to fit into the context's precision
+        try {
+          result = a.remainder(b, mathContext);
+        } catch (ArithmeticException e) {
+          return performDoubleMath(a.doubleValue(), b.doubleValue(), operation);
+        }
+        break;
       }
 
       case POWER: {
-        if (hasDecimalPoint(a) || hasDecimalPoint(b))
-          return Math.pow(asDouble(a), asDouble(b));
-        return (long) Math.pow(asDouble(a), asDouble(b));
+        // Whole exponents can be computed exactly, all others require roots
+        try {
+          result = a.pow(b.intValueExact(), mathContext);
+        } catch (ArithmeticException e) {
+          return performDoubleMath(a.doubleValue(), b.doubleValue(), operation);
+        }
+        break;
       }
 
       // Unknown operation
       default:
         return null;
     }
+
+    return narrowDecimal(result);
+  }
+
+  /**
+   * Narrows a decimal result down to a long whenever it's a whole number within it's range,
+   * so that decimals only occur where they are actually required
+   */
+  private Object narrowDecimal(BigDecimal value) {
+    if (value.signum() == 0)
+      return 0L;
+
+    BigDecimal stripped = value.stripTrailingZeros();
+
+    if (stripped.scale() > 0)
+      return value;
+
+    BigInteger whole = stripped.toBigIntegerExact();
+
+    if (whole.bitLength() < Long.SIZE)
+      return whole.longValue();
+
+    return whole;
+  }
+
+  private boolean isBigNumber(@Nullable Object value) {
+    return value instanceof BigDecimal || value instanceof BigInteger;
+  }
+
+  private boolean isFinite(@Nullable Object value) {
+    if (value instanceof Double || value instanceof Float) {
+      double number = ((Number) value).doubleValue();
+      return !(Double.isNaN(number) || Double.isInfinite(number));
+    }
+
+    return true;
+  }
+
+  private BigDecimal asBigDecimal(@Nullable Object value) {
+    if (value instanceof BigDecimal)
+      return (BigDecimal) value;
+
+    if (value instanceof BigInteger)
+      return new BigDecimal((BigInteger) value);
+
+    // Use the shortest representation, so that literals like 0.1 are taken as written
+    if (value instanceof Double)
+      return BigDecimal.valueOf((Double) value);
+
+    if (value instanceof Float)
+      return new BigDecimal(value.toString());
+
+    if (hasDecimalPoint(value))
+      return BigDecimal.valueOf(asDouble(value));
+
+    return BigDecimal.valueOf(asLong(value));
   }
 
   @Override
@@ -417,12 +817,18 @@ public class StandardValueInterpreter implements IValueInterpreter {
     if (a instanceof Comparable && b instanceof Comparable && a.getClass() == b.getClass())
       return ((Comparable<Object>) a).compareTo(b);
 
+    // Numbers of arbitrary precision are compared exactly
+    if (mathContext != null && (isBigNumber(a) || isBigNumber(b)) && isFinite(a) && isFinite(b))
+      return asBigDecimal(a).compareTo(asBigDecimal(b));
+
+    IValueConverter<Object> converterA = converterOf(a), converterB = converterOf(b);
+
     // Doubles cannot be reduced to integers in order to not distort the comparison, so the other value
     // has to be interpreted as a double to allow for same-type comparison
-    if (hasDecimalPoint(a) || hasDecimalPoint(b))
-      return Double.compare(asDouble(a), asDouble(b));
+    if (converterA.hasDecimalPoint(a) || converterB.hasDecimalPoint(b))
+      return Double.compare(converterA.asDouble(a), converterB.asDouble(b));
 
     // The fallback is to always just compare whole numbers
-    return Long.compare(asLong(a), asLong(b));
+    return Long.compare(converterA.asLong(a), converterB.asLong(b));
   }
 }
@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.interpreter;
+
+import me.blvckbytes.gpeee.error.EvaluationLimitExceededError;
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Output of an evaluation which streams it's result, counting all written chars in order
+ * to enforce the string length limit and tunneling I/O errors through the interpreter
+ */
+class StreamingOutput implements Appendable {
+
+  private final Appendable target;
+  private final AExpression rootExpression;
+  private final @Nullable EvaluationLimits limits;
+  private long length;
+
+  StreamingOutput(Appendable target, AExpression rootExpression, @Nullable EvaluationLimits limits) {
+    this.target = target;
+    this.rootExpression = rootExpression;
+    this.limits = limits;
+  }
+
+  @Override
+  public StreamingOutput append(@Nullable CharSequence value) {
+    return append(value == null ? "null" : value, 0, value == null ? 4 : value.length());
+  }
+
+  @Override
+  public StreamingOutput append(@Nullable CharSequence value, int start, int end) {
+    charge(end - start);
+
+    try {
+      target.append(value, start, end);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return this;
+  }
+
+  @Override
+  public StreamingOutput append(char value) {
+    charge(1);
+
+    try {
+      target.append(value);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return this;
+  }
+
+  private void charge(int chars) {
+    length += chars;
+
+    // Check before writing, so that the limit is never exceeded within the target
+    if (limits != null && length > limits.getMaxStringLength()) {
+      throw new EvaluationLimitExceededError(
+        rootExpression, EvaluationLimitExceededError.Limit.STRING_LENGTH,
+        "The string of length " + length + " exceeds the maximum length of " + limits.getMaxStringLength()
+      );
+    }
+  }
+}
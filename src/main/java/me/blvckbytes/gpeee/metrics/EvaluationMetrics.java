@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.metrics;
+
+import java.util.Map;
+
+/**
+ * Immutable snapshot of all metrics an {@link EvaluationMetricsCollector} gathered so far
+ */
+public class EvaluationMetrics {
+
+  private final Map<String, ExpressionMetrics> expressions;
+  private final Map<String, LatencyStatistics> nodeTypes;
+  private final Map<String, Long> functionCalls;
+
+  public EvaluationMetrics(
+    Map<String, ExpressionMetrics> expressions,
+    Map<String, LatencyStatistics> nodeTypes,
+    Map<String, Long> functionCalls
+  ) {
+    this.expressions = expressions;
+    this.nodeTypes = nodeTypes;
+    this.functionCalls = functionCalls;
+  }
+
+  /**
+   * Mapping the source of evaluated root expressions to their metrics
+   */
+  public Map<String, ExpressionMetrics> getExpressions() {
+    return expressions;
+  }
+
+  /**
+   * Mapping simple class names of node types to the inclusive latencies of their evaluations
+   */
+  public Map<String, LatencyStatistics> getNodeTypes() {
+    return nodeTypes;
+  }
+
+  /**
+   * Mapping lower-case function names to the number of invocations
+   */
+  public Map<String, Long> getFunctionCalls() {
+    return functionCalls;
+  }
+
+  public static class ExpressionMetrics {
+
+    private final long failures;
+    private final long allocatedBytes;
+    private final LatencyStatistics latency;
+
+    public ExpressionMetrics(long failures, long allocatedBytes, LatencyStatistics latency) {
+      this.failures = failures;
+      this.allocatedBytes = allocatedBytes;
+      this.latency = latency;
+    }
+
+    /**
+     * Number of evaluations, including failed ones
+     */
+    public long getEvaluations() {
+      return latency.getCount();
+    }
+
+    /**
+     * Number of evaluations which threw an evaluator error
+     */
+    public long getFailures() {
+      return failures;
+    }
+
+    /**
+     * Bytes allocated by the evaluating threads during all evaluations,
+     * or -1 if the JVM doesn't support measuring thread allocations
+     */
+    public long getAllocatedBytes() {
+      return allocatedBytes;
+    }
+
+    public LatencyStatistics getLatency() {
+      return latency;
+    }
+  }
+}
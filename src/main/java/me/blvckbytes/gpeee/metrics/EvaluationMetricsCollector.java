@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.metrics;
+
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe collector of evaluation metrics, which the interpreter feeds while it's installed.
+ * Monitoring may poll {@link #snapshot()} at any time, while evaluations keep on recording.
+ */
+public class EvaluationMetricsCollector {
+
+  private final Map<String, ExpressionCounters> expressions;
+  private final Map<Class<?>, LatencyHistogram> nodeTypes;
+  private final Map<String, LongAdder> functionCalls;
+  private final @Nullable com.sun.management.ThreadMXBean allocationBean;
+
+  public EvaluationMetricsCollector() {
+    this.expressions = new ConcurrentHashMap<>();
+    this.nodeTypes = new ConcurrentHashMap<>();
+    this.functionCalls = new ConcurrentHashMap<>();
+    this.allocationBean = findAllocationBean();
+  }
+
+  /**
+   * Records the evaluation of a root expression
+   * @param expression Root expression
+   * @param nanos Time the evaluation took
+   * @param allocatedBytes Bytes allocated during the evaluation, negative if unknown
+   * @param failed Whether the evaluation threw an evaluator error
+   */
+  public void recordEvaluation(AExpression expression, long nanos, long allocatedBytes, boolean failed) {
+    ExpressionCounters counters = expressions.computeIfAbsent(expression.getFullContainingExpression(), k -> new ExpressionCounters());
+
+    counters.latency.record(nanos);
+
+    if (failed)
+      counters.failures.increment();
+
+    if (allocatedBytes >= 0)
+      counters.allocatedBytes.add(allocatedBytes);
+  }
+
+  /**
+   * Records the evaluation of a single node, including the evaluation of it's descendants
+   * @param expression Evaluated node
+   * @param nanos Time the evaluation took
+   */
+  public void recordNode(AExpression expression, long nanos) {
+    nodeTypes.computeIfAbsent(expression.getClass(), k -> new LatencyHistogram()).record(nanos);
+  }
+
+  /**
+   * Records the invocation of a function
+   * @param name Lower-case name of the function
+   */
+  public void recordFunctionCall(String name) {
+    functionCalls.computeIfAbsent(name, k -> new LongAdder()).increment();
+  }
+
+  /**
+   * Get the number of bytes the current thread allocated so far, or -1 if unsupported
+   */
+  public long currentThreadAllocatedBytes() {
+    if (allocationBean == null)
+      return -1;
+
+    return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * Creates an immutable snapshot of all metrics recorded so far
+   */
+  public EvaluationMetrics snapshot() {
+    Map<String, EvaluationMetrics.ExpressionMetrics> expressionMetrics = new HashMap<>();
+
+    for (Map.Entry<String, ExpressionCounters> entry : expressions.entrySet()) {
+      ExpressionCounters counters = entry.getValue();
+
+      expressionMetrics.put(entry.getKey(), new EvaluationMetrics.ExpressionMetrics(
+        counters.failures.sum(),
+        allocationBean == null ? -1 : counters.allocatedBytes.sum(),
+        counters.latency.snapshot()
+      ));
+    }
+
+    Map<String, LatencyStatistics> nodeTypeMetrics = new HashMap<>();
+
+    for (Map.Entry<Class<?>, LatencyHistogram> entry : nodeTypes.entrySet())
+      nodeTypeMetrics.put(entry.getKey().getSimpleName(), entry.getValue().snapshot());
+
+    Map<String, Long> functionCallMetrics = new HashMap<>();
+
+    for (Map.Entry<String, LongAdder> entry : functionCalls.entrySet())
+      functionCallMetrics.put(entry.getKey(), entry.getValue().sum());
+
+    return new EvaluationMetrics(expressionMetrics, nodeTypeMetrics, functionCallMetrics);
+  }
+
+  /**
+   * Discards all metrics recorded so far
+   */
+  public void reset() {
+    expressions.clear();
+    nodeTypes.clear();
+    functionCalls.clear();
+  }
+
+  private static @Nullable com.sun.management.ThreadMXBean findAllocationBean() {
+    try {
+      ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+      if (!(bean instanceof com.sun.management.ThreadMXBean))
+        return null;
+
+      com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+
+      if (!allocationBean.isThreadAllocatedMemorySupported() || !allocationBean.isThreadAllocatedMemoryEnabled())
+        return null;
+
+      return allocationBean;
+    }
+
+    // Not available on this JVM
+    catch (Throwable e) {
+      return null;
+    }
+  }
+
+  private static class ExpressionCounters {
+    final LatencyHistogram latency = new LatencyHistogram();
+    final LongAdder failures = new LongAdder();
+    final LongAdder allocatedBytes = new LongAdder();
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.metrics;
+
+/**
+ * A node of an expression which has been observed by a {@link SamplingProfiler},
+ * described by it's position within the expression's source
+ */
+public class HotSpot {
+
+  private final String source;
+  private final String nodeType;
+  private final int startRow, startCol, endRow, endCol;
+  private final long selfSamples, totalSamples;
+
+  public HotSpot(
+    String source, String nodeType,
+    int startRow, int startCol, int endRow, int endCol,
+    long selfSamples, long totalSamples
+  ) {
+    this.source = source;
+    this.nodeType = nodeType;
+    this.startRow = startRow;
+    this.startCol = startCol;
+    this.endRow = endRow;
+    this.endCol = endCol;
+    this.selfSamples = selfSamples;
+    this.totalSamples = totalSamples;
+  }
+
+  /**
+   * Full source of the expression which contains this node
+   */
+  public String getSource() {
+    return source;
+  }
+
+  /**
+   * Simple class name of the node
+   */
+  public String getNodeType() {
+    return nodeType;
+  }
+
+  /**
+   * Zero based row of the node's first token
+   */
+  public int getStartRow() {
+    return startRow;
+  }
+
+  /**
+   * Zero based column of the node's first token
+   */
+  public int getStartCol() {
+    return startCol;
+  }
+
+  /**
+   * Zero based row of the node's last token
+   */
+  public int getEndRow() {
+    return endRow;
+  }
+
+  /**
+   * Zero based column right after the node's last token
+   */
+  public int getEndCol() {
+    return endCol;
+  }
+
+  /**
+   * Number of samples in which this node has been evaluating itself
+   */
+  public long getSelfSamples() {
+    return selfSamples;
+  }
+
+  /**
+   * Number of samples in which this node or any of it's descendants have been evaluating
+   */
+  public long getTotalSamples() {
+    return totalSamples;
+  }
+
+  /**
+   * Get the part of the source this node spans
+   */
+  public String getExcerpt() {
+    String[] lines = source.split("\n", -1);
+    StringBuilder result = new StringBuilder();
+
+    for (int row = startRow; row <= endRow && row < lines.length; row++) {
+      String line = lines[row];
+      int from = row == startRow ? Math.min(startCol, line.length()) : 0;
+      int to = row == endRow ? Math.min(endCol, line.length()) : line.length();
+
+      if (row != startRow)
+        result.append('\n');
+
+      result.append(line, from, Math.max(from, to));
+    }
+
+    return result.toString();
+  }
+
+  @Override
+  public String toString() {
+    return (
+      nodeType + " " + (startRow + 1) + ":" + (startCol + 1) + "-" + (endRow + 1) + ":" + endCol +
+      " self=" + selfSamples + " total=" + totalSamples + " \"" + getExcerpt() + "\""
+    );
+  }
+}
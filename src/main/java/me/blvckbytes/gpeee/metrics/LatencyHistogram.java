@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram of latencies, which sorts samples into buckets of powers of two
+ * nanoseconds, so that recording is constant in time and space. Percentiles are thereby
+ * approximated by the upper bound of the bucket they fall into.
+ */
+class LatencyHistogram {
+
+  private final AtomicLongArray buckets;
+  private final LongAdder count;
+  private final LongAdder totalNanos;
+  private final LongAccumulator maxNanos;
+
+  LatencyHistogram() {
+    this.buckets = new AtomicLongArray(Long.SIZE);
+    this.count = new LongAdder();
+    this.totalNanos = new LongAdder();
+    this.maxNanos = new LongAccumulator(Math::max, 0);
+  }
+
+  void record(long nanos) {
+    if (nanos < 0)
+      nanos = 0;
+
+    buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(nanos) - (nanos == 0 ? 0 : 1));
+    count.increment();
+    totalNanos.add(nanos);
+    maxNanos.accumulate(nanos);
+  }
+
+  LatencyStatistics snapshot() {
+    long[] counts = new long[buckets.length()];
+    long total = 0;
+
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = buckets.get(i);
+      total += counts[i];
+    }
+
+    long max = maxNanos.get();
+
+    return new LatencyStatistics(
+      total, totalNanos.sum(), max,
+      percentile(counts, total, max, .5),
+      percentile(counts, total, max, .9),
+      percentile(counts, total, max, .99)
+    );
+  }
+
+  private static long percentile(long[] counts, long total, long max, double percentile) {
+    if (total == 0)
+      return 0;
+
+    long rank = (long) Math.ceil(total * percentile), seen = 0;
+
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+
+      // Upper bound of this bucket, which never exceeds the largest recorded value
+      if (seen >= rank)
+        return Math.min(max, i >= Long.SIZE - 2 ? Long.MAX_VALUE : (2L << i) - 1);
+    }
+
+    return max;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.metrics;
+
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+
+import java.util.Arrays;
+
+/**
+ * Stack of the nodes a single thread is currently evaluating, written by that thread
+ * and read by the sampling thread of a {@link SamplingProfiler}. Reads are racy by design,
+ * as a sample may only ever be off by the node which is just being entered or left.
+ */
+public class ProfilerStack {
+
+  private final Thread owner;
+  private volatile AExpression[] nodes;
+  private volatile int depth;
+
+  ProfilerStack(Thread owner) {
+    this.owner = owner;
+    this.nodes = new AExpression[32];
+  }
+
+  public void push(AExpression node) {
+    AExpression[] nodes = this.nodes;
+
+    if (depth == nodes.length) {
+      nodes = Arrays.copyOf(nodes, nodes.length * 2);
+      this.nodes = nodes;
+    }
+
+    nodes[depth] = node;
+    depth = depth + 1;
+  }
+
+  public void pop() {
+    int depth = this.depth - 1;
+    this.depth = depth;
+
+    // Don't keep the node of a left frame reachable, the sampler skips such empty slots
+    nodes[depth] = null;
+  }
+
+  /**
+   * Copies the current stack, root first, for the sampling thread
+   */
+  AExpression[] snapshot() {
+    int depth = this.depth;
+    AExpression[] nodes = this.nodes;
+    return Arrays.copyOf(nodes, Math.min(depth, nodes.length));
+  }
+
+  Thread getOwner() {
+    return owner;
+  }
+}
@@ -0,0 +1,277 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.metrics;
+
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+import me.blvckbytes.gpeee.tokenizer.Token;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Profiler which periodically samples the nodes all threads are currently evaluating and
+ * attributes the samples to the source positions of these nodes. While it's installed and
+ * running, the interpreter maintains a stack of evaluated nodes per thread; otherwise, there's
+ * no overhead at all. Results are available as hot spots or as collapsed stacks, which can be
+ * rendered by common flame graph tools.
+ */
+public class SamplingProfiler {
+
+  private static final int MAX_SOURCE_LABEL_LENGTH = 40;
+
+  private final long intervalNanos;
+  private final Set<ProfilerStack> stacks;
+  private final ThreadLocal<ProfilerStack> currentThreadStack;
+
+  // Guarded by this
+  private final Map<String, Long> collapsedStacks;
+  private final Map<AExpression, long[]> nodeSamples;
+  private long sampleCount;
+  private @Nullable Thread samplingThread;
+
+  private volatile boolean running;
+
+  public SamplingProfiler(long interval, TimeUnit unit) {
+    this.intervalNanos = unit.toNanos(interval);
+    this.stacks = ConcurrentHashMap.newKeySet();
+    this.currentThreadStack = ThreadLocal.withInitial(() -> {
+      ProfilerStack stack = new ProfilerStack(Thread.currentThread());
+      stacks.add(stack);
+      return stack;
+    });
+
+    this.collapsedStacks = new HashMap<>();
+    this.nodeSamples = new IdentityHashMap<>();
+  }
+
+  /**
+   * Starts sampling on a background daemon thread
+   */
+  public synchronized void start() {
+    if (running)
+      return;
+
+    running = true;
+
+    samplingThread = new Thread(() -> {
+      while (running) {
+        try {
+          TimeUnit.NANOSECONDS.sleep(intervalNanos);
+        } catch (InterruptedException e) {
+          break;
+        }
+
+        sample();
+      }
+    }, "GPEEE-Sampling-Profiler");
+
+    samplingThread.setDaemon(true);
+    samplingThread.start();
+  }
+
+  /**
+   * Stops sampling, while keeping all samples taken so far
+   */
+  public void stop() {
+    Thread thread;
+
+    synchronized (this) {
+      if (!running)
+        return;
+
+      running = false;
+      thread = samplingThread;
+      samplingThread = null;
+    }
+
+    if (thread == null)
+      return;
+
+    thread.interrupt();
+
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Get the node stack of the calling thread, which the interpreter pushes evaluated nodes onto
+   */
+  public ProfilerStack getCurrentThreadStack() {
+    return currentThreadStack.get();
+  }
+
+  /**
+   * Takes a single sample of all threads which are currently evaluating
+   */
+  void sample() {
+    for (Iterator<ProfilerStack> iterator = stacks.iterator(); iterator.hasNext();) {
+      ProfilerStack stack = iterator.next();
+
+      if (!stack.getOwner().isAlive()) {
+        iterator.remove();
+        continue;
+      }
+
+      AExpression[] nodes = stack.snapshot();
+
+      if (nodes.length == 0 || nodes[0] == null)
+        continue;
+
+      recordSample(nodes);
+    }
+  }
+
+  private synchronized void recordSample(AExpression[] nodes) {
+    ++sampleCount;
+
+    StringBuilder collapsedStack = new StringBuilder();
+    Set<AExpression> seenNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+    String currentSource = null;
+    AExpression leaf = null;
+
+    for (AExpression node : nodes) {
+      // Racy read of a slot which is just being written
+      if (node == null)
+        break;
+
+      // Nested evaluations of other expressions start out with a frame of their source
+      if (!node.getFullContainingExpression().equals(currentSource)) {
+        currentSource = node.getFullContainingExpression();
+        appendFrame(collapsedStack, createSourceLabel(currentSource));
+      }
+
+      appendFrame(collapsedStack, createNodeLabel(node));
+
+      // Recursive callbacks may visit the same node multiple times per stack
+      if (seenNodes.add(node))
+        nodeSamples.computeIfAbsent(node, k -> new long[2])[1]++;
+
+      leaf = node;
+    }
+
+    if (leaf != null)
+      nodeSamples.get(leaf)[0]++;
+
+    collapsedStacks.merge(collapsedStack.toString(), 1L, Long::sum);
+  }
+
+  /**
+   * Get the number of samples taken while any thread has been evaluating
+   */
+  public synchronized long getSampleCount() {
+    return sampleCount;
+  }
+
+  /**
+   * Get all sampled nodes, ordered by their number of self samples and then by their number of total samples
+   */
+  public synchronized List<HotSpot> getHotSpots() {
+    List<HotSpot> result = new ArrayList<>();
+
+    for (Map.Entry<AExpression, long[]> entry : nodeSamples.entrySet()) {
+      AExpression node = entry.getKey();
+      Token tail = node.getTail();
+
+      result.add(new HotSpot(
+        node.getFullContainingExpression(), node.getClass().getSimpleName(),
+        node.getHead().getRow(), node.getHead().getCol(),
+        tail.getRow(), tail.getCol() + tail.getValue().length(),
+        entry.getValue()[0], entry.getValue()[1]
+      ));
+    }
+
+    result.sort(
+      Comparator.comparingLong(HotSpot::getSelfSamples)
+        .thenComparingLong(HotSpot::getTotalSamples)
+        .reversed()
+    );
+
+    return result;
+  }
+
+  /**
+   * Renders all samples as collapsed stacks, one line per distinct stack followed by it's sample
+   * count, where frames are separated by semicolons. The first frame names the expression's source,
+   * while all following frames are made up of the node type and it's one based row:col span.
+   */
+  public synchronized String dumpCollapsedStacks() {
+    StringBuilder result = new StringBuilder();
+
+    new TreeMap<>(collapsedStacks).forEach((stack, count) -> result.append(stack).append(' ').append(count).append('\n'));
+
+    return result.toString();
+  }
+
+  /**
+   * Discards all samples taken so far
+   */
+  public synchronized void reset() {
+    collapsedStacks.clear();
+    nodeSamples.clear();
+    sampleCount = 0;
+  }
+
+  private static void appendFrame(StringBuilder stack, String frame) {
+    if (stack.length() > 0)
+      stack.append(';');
+
+    stack.append(frame);
+  }
+
+  private static String createNodeLabel(AExpression node) {
+    Token head = node.getHead(), tail = node.getTail();
+
+    return (
+      node.getClass().getSimpleName() + "@" +
+      (head.getRow() + 1) + ":" + (head.getCol() + 1) + "-" +
+      (tail.getRow() + 1) + ":" + (tail.getCol() + tail.getValue().length())
+    );
+  }
+
+  private static String createSourceLabel(String source) {
+    String firstLine = source.trim();
+    int lineEnd = firstLine.indexOf('\n');
+
+    boolean isTruncated = lineEnd >= 0 || firstLine.length() > MAX_SOURCE_LABEL_LENGTH;
+
+    if (lineEnd >= 0)
+      firstLine = firstLine.substring(0, lineEnd);
+
+    if (firstLine.length() > MAX_SOURCE_LABEL_LENGTH)
+      firstLine = firstLine.substring(0, MAX_SOURCE_LABEL_LENGTH);
+
+    // Semicolons separate frames
+    return "[" + firstLine.replace(';', ',').trim() + (isTruncated ? "..." : "") + "]";
+  }
+}
@@ -27,13 +27,21 @@ package me.blvckbytes.gpeee.parser;
 import me.blvckbytes.gpeee.GPEEE;
 import me.blvckbytes.gpeee.Tuple;
 import me.blvckbytes.gpeee.error.AEvaluatorError;
+import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
 import me.blvckbytes.gpeee.functions.IStandardFunctionRegistry;
 import me.blvckbytes.gpeee.functions.std.AStandardFunction;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.IValueInterpreter;
 import me.blvckbytes.gpeee.interpreter.Interpreter;
 import me.blvckbytes.gpeee.logging.DebugLogSource;
 import me.blvckbytes.gpeee.parser.expression.*;
 import org.jetbrains.annotations.Nullable;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -44,10 +52,24 @@ public class Optimizer {
   private final Interpreter interpreter;
   private final IStandardFunctionRegistry standardFunctionRegistry;
 
+  private volatile IEvaluationEnvironment foldingEnvironment;
+
   public Optimizer(Logger logger, Interpreter interpreter, IStandardFunctionRegistry standardFunctionRegistry) {
     this.logger = logger;
     this.interpreter = interpreter;
     this.standardFunctionRegistry = standardFunctionRegistry;
+    this.foldingEnvironment = GPEEE.EMPTY_ENVIRONMENT;
+  }
+
+  /**
+   * Sets the value interpreter static expressions are evaluated with ahead of time, which has to
+   * match the interpreter used at runtime in order for the optimization to not alter any results
+   * @param valueInterpreter Value interpreter to evaluate with
+   */
+  public void setValueInterpreter(IValueInterpreter valueInterpreter) {
+    this.foldingEnvironment = new EvaluationEnvironmentBuilder()
+      .withValueInterpreter(valueInterpreter)
+      .build();
   }
 
   /**
@@ -57,7 +79,117 @@ public class Optimizer {
    */
   public AExpression optimizeAST(AExpression expression) {
     logger.log(Level.FINEST, () -> DebugLogSource.OPTIMIZER + "Starting to optimize the expression " + expression.expressionify());
-    return optimizeASTSub(expression, null);
+    return flattenConcatenations(optimizeASTSub(expression, null));
+  }
+
+  /**
+   * Prepares the constant arguments of all standard function invocations within an AST, as done
+   * while optimizing, which is required for expressions that lost them, like deserialized ones
+   * @param expression Expression (root node of AST) to prepare
+   */
+  public void precompileArguments(AExpression expression) {
+    expression.visit(node -> {
+      if (!(node instanceof FunctionInvocationExpression))
+        return;
+
+      FunctionInvocationExpression invocation = (FunctionInvocationExpression) node;
+      AStandardFunction standardFunction = standardFunctionRegistry.lookup(invocation.getName().getSymbol());
+
+      if (standardFunction != null)
+        precompileArguments(invocation, standardFunction);
+    });
+  }
+
+  /**
+   * Replaces all chains of three or more concatenations by a single node, which evaluates
+   * into one buffer instead of creating an intermediate string per operator
+   * @param expression Expression to flatten
+   * @return Flattened expression
+   */
+  private AExpression flattenConcatenations(AExpression expression) {
+    if (expression instanceof ConcatenationExpression) {
+      List<AExpression> parts = new ArrayList<>();
+      collectConcatenationParts(expression, parts);
+
+      if (parts.size() < 3) {
+        ConcatenationExpression concatenation = (ConcatenationExpression) expression;
+        concatenation.setLhs(parts.get(0));
+        concatenation.setRhs(parts.get(1));
+        return concatenation;
+      }
+
+      logger.log(Level.FINEST, () -> DebugLogSource.OPTIMIZER + "Flattened a chain of " + parts.size() + " concatenations");
+      return new ConcatenationChainExpression(parts, expression.getHead(), expression.getTail(), expression.getFullContainingExpression());
+    }
+
+    if (expression instanceof ProgramExpression) {
+      ((ProgramExpression) expression).getLines().replaceAll(this::flattenConcatenations);
+      return expression;
+    }
+
+    if (expression instanceof ABinaryExpression) {
+      ABinaryExpression binary = (ABinaryExpression) expression;
+      binary.setLhs(flattenConcatenations(binary.getLhs()));
+      binary.setRhs(flattenConcatenations(binary.getRhs()));
+      return binary;
+    }
+
+    if (expression instanceof AUnaryExpression) {
+      AUnaryExpression unary = (AUnaryExpression) expression;
+      unary.setInput(flattenConcatenations(unary.getInput()));
+      return unary;
+    }
+
+    if (expression instanceof CallbackExpression) {
+      CallbackExpression callback = (CallbackExpression) expression;
+      callback.setBody(flattenConcatenations(callback.getBody()));
+      return callback;
+    }
+
+    if (expression instanceof FunctionInvocationExpression) {
+      for (Tuple<AExpression, @Nullable IdentifierExpression> argument : ((FunctionInvocationExpression) expression).getArguments())
+        argument.a = flattenConcatenations(argument.a);
+      return expression;
+    }
+
+    if (expression instanceof TemplateExpression) {
+      ((TemplateExpression) expression).getSlots().replaceAll(this::flattenConcatenations);
+      return expression;
+    }
+
+    if (expression instanceof SliceExpression) {
+      SliceExpression slice = (SliceExpression) expression;
+      slice.setTarget(flattenConcatenations(slice.getTarget()));
+
+      if (slice.getFrom() != null)
+        slice.setFrom(flattenConcatenations(slice.getFrom()));
+
+      if (slice.getTo() != null)
+        slice.setTo(flattenConcatenations(slice.getTo()));
+
+      return slice;
+    }
+
+    if (expression instanceof IfThenElseExpression) {
+      IfThenElseExpression ifExpression = (IfThenElseExpression) expression;
+      ifExpression.setCondition(flattenConcatenations(ifExpression.getCondition()));
+      ifExpression.setPositiveBody(flattenConcatenations(ifExpression.getPositiveBody()));
+      ifExpression.setNegativeBody(flattenConcatenations(ifExpression.getNegativeBody()));
+      return ifExpression;
+    }
+
+    return expression;
+  }
+
+  private void collectConcatenationParts(AExpression expression, List<AExpression> parts) {
+    // Concatenation is associative, so nesting on either side can be flattened in order
+    if (expression instanceof ConcatenationExpression) {
+      collectConcatenationParts(((ConcatenationExpression) expression).getLhs(), parts);
+      collectConcatenationParts(((ConcatenationExpression) expression).getRhs(), parts);
+      return;
+    }
+
+    parts.add(flattenConcatenations(expression));
   }
 
   private AExpression optimizeASTSub(AExpression expression, @Nullable Consumer<AExpression> substituteParent) throws AEvaluatorError {
@@ -80,7 +212,12 @@ public class Optimizer {
 
       // Both sides of the binary expression can be resolved immediately
       if (lhsIs && rhsIs) {
-        AExpression result = wrapValue(binary.getLhs(), interpreter.evaluateExpression(binary, GPEEE.EMPTY_ENVIRONMENT));
+        AExpression result = tryWrapValue(binary.getLhs(), binary, interpreter.evaluateExpression(binary, foldingEnvironment));
+
+        // The value has no literal representation, so it has to be computed at runtime
+        if (result == null)
+          return binary;
+
         logger.log(Level.FINEST, () -> DebugLogSource.OPTIMIZER + "Resolved expression, value: " + result.expressionify());
 
         // No parent to call - this is already the root node
@@ -142,7 +279,14 @@ public class Optimizer {
           lhsBinary.setRhs(binary.getRhs());
 
           // evaluate lhsBinary, now that it's made up of two resolvable values
-          AExpression result = wrapValue(binary, interpreter.evaluateExpression(lhsBinary, GPEEE.EMPTY_ENVIRONMENT));
+          AExpression result = tryWrapValue(binary, lhsBinary, interpreter.evaluateExpression(lhsBinary, foldingEnvironment));
+
+          // The value has no literal representation, restore lhsBinary
+          if (result == null) {
+            lhsBinary.setRhs(lhsBinary.getLhs());
+            lhsBinary.setLhs(lhsBinaryLhsSave);
+            return binary;
+          }
 
           // Set the new outer RHS
           binary.setRhs(result);
@@ -166,7 +310,12 @@ public class Optimizer {
       AUnaryExpression unary = (AUnaryExpression) expression;
 
       if (isImmediatelyResolvable(unary.getInput())) {
-        AExpression result = wrapValue(unary.getInput(), interpreter.evaluateExpression(unary, GPEEE.EMPTY_ENVIRONMENT));
+        AExpression result = tryWrapValue(unary.getInput(), unary, interpreter.evaluateExpression(unary, foldingEnvironment));
+
+        // The value has no literal representation, so it has to be computed at runtime
+        if (result == null)
+          return unary;
+
         logger.log(Level.FINEST, () -> DebugLogSource.OPTIMIZER + "Resolved expression, value: " + result.expressionify());
 
         // No parent to call - this is already the root node
@@ -227,18 +376,55 @@ public class Optimizer {
       }
 
       // This invocation targets a standard function which is available at the time of optimization
+      // And it cannot be shadowed by a function of the environment it's evaluated in later on
       // And it only returns a primary result in all cases
       // And all arguments are immediately resolvable, so this is in effect another "static value"
       AStandardFunction standardFunction = standardFunctionRegistry.lookup(name);
-      if (standardFunction != null && standardFunction.returnsPrimaryResult() && allArgsResolvable) {
+      if (standardFunction != null && !standardFunction.isShadowable() && standardFunction.returnsPrimaryResult() && allArgsResolvable) {
         logger.log(Level.FINEST, () -> DebugLogSource.OPTIMIZER + "Evaluating std-function call to " + name + " with all resolvable arguments");
-        return wrapValue(invocation, interpreter.evaluateExpression(invocation, GPEEE.EMPTY_ENVIRONMENT));
+        AExpression result = tryWrapValue(invocation, invocation, interpreter.evaluateExpression(invocation, foldingEnvironment));
+
+        if (result != null)
+          return result;
       }
 
-      // Function invocation cannot be optimized away
+      // Function invocation cannot be optimized away, but it's constant arguments may be prepared
+      if (standardFunction != null)
+        precompileArguments(invocation, standardFunction);
+
       return expression;
     }
 
+    if (expression instanceof TemplateExpression) {
+      logger.log(Level.FINEST, () -> DebugLogSource.OPTIMIZER + "Encountered a template expression");
+
+      TemplateExpression template = (TemplateExpression) expression;
+      List<AExpression> slots = template.getSlots();
+
+      // Try to optimize each slot one by one
+      boolean allSlotsResolvable = true;
+      for (int i = 0; i < slots.size(); i++) {
+        int slotIndex = i;
+        logger.log(Level.FINEST, () -> DebugLogSource.OPTIMIZER + "Trying to optimize template slot " + (slotIndex + 1));
+
+        AExpression result = optimizeASTSub(slots.get(slotIndex), v -> slots.set(slotIndex, v));
+
+        if (result != null)
+          slots.set(slotIndex, result);
+
+        if (!isImmediatelyResolvable(slots.get(slotIndex)))
+          allSlotsResolvable = false;
+      }
+
+      // All slots are static, so the whole template renders into a constant
+      if (allSlotsResolvable) {
+        logger.log(Level.FINEST, () -> DebugLogSource.OPTIMIZER + "Rendering template with all resolvable slots");
+        return wrapValue(template, interpreter.evaluateExpression(template, foldingEnvironment));
+      }
+
+      return template;
+    }
+
     if (expression instanceof IfThenElseExpression) {
       logger.log(Level.FINEST, () -> DebugLogSource.OPTIMIZER + "Encountered a if then else expression");
 
@@ -254,8 +440,8 @@ public class Optimizer {
       if (isImmediatelyResolvable(ifExpression.getCondition())) {
         logger.log(Level.FINEST, () -> DebugLogSource.OPTIMIZER + "Condition has been evaluated, substituting body");
 
-        Object condition = interpreter.evaluateExpression(ifExpression.getCondition(), GPEEE.EMPTY_ENVIRONMENT);
-        AExpression result = GPEEE.STD_VALUE_INTERPRETER.asBoolean(condition) ? ifExpression.getPositiveBody() : ifExpression.getNegativeBody();
+        Object condition = interpreter.evaluateExpression(ifExpression.getCondition(), foldingEnvironment);
+        AExpression result = foldingEnvironment.getValueInterpreter().asBoolean(condition) ? ifExpression.getPositiveBody() : ifExpression.getNegativeBody();
 
         // Result is not resolvable, try to optimize
         if (!isImmediatelyResolvable(result)) {
@@ -264,19 +450,86 @@ public class Optimizer {
         }
 
         // Result is resolvable now, resolve before substituting
-        if (isImmediatelyResolvable(result))
-          return wrapValue(result, interpreter.evaluateExpression(result, GPEEE.EMPTY_ENVIRONMENT));
+        if (isImmediatelyResolvable(result)) {
+          AExpression value = tryWrapValue(result, result, interpreter.evaluateExpression(result, foldingEnvironment));
+          return value == null ? result : value;
+        }
 
         // Result cannot be evaluated further
         return result;
       }
     }
 
+    if (expression instanceof SliceExpression) {
+      logger.log(Level.FINEST, () -> DebugLogSource.OPTIMIZER + "Encountered a slice expression");
+
+      // Slices are views onto their target, so only their operands can be optimized
+      SliceExpression slice = (SliceExpression) expression;
+      AExpression result = optimizeASTSub(slice.getTarget(), slice::setTarget);
+
+      if (result != null)
+        slice.setTarget(result);
+
+      if (slice.getFrom() != null && (result = optimizeASTSub(slice.getFrom(), slice::setFrom)) != null)
+        slice.setFrom(result);
+
+      if (slice.getTo() != null && (result = optimizeASTSub(slice.getTo(), slice::setTo)) != null)
+        slice.setTo(result);
+
+      return slice;
+    }
+
     // Expression type cannot be optimized
     logger.log(Level.FINEST, () -> DebugLogSource.OPTIMIZER + "Cannot optimize node " + expression.getClass().getSimpleName());
     return expression;
   }
 
+  /**
+   * Lets a standard function prepare the values of all constant arguments of it's invocation ahead of time
+   * @param invocation Invocation of the function
+   * @param function Invoked standard function
+   */
+  private void precompileArguments(FunctionInvocationExpression invocation, AStandardFunction function) {
+    List<Tuple<AExpression, @Nullable IdentifierExpression>> arguments = invocation.getArguments();
+    List<ExpressionFunctionArgument> definitions = function.getArguments();
+    Object[] precompiledArguments = null;
+
+    for (int i = 0; i < arguments.size(); i++) {
+      Tuple<AExpression, @Nullable IdentifierExpression> argument = arguments.get(i);
+
+      if (!isImmediatelyResolvable(argument.a))
+        continue;
+
+      // Named arguments are matched up with their definition, while all others are positional
+      int index = argument.b == null ? i : -1;
+
+      if (argument.b != null && definitions != null) {
+        for (int j = 0; j < definitions.size(); j++) {
+          if (definitions.get(j).getName().equalsIgnoreCase(argument.b.getSymbol()))
+            index = j;
+        }
+      }
+
+      if (index < 0)
+        continue;
+
+      Object value = function.precompileArgument(index, interpreter.evaluateExpression(argument.a, foldingEnvironment));
+
+      if (value == null)
+        continue;
+
+      int argumentIndex = i;
+      logger.log(Level.FINEST, () -> DebugLogSource.OPTIMIZER + "Precompiled function argument " + (argumentIndex + 1));
+
+      if (precompiledArguments == null)
+        precompiledArguments = new Object[arguments.size()];
+
+      precompiledArguments[i] = value;
+    }
+
+    invocation.setPrecompiledArguments(precompiledArguments);
+  }
+
   /**
    * Wrap a bare object - as received by an evaluation call - back into an AST node
    * @param previous Expression which has been evaluated, used for debug information
@@ -306,6 +559,29 @@ public class Optimizer {
     throw new IllegalStateException("Unimplemented value type encountered");
   }
 
+  /**
+   * Wrap a bare object back into an AST node, if there's a literal to represent it
+   * @param previous Expression which has been evaluated, used for debug information
+   * @param evaluated Expression which produced the value
+   * @param value Value to wrap
+   * @return Wrapped value, null if the value cannot be represented by a literal
+   */
+  private @Nullable AExpression tryWrapValue(AExpression previous, AExpression evaluated, @Nullable Object value) {
+    // Numbers of arbitrary precision would lose their precision as a literal
+    if (value instanceof BigDecimal || value instanceof BigInteger)
+      return null;
+
+    // Decimal or overflowing math depends on the numeric mode of the evaluation environment,
+    // which may differ from the folding environment's, so it's left to be computed at runtime
+    if (
+      (evaluated instanceof MathExpression || evaluated instanceof FlipSignExpression) &&
+      (value instanceof Double || value instanceof Float)
+    )
+      return null;
+
+    return wrapValue(previous, value);
+  }
+
   /**
    * Checks whether a given expression can be immediately resolved
    * without altering it's runtime behavior
@@ -32,6 +32,7 @@ import me.blvckbytes.gpeee.parser.expression.*;
 import me.blvckbytes.gpeee.tokenizer.ITokenizer;
 import me.blvckbytes.gpeee.tokenizer.Token;
 import me.blvckbytes.gpeee.tokenizer.TokenType;
+import me.blvckbytes.gpeee.tokenizer.Tokenizer;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
@@ -359,12 +360,51 @@ public class Parser {
   }
 
   private AExpression parseIndexExpression(ITokenizer tokenizer, int precedenceSelf) throws AEvaluatorError {
-    return parseBinaryExpression(
-      (lhs, rhs, h, t, op) -> new IndexExpression(lhs, rhs, op.getType() == TokenType.OPTIONAL_BRACKET_OPEN, h, t, tokenizer.getRawText()),
-      tokenizer, PrecedenceMode.RESET, precedenceSelf,
-      new TokenType[] { TokenType.BRACKET_OPEN, TokenType.OPTIONAL_BRACKET_OPEN },
-      new TokenType[] { TokenType.BRACKET_CLOSE, TokenType.BRACKET_CLOSE }
-    );
+    logger.log(Level.FINEST, () -> DebugLogSource.PARSER + "Trying to parse an index or slice expression");
+
+    AExpression lhs = invokeNextPrecedenceParser(tokenizer, precedenceSelf);
+
+    Token tk, head = lhs.getHead();
+
+    while (
+      (tk = tokenizer.peekToken()) != null &&
+      (tk.getType() == TokenType.BRACKET_OPEN || tk.getType() == TokenType.OPTIONAL_BRACKET_OPEN)
+    ) {
+      // Consume the opening bracket
+      tokenizer.consumeToken();
+
+      boolean optional = tk.getType() == TokenType.OPTIONAL_BRACKET_OPEN;
+
+      // Slices may omit their start
+      AExpression from = null;
+      if ((tk = tokenizer.peekToken()) == null || tk.getType() != TokenType.COLON)
+        from = invokeLowestPrecedenceParser(tokenizer);
+
+      // A colon turns the index into a slice
+      if ((tk = tokenizer.peekToken()) != null && tk.getType() == TokenType.COLON) {
+        tokenizer.consumeToken();
+
+        // Slices may omit their end
+        AExpression to = null;
+        if ((tk = tokenizer.peekToken()) == null || tk.getType() != TokenType.BRACKET_CLOSE)
+          to = invokeLowestPrecedenceParser(tokenizer);
+
+        if ((tk = tokenizer.consumeToken()) == null || tk.getType() != TokenType.BRACKET_CLOSE)
+          throw new UnexpectedTokenError(tokenizer, tk, TokenType.BRACKET_CLOSE);
+
+        logger.log(Level.FINEST, () -> DebugLogSource.PARSER + "Parsed a slice expression");
+        lhs = new SliceExpression(lhs, from, to, optional, head, tk, tokenizer.getRawText());
+        continue;
+      }
+
+      if ((tk = tokenizer.consumeToken()) == null || tk.getType() != TokenType.BRACKET_CLOSE)
+        throw new UnexpectedTokenError(tokenizer, tk, TokenType.BRACKET_CLOSE, TokenType.COLON);
+
+      // The index is always present here, as it may only be omitted ahead of a colon
+      lhs = new IndexExpression(lhs, from, optional, head, from.getTail(), tokenizer.getRawText());
+    }
+
+    return lhs;
   }
 
   private AExpression parseComparisonExpression(ITokenizer tokenizer, int precedenceSelf) throws AEvaluatorError {
@@ -573,6 +613,10 @@ public class Parser {
         logger.log(Level.FINEST, () -> DebugLogSource.PARSER + "Found a string");
         return new StringExpression(tk.getValue(), tk, tk, tokenizer.getRawText());
 
+      case TEMPLATE_STRING:
+        logger.log(Level.FINEST, () -> DebugLogSource.PARSER + "Found a template string");
+        return parseTemplate(tokenizer, tk);
+
       case IDENTIFIER: {
         logger.log(Level.FINEST, () -> DebugLogSource.PARSER + "Found an identifier");
         return new IdentifierExpression(tk.getValue(), tk, tk, tokenizer.getRawText());
@@ -595,6 +639,127 @@ public class Parser {
     }
   }
 
+  /**
+   * Splits the raw contents of a template token into it's constant segments and
+   * parses all placeholders in between them as expressions of their own
+   * @param tokenizer Tokenizer the template token has been read by
+   * @param tk Template token
+   * @return Template expression
+   */
+  private AExpression parseTemplate(ITokenizer tokenizer, Token tk) throws AEvaluatorError {
+    String rawText = tokenizer.getRawText(), contents = tk.getValue();
+    int contentsIndex = indexOfPosition(rawText, tk.getRow(), tk.getCol()) + 1;
+
+    List<String> segments = new ArrayList<>();
+    List<AExpression> slots = new ArrayList<>();
+    StringBuilder segment = new StringBuilder();
+
+    // Position of the current char within the raw text, for placeholders to report errors at
+    int row = tk.getRow(), col = tk.getCol() + 1;
+
+    for (int i = 0; i < contents.length(); i++) {
+      char c = contents.charAt(i);
+
+      if (c == '{') {
+        int end = findPlaceholderEnd(contents, i + 1);
+        int slotRow = row, slotCol = col + 1;
+
+        logger.log(Level.FINEST, () -> DebugLogSource.PARSER + "Parsing a template placeholder");
+
+        ITokenizer slotTokenizer = new Tokenizer(logger, rawText, contentsIndex + i + 1, contentsIndex + end, slotRow, slotCol);
+        slots.add(invokeLowestPrecedenceParser(slotTokenizer));
+
+        // Placeholders may only contain a single expression
+        Token remainder = slotTokenizer.peekToken();
+        if (remainder != null)
+          throw new UnexpectedTokenError(slotTokenizer, remainder);
+
+        segments.add(segment.toString());
+        segment.setLength(0);
+
+        for (; i < end; i++) {
+          if (contents.charAt(i) == '\n') {
+            ++row;
+            col = 0;
+          }
+          else
+            ++col;
+        }
+
+        // Closing brace
+        ++col;
+        continue;
+      }
+
+      // Resolve escape sequences of template syntax, keep all others as they are
+      if (c == '\\' && i + 1 < contents.length() && "{}`\\".indexOf(contents.charAt(i + 1)) >= 0) {
+        c = contents.charAt(++i);
+        ++col;
+      }
+
+      segment.append(c);
+
+      if (c == '\n') {
+        ++row;
+        col = 0;
+      }
+      else
+        ++col;
+    }
+
+    segments.add(segment.toString());
+    return new TemplateExpression(segments, slots, tk, tk, rawText);
+  }
+
+  /**
+   * Finds the closing brace of a template placeholder, skipping over nested braces, strings and templates
+   * @param contents Raw contents of the template
+   * @param start Index of the first char within the placeholder
+   * @return Index of the closing brace
+   */
+  private int findPlaceholderEnd(String contents, int start) {
+    int depth = 0;
+    char stringMarker = 0;
+
+    for (int i = start; i < contents.length(); i++) {
+      char c = contents.charAt(i);
+
+      if (stringMarker != 0) {
+        if (c == '\\')
+          ++i;
+
+        else if (c == stringMarker)
+          stringMarker = 0;
+
+        continue;
+      }
+
+      if (c == '"' || c == '`')
+        stringMarker = c;
+
+      else if (c == '{')
+        ++depth;
+
+      else if (c == '}' && depth-- == 0)
+        return i;
+    }
+
+    // The tokenizer only emits templates with terminated placeholders
+    throw new IllegalStateException("Unterminated template placeholder");
+  }
+
+  /**
+   * Computes the index of a row and column position within a text
+   */
+  private int indexOfPosition(String text, int row, int col) {
+    int index = 0;
+
+    for (int currentRow = 0; currentRow < row; currentRow++)
+      index = text.indexOf('\n', index) + 1;
+
+    return index + col;
+  }
+
   //=========================================================================//
   //                                Utilities                                //
   //=========================================================================//
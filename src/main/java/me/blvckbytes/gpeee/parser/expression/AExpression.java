@@ -32,14 +32,16 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 public abstract class AExpression {
 
+  // Only replaced by equivalent, shared instances when compacting debug metadata
   @StringifyExclude
-  private final Token head, tail;
+  private Token head, tail;
 
   @StringifyExclude
-  private final String fullContainingExpression;
+  private String fullContainingExpression;
 
   public AExpression(Token head, Token tail, String fullContainingExpression) {
     this.head = head;
@@ -61,6 +63,54 @@ public abstract class AExpression {
 
   public abstract String expressionify();
 
+  void setDebugMetadata(Token head, Token tail, String fullContainingExpression) {
+    this.head = head;
+    this.tail = tail;
+    this.fullContainingExpression = fullContainingExpression;
+  }
+
+  /**
+   * Invokes the visitor on this expression as well as on all of it's descendants, in pre-order
+   * @param visitor Visitor to invoke
+   */
+  public void visit(Consumer<AExpression> visitor) {
+    visitor.accept(this);
+
+    Class<?> currentClass = getClass();
+
+    while (currentClass != Object.class) {
+      for (Field f : currentClass.getDeclaredFields()) {
+        if (Modifier.isStatic(f.getModifiers()) || f.isAnnotationPresent(StringifyExclude.class))
+          continue;
+
+        try {
+          f.setAccessible(true);
+          visitObject(f.get(this), visitor);
+        } catch (IllegalAccessException | SecurityException ignored) {}
+      }
+
+      currentClass = currentClass.getSuperclass();
+    }
+  }
+
+  private void visitObject(@Nullable Object object, Consumer<AExpression> visitor) {
+    if (object instanceof AExpression) {
+      ((AExpression) object).visit(visitor);
+      return;
+    }
+
+    if (object instanceof List) {
+      for (Object item : (List<?>) object)
+        visitObject(item, visitor);
+      return;
+    }
+
+    if (object instanceof Tuple) {
+      visitObject(((Tuple<?, ?>) object).a, visitor);
+      visitObject(((Tuple<?, ?>) object).b, visitor);
+    }
+  }
+
   public String stringify(String indentWidth, int indentLevel) throws Exception {
     String indent = String.join("", Collections.nCopies(indentLevel, indentWidth));
     StringBuilder result = new StringBuilder(getClass().getSimpleName() + " {\n");
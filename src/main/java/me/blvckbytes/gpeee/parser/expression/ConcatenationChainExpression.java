@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.parser.expression;
+
+import me.blvckbytes.gpeee.tokenizer.Token;
+import me.blvckbytes.gpeee.tokenizer.TokenType;
+
+import java.util.List;
+
+/**
+ * A flattened chain of concatenations, as produced by the optimizer, which
+ * builds it's result within a single buffer instead of one string per operator
+ */
+public class ConcatenationChainExpression extends AExpression {
+
+  private final List<AExpression> parts;
+
+  public ConcatenationChainExpression(List<AExpression> parts, Token head, Token tail, String fullContainingExpression) {
+    super(head, tail, fullContainingExpression);
+
+    this.parts = parts;
+  }
+
+  public List<AExpression> getParts() {
+    return parts;
+  }
+
+  @Override
+  public String expressionify() {
+    // Print the equivalent left-nested chain of binary concatenations
+    String result = parts.get(0).expressionify();
+
+    for (int i = 1; i < parts.size(); i++) {
+      result = (
+        TokenType.PARENTHESIS_OPEN.getRepresentation() +
+        result + " " + TokenType.CONCATENATE.getRepresentation() + " " + parts.get(i).expressionify() +
+        TokenType.PARENTHESIS_CLOSE.getRepresentation()
+      );
+    }
+
+    return result;
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.parser.expression;
+
+import me.blvckbytes.gpeee.tokenizer.Token;
+import me.blvckbytes.gpeee.tokenizer.TokenType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A table of debug metadata - tokens and the sources they point into - which can be shared by many
+ * expressions. Each parsed expression holds it's own source and a token per lexeme, while most expressions
+ * of a host repeat the same sources and the same short tokens at the same positions. Compacting an
+ * expression replaces it's metadata by equivalent shared instances, which keeps all error messages intact.
+ *
+ * Expressions should only be compacted before they are shared with other threads.
+ */
+public class DebugMetadataTable {
+
+  private final Map<TokenKey, Token> tokens;
+  private final Map<String, String> strings;
+
+  public DebugMetadataTable() {
+    this.tokens = new ConcurrentHashMap<>();
+    this.strings = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Replaces the debug metadata of an expression and all of it's descendants by shared instances
+   * @param expression Expression to compact
+   * @return The same expression, for chaining
+   */
+  public <T extends AExpression> T compact(T expression) {
+    expression.visit(node -> node.setDebugMetadata(
+      token(node.getHead()), token(node.getTail()), intern(node.getFullContainingExpression())
+    ));
+    return expression;
+  }
+
+  /**
+   * Get the shared instance of a token
+   * @param token Token to look up
+   * @return Shared token with the same type, position and value
+   */
+  public @Nullable Token token(@Nullable Token token) {
+    if (token == null)
+      return null;
+
+    TokenKey key = new TokenKey(token.getType(), token.getRow(), token.getCol(), intern(token.getValue()));
+    return tokens.computeIfAbsent(key, k -> (
+      token.getValue() == k.value ? token : new Token(k.type, k.row, k.col, k.value)
+    ));
+  }
+
+  /**
+   * Get the shared instance of a string
+   * @param value String to look up
+   * @return Shared string with the same contents
+   */
+  public @Nullable String intern(@Nullable String value) {
+    if (value == null)
+      return null;
+
+    String existing = strings.putIfAbsent(value, value);
+    return existing == null ? value : existing;
+  }
+
+  /**
+   * Get the number of distinct tokens within this table
+   */
+  public int getTokenCount() {
+    return tokens.size();
+  }
+
+  /**
+   * Get the number of distinct strings (sources and token values) within this table
+   */
+  public int getStringCount() {
+    return strings.size();
+  }
+
+  private static class TokenKey {
+
+    private final TokenType type;
+    private final int row, col;
+    private final String value;
+
+    private TokenKey(TokenType type, int row, int col, String value) {
+      this.type = type;
+      this.row = row;
+      this.col = col;
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other)
+        return true;
+
+      if (!(other instanceof TokenKey))
+        return false;
+
+      TokenKey key = (TokenKey) other;
+      return row == key.row && col == key.col && type == key.type && value.equals(key.value);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, row, col, value);
+    }
+  }
+}
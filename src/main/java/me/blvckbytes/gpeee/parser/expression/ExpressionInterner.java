@@ -0,0 +1,317 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.parser.expression;
+
+import me.blvckbytes.gpeee.Tuple;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares structurally identical subtrees among all expressions passed through it (hash-consing), and
+ * interns all of their strings, like string values and identifier symbols, as well as their debug metadata.
+ * Since equal subtrees end up as the very same instance, hosts may also cache results of pure subtrees by identity.
+ *
+ * Expressions have to be optimized before they are interned, and must not be modified afterwards.
+ */
+public class ExpressionInterner {
+
+  private final DebugMetadataTable metadataTable;
+  private final boolean ignoreDebugMetadata;
+  private final Map<NodeKey, AExpression> nodes;
+
+  /**
+   * Create a new interner
+   * @param metadataTable Table to share debug metadata and strings through
+   * @param ignoreDebugMetadata Whether to also share subtrees which occur at different positions or within
+   *                            different sources. Errors caused by such subtrees point at their first occurrence.
+   */
+  public ExpressionInterner(DebugMetadataTable metadataTable, boolean ignoreDebugMetadata) {
+    this.metadataTable = metadataTable;
+    this.ignoreDebugMetadata = ignoreDebugMetadata;
+    this.nodes = new ConcurrentHashMap<>();
+  }
+
+  public ExpressionInterner() {
+    this(new DebugMetadataTable(), false);
+  }
+
+  /**
+   * Interns an expression by replacing all of it's subtrees by their shared instances
+   * @param expression Expression to intern
+   * @return Shared instance of the expression
+   */
+  public AExpression intern(AExpression expression) {
+    // Compacts the whole tree in a single pass, as nodes are visited once per ancestor otherwise
+    return internNode(metadataTable.compact(expression));
+  }
+
+  /**
+   * Get the number of distinct nodes held by this interner
+   */
+  public int size() {
+    return nodes.size();
+  }
+
+  private AExpression internNode(AExpression node) {
+    List<Object> key = new ArrayList<>();
+    key.add(node.getClass());
+
+    if (!ignoreDebugMetadata) {
+      // Shared by the metadata table, thus comparable by identity
+      key.add(new Identity(node.getHead()));
+      key.add(new Identity(node.getTail()));
+      key.add(new Identity(node.getFullContainingExpression()));
+    }
+
+    node = internContents(node, key);
+
+    AExpression existing = nodes.putIfAbsent(new NodeKey(key.toArray()), node);
+    return existing == null ? node : existing;
+  }
+
+  /**
+   * Replaces the children and strings of a node by their shared instances and appends everything which
+   * makes up the node to it's key. Nodes with immutable strings are rebuilt if these aren't shared yet.
+   * @param node Node to intern the contents of
+   * @param key Key to append to
+   * @return Node with interned contents
+   */
+  private AExpression internContents(AExpression node, List<Object> key) {
+    if (node instanceof ABinaryExpression) {
+      ABinaryExpression binary = (ABinaryExpression) node;
+      binary.setLhs(internNode(binary.getLhs()));
+      binary.setRhs(internNode(binary.getRhs()));
+      key.add(new Identity(binary.getLhs()));
+      key.add(new Identity(binary.getRhs()));
+
+      if (binary instanceof MathExpression)
+        key.add(((MathExpression) binary).getOperation());
+      else if (binary instanceof ComparisonExpression)
+        key.add(((ComparisonExpression) binary).getOperation());
+      else if (binary instanceof EqualityExpression)
+        key.add(((EqualityExpression) binary).getOperation());
+      else if (binary instanceof IndexExpression)
+        key.add(((IndexExpression) binary).isOptional());
+      else if (binary instanceof MemberAccessExpression)
+        key.add(((MemberAccessExpression) binary).isOptional());
+
+      return binary;
+    }
+
+    if (node instanceof AUnaryExpression) {
+      AUnaryExpression unary = (AUnaryExpression) node;
+      unary.setInput(internNode(unary.getInput()));
+      key.add(new Identity(unary.getInput()));
+      return unary;
+    }
+
+    if (node instanceof ProgramExpression) {
+      internNodes(((ProgramExpression) node).getLines(), key);
+      return node;
+    }
+
+    if (node instanceof ConcatenationChainExpression) {
+      internNodes(((ConcatenationChainExpression) node).getParts(), key);
+      return node;
+    }
+
+    if (node instanceof TemplateExpression) {
+      TemplateExpression template = (TemplateExpression) node;
+      template.getSegments().replaceAll(metadataTable::intern);
+      key.add(template.getSegments());
+      internNodes(template.getSlots(), key);
+      return template;
+    }
+
+    if (node instanceof CallbackExpression) {
+      CallbackExpression callback = (CallbackExpression) node;
+      internNodes(callback.getSignature(), key);
+      callback.setBody(internNode(callback.getBody()));
+      key.add(new Identity(callback.getBody()));
+      return callback;
+    }
+
+    if (node instanceof FunctionInvocationExpression) {
+      FunctionInvocationExpression invocation = (FunctionInvocationExpression) node;
+      IdentifierExpression name = internIdentifier(invocation.getName());
+      List<Tuple<AExpression, @Nullable IdentifierExpression>> arguments = invocation.getArguments();
+
+      for (Tuple<AExpression, @Nullable IdentifierExpression> argument : arguments) {
+        argument.a = internNode(argument.a);
+        argument.b = argument.b == null ? null : internIdentifier(argument.b);
+        key.add(new Identity(argument.a));
+        key.add(new Identity(argument.b));
+      }
+
+      key.add(new Identity(name));
+      key.add(invocation.isOptional());
+
+      if (name == invocation.getName())
+        return invocation;
+
+      FunctionInvocationExpression result = new FunctionInvocationExpression(
+        name, arguments, invocation.isOptional(),
+        invocation.getHead(), invocation.getTail(), invocation.getFullContainingExpression()
+      );
+
+      result.setPrecompiledArguments(invocation.getPrecompiledArguments());
+      return result;
+    }
+
+    if (node instanceof IfThenElseExpression) {
+      IfThenElseExpression ifExpression = (IfThenElseExpression) node;
+      ifExpression.setCondition(internNode(ifExpression.getCondition()));
+      ifExpression.setPositiveBody(internNode(ifExpression.getPositiveBody()));
+      ifExpression.setNegativeBody(internNode(ifExpression.getNegativeBody()));
+      key.add(new Identity(ifExpression.getCondition()));
+      key.add(new Identity(ifExpression.getPositiveBody()));
+      key.add(new Identity(ifExpression.getNegativeBody()));
+      return ifExpression;
+    }
+
+    if (node instanceof SliceExpression) {
+      SliceExpression slice = (SliceExpression) node;
+      slice.setTarget(internNode(slice.getTarget()));
+
+      if (slice.getFrom() != null)
+        slice.setFrom(internNode(slice.getFrom()));
+
+      if (slice.getTo() != null)
+        slice.setTo(internNode(slice.getTo()));
+
+      key.add(new Identity(slice.getTarget()));
+      key.add(new Identity(slice.getFrom()));
+      key.add(new Identity(slice.getTo()));
+      key.add(slice.isOptional());
+      return slice;
+    }
+
+    if (node instanceof IdentifierExpression) {
+      IdentifierExpression identifier = (IdentifierExpression) node;
+      String symbol = metadataTable.intern(identifier.getSymbol());
+      key.add(symbol);
+
+      if (symbol == identifier.getSymbol())
+        return identifier;
+
+      return new IdentifierExpression(
+        symbol, identifier.getHead(), identifier.getTail(), identifier.getFullContainingExpression()
+      );
+    }
+
+    if (node instanceof StringExpression) {
+      StringExpression string = (StringExpression) node;
+      String value = metadataTable.intern(string.getValue());
+      key.add(value);
+
+      if (value == string.getValue())
+        return string;
+
+      return new StringExpression(value, string.getHead(), string.getTail(), string.getFullContainingExpression());
+    }
+
+    if (node instanceof LongExpression) {
+      key.add(((LongExpression) node).getNumber());
+      return node;
+    }
+
+    if (node instanceof DoubleExpression) {
+      key.add(((DoubleExpression) node).getValue());
+      return node;
+    }
+
+    if (node instanceof LiteralExpression) {
+      key.add(((LiteralExpression) node).getType());
+      return node;
+    }
+
+    // Unknown nodes are only ever equal to themselves
+    key.add(new Identity(node));
+    return node;
+  }
+
+  private IdentifierExpression internIdentifier(IdentifierExpression identifier) {
+    // Keys contain the node's class, so the shared instance is an identifier as well
+    return (IdentifierExpression) internNode(identifier);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T extends AExpression> void internNodes(List<T> nodes, List<Object> key) {
+    List<Object> identities = new ArrayList<>(nodes.size());
+
+    for (int i = 0; i < nodes.size(); i++) {
+      T node = (T) internNode(nodes.get(i));
+      nodes.set(i, node);
+      identities.add(new Identity(node));
+    }
+
+    key.add(identities);
+  }
+
+  private static class NodeKey {
+
+    private final Object[] parts;
+    private final int hash;
+
+    private NodeKey(Object[] parts) {
+      this.parts = parts;
+      this.hash = Arrays.hashCode(parts);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof NodeKey && hash == ((NodeKey) other).hash && Arrays.equals(parts, ((NodeKey) other).parts);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  private static class Identity {
+
+    private final @Nullable Object value;
+
+    private Identity(@Nullable Object value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof Identity && ((Identity) other).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(value);
+    }
+  }
+}
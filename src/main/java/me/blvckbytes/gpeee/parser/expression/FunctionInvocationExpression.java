@@ -37,6 +37,10 @@ public class FunctionInvocationExpression extends AExpression {
   private final List<Tuple<AExpression, @Nullable IdentifierExpression>> arguments;
   private final boolean optional;
 
+  // Values of constant arguments which the function prepared ahead of time, by argument index
+  @StringifyExclude
+  private @Nullable Object[] precompiledArguments;
+
   public FunctionInvocationExpression(
     IdentifierExpression name, List<Tuple<AExpression, @Nullable IdentifierExpression>> arguments, boolean optional,
     Token head, Token tail, String fullContainingExpression
@@ -60,6 +64,14 @@ public class FunctionInvocationExpression extends AExpression {
     return optional;
   }
 
+  public @Nullable Object[] getPrecompiledArguments() {
+    return precompiledArguments;
+  }
+
+  public void setPrecompiledArguments(@Nullable Object[] precompiledArguments) {
+    this.precompiledArguments = precompiledArguments;
+  }
+
   @Override
   public String expressionify() {
     StringBuilder argExpression = new StringBuilder();
@@ -57,6 +57,14 @@ public class IfThenElseExpression extends AExpression {
     return negativeBody;
   }
 
+  public void setPositiveBody(AExpression positiveBody) {
+    this.positiveBody = positiveBody;
+  }
+
+  public void setNegativeBody(AExpression negativeBody) {
+    this.negativeBody = negativeBody;
+  }
+
   @Override
   public String expressionify() {
     return (
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.parser.expression;
+
+import me.blvckbytes.gpeee.tokenizer.Token;
+import me.blvckbytes.gpeee.tokenizer.TokenType;
+import org.jetbrains.annotations.Nullable;
+
+public class SliceExpression extends AExpression {
+
+  private AExpression target;
+  private @Nullable AExpression from;
+  private @Nullable AExpression to;
+  private final boolean optional;
+
+  public SliceExpression(AExpression target, @Nullable AExpression from, @Nullable AExpression to, boolean optional, Token head, Token tail, String fullContainingExpression) {
+    super(head, tail, fullContainingExpression);
+
+    this.target = target;
+    this.from = from;
+    this.to = to;
+    this.optional = optional;
+  }
+
+  public AExpression getTarget() {
+    return target;
+  }
+
+  public void setTarget(AExpression target) {
+    this.target = target;
+  }
+
+  public @Nullable AExpression getFrom() {
+    return from;
+  }
+
+  public void setFrom(@Nullable AExpression from) {
+    this.from = from;
+  }
+
+  public @Nullable AExpression getTo() {
+    return to;
+  }
+
+  public void setTo(@Nullable AExpression to) {
+    this.to = to;
+  }
+
+  public boolean isOptional() {
+    return optional;
+  }
+
+  @Override
+  public String expressionify() {
+    return (
+      target.expressionify() +
+      (optional ? TokenType.OPTIONAL_BRACKET_OPEN : TokenType.BRACKET_OPEN).getRepresentation() +
+      (from == null ? "" : from.expressionify()) +
+      TokenType.COLON.getRepresentation() +
+      (to == null ? "" : to.expressionify()) +
+      TokenType.BRACKET_CLOSE.getRepresentation()
+    );
+  }
+}
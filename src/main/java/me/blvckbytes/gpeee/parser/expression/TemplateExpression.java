@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.parser.expression;
+
+import me.blvckbytes.gpeee.tokenizer.Token;
+
+import java.util.List;
+
+/**
+ * A string template, made up of constant segments with expression slots in between them,
+ * which is rendered into a single buffer. There's always one more segment than there are
+ * slots, where segments around slots may be empty.
+ */
+public class TemplateExpression extends AExpression {
+
+  private final List<String> segments;
+  private final List<AExpression> slots;
+
+  @StringifyExclude
+  private final int segmentsLength;
+
+  public TemplateExpression(List<String> segments, List<AExpression> slots, Token head, Token tail, String fullContainingExpression) {
+    super(head, tail, fullContainingExpression);
+
+    if (segments.size() != slots.size() + 1)
+      throw new IllegalArgumentException("Expected " + (slots.size() + 1) + " segments, got " + segments.size());
+
+    this.segments = segments;
+    this.slots = slots;
+    this.segmentsLength = segments.stream().mapToInt(String::length).sum();
+  }
+
+  public List<String> getSegments() {
+    return segments;
+  }
+
+  public List<AExpression> getSlots() {
+    return slots;
+  }
+
+  /**
+   * Get the summed up length of all constant segments, which the rendered result will at least have
+   */
+  public int getSegmentsLength() {
+    return segmentsLength;
+  }
+
+  @Override
+  public String expressionify() {
+    StringBuilder result = new StringBuilder("`");
+
+    for (int i = 0; i < slots.size(); i++) {
+      appendEscaped(result, segments.get(i));
+      result.append('{').append(slots.get(i).expressionify()).append('}');
+    }
+
+    appendEscaped(result, segments.get(slots.size()));
+    return result.append('`').toString();
+  }
+
+  private void appendEscaped(StringBuilder result, String segment) {
+    for (int i = 0; i < segment.length(); i++) {
+      char c = segment.charAt(i);
+
+      if (c == '{' || c == '}' || c == '`' || c == '\\')
+        result.append('\\');
+
+      result.append(c);
+    }
+  }
+}
@@ -0,0 +1,276 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.serialization;
+
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * A bundle file written by the {@link ExpressionBundleWriter}, mapped into memory. Opening a bundle
+ * only validates it's header, while ids are looked up by a binary search over the mapped index and
+ * expressions are deserialized on first use, so that neither the startup time nor the resident
+ * memory depend on the number of expressions which are never used.
+ */
+public class ExpressionBundle {
+
+  private final ByteBuffer buffer;
+  private final ExpressionSerializer serializer;
+  private final @Nullable Consumer<AExpression> preparation;
+  private final int size;
+  private final Map<String, AExpression> loadedExpressions;
+
+  private ExpressionBundle(
+    ByteBuffer buffer,
+    ExpressionSerializer serializer,
+    @Nullable Consumer<AExpression> preparation
+  ) throws IOException {
+    this.buffer = buffer;
+    this.serializer = serializer;
+    this.preparation = preparation;
+    this.loadedExpressions = new ConcurrentHashMap<>();
+
+    if (
+      buffer.capacity() < ExpressionBundleWriter.HEADER_SIZE ||
+      buffer.getInt(0) != ExpressionBundleWriter.MAGIC
+    )
+      throw new IOException("Not an expression bundle");
+
+    if (buffer.getInt(4) != ExpressionBundleWriter.FORMAT_VERSION)
+      throw new IOException("Unsupported bundle format version " + buffer.getInt(4));
+
+    this.size = buffer.getInt(8);
+
+    if (size < 0 || ExpressionBundleWriter.HEADER_SIZE + (long) size * ExpressionBundleWriter.INDEX_ENTRY_SIZE > buffer.capacity())
+      throw new IOException("Truncated bundle index");
+  }
+
+  /**
+   * Maps a bundle file into memory, which stays valid after the file has been closed
+   * @param path Path of the file
+   * @param serializer Serializer to deserialize expressions with
+   * @param preparation Invoked on every expression after deserializing it, before it's handed out
+   * @return Bundle, backed by the mapped file
+   * @throws IOException The file could not be mapped or is not a valid bundle
+   */
+  public static ExpressionBundle open(
+    Path path,
+    ExpressionSerializer serializer,
+    @Nullable Consumer<AExpression> preparation
+  ) throws IOException {
+    try (
+      FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)
+    ) {
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return new ExpressionBundle(buffer, serializer, preparation);
+    }
+  }
+
+  public static ExpressionBundle open(Path path, ExpressionSerializer serializer) throws IOException {
+    return open(path, serializer, null);
+  }
+
+  public static ExpressionBundle open(Path path) throws IOException {
+    return open(path, new ExpressionSerializer());
+  }
+
+  /**
+   * Wraps the contents of a bundle which are already in memory
+   * @param buffer Buffer of the bundle's contents
+   * @param serializer Serializer to deserialize expressions with
+   * @param preparation Invoked on every expression after deserializing it, before it's handed out
+   * @return Bundle, backed by the provided buffer
+   * @throws IOException The buffer does not contain a valid bundle
+   */
+  public static ExpressionBundle wrap(
+    ByteBuffer buffer,
+    ExpressionSerializer serializer,
+    @Nullable Consumer<AExpression> preparation
+  ) throws IOException {
+    return new ExpressionBundle(buffer.slice(), serializer, preparation);
+  }
+
+  public static ExpressionBundle wrap(ByteBuffer buffer, ExpressionSerializer serializer) throws IOException {
+    return wrap(buffer, serializer, null);
+  }
+
+  /**
+   * Get the number of expressions contained in this bundle
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks whether this bundle contains an expression with the given id
+   * @param id Id of the expression
+   * @throws IOException The bundle's index is malformed
+   */
+  public boolean contains(String id) throws IOException {
+    return findEntry(id.getBytes(StandardCharsets.UTF_8)) >= 0;
+  }
+
+  /**
+   * Get an expression by it's id, deserializing it on first access
+   * @param id Id of the expression
+   * @return Expression, null if there's no expression with this id
+   * @throws IOException The expression's data is malformed
+   */
+  public @Nullable AExpression get(String id) throws IOException {
+    return get(id, null);
+  }
+
+  /**
+   * Get an expression by it's id, deserializing it on first access
+   * @param id Id of the expression
+   * @param expectedSource Source the expression has to be compiled from, null to accept any source
+   * @return Expression, null if there's no expression with this id or if it's outdated
+   * @throws IOException The expression's data is malformed
+   */
+  public @Nullable AExpression get(String id, @Nullable String expectedSource) throws IOException {
+    AExpression expression = loadedExpressions.get(id);
+
+    if (expression != null) {
+      if (expectedSource == null || expectedSource.equals(expression.getFullContainingExpression()))
+        return expression;
+      return null;
+    }
+
+    int entry = findEntry(id.getBytes(StandardCharsets.UTF_8));
+
+    if (entry < 0)
+      return null;
+
+    long offset = buffer.getLong(entry + 8);
+    int length = buffer.getInt(entry + 16);
+
+    if (offset < 0 || length < 0 || offset + length > buffer.capacity())
+      throw new IOException("Expression " + id + " exceeds the bundle's bounds");
+
+    ByteBuffer data = buffer.duplicate();
+    data.limit((int) offset + length);
+    data.position((int) offset);
+
+    expression = serializer.deserialize(new DataInputStream(new ByteBufferInputStream(data)), expectedSource, length);
+
+    if (expression == null)
+      return null;
+
+    if (preparation != null)
+      preparation.accept(expression);
+
+    AExpression previous = loadedExpressions.putIfAbsent(id, expression);
+    return previous == null ? expression : previous;
+  }
+
+  /**
+   * Get the number of expressions which have been deserialized so far
+   */
+  public int getLoadedCount() {
+    return loadedExpressions.size();
+  }
+
+  /**
+   * Binary searches the sorted index for an id
+   * @param id UTF-8 encoded id to search for
+   * @return Absolute offset of the index entry, negative if absent
+   * @throws IOException An id of the index exceeds the bundle's bounds
+   */
+  private int findEntry(byte[] id) throws IOException {
+    int low = 0, high = size - 1;
+
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int entry = ExpressionBundleWriter.HEADER_SIZE + middle * ExpressionBundleWriter.INDEX_ENTRY_SIZE;
+      int comparison = compareId(buffer.getInt(entry), buffer.getInt(entry + 4), id);
+
+      if (comparison < 0)
+        low = middle + 1;
+      else if (comparison > 0)
+        high = middle - 1;
+      else
+        return entry;
+    }
+
+    return -1;
+  }
+
+  /**
+   * Compares an id stored within the bundle to the searched id without copying it
+   */
+  private int compareId(int offset, int length, byte[] id) throws IOException {
+    if (offset < 0 || length < 0 || (long) offset + length > buffer.capacity())
+      throw new IOException("Id at offset " + offset + " exceeds the bundle's bounds");
+
+    int commonLength = Math.min(length, id.length);
+
+    for (int i = 0; i < commonLength; i++) {
+      int difference = (buffer.get(offset + i) & 0xFF) - (id[i] & 0xFF);
+
+      if (difference != 0)
+        return difference;
+    }
+
+    return length - id.length;
+  }
+
+  private static class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    private ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) {
+      if (length == 0)
+        return 0;
+
+      if (!buffer.hasRemaining())
+        return -1;
+
+      length = Math.min(length, buffer.remaining());
+      buffer.get(target, offset, length);
+      return length;
+    }
+  }
+}
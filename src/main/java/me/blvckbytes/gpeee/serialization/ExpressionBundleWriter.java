@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.serialization;
+
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects serialized expressions under unique ids and writes them into a single bundle file,
+ * which an {@link ExpressionBundle} maps into memory and deserializes entries of lazily.
+ *
+ * Layout:
+ * - Header: magic number, format version and number of entries
+ * - Index: one fixed size entry per expression, sorted by id, holding the
+ *   offset and length of both the id and the serialized expression
+ * - Ids: UTF-8 encoded ids
+ * - Expressions: serialized expressions, as produced by the {@link ExpressionSerializer}
+ */
+public class ExpressionBundleWriter {
+
+  static final int MAGIC = 0x47504542;
+  static final int FORMAT_VERSION = 1;
+  static final int HEADER_SIZE = 3 * 4;
+  static final int INDEX_ENTRY_SIZE = 4 + 4 + 8 + 4;
+
+  private final ExpressionSerializer serializer;
+  private final Map<byte[], byte[]> entries;
+
+  public ExpressionBundleWriter(ExpressionSerializer serializer) {
+    this.serializer = serializer;
+    this.entries = new TreeMap<>(ExpressionBundleWriter::compareIds);
+  }
+
+  public ExpressionBundleWriter() {
+    this(new ExpressionSerializer());
+  }
+
+  /**
+   * Add an expression to the bundle
+   * @param id Unique id to look the expression up by later on
+   * @param expression Expression to serialize
+   * @return Builder reference
+   * @throws IllegalArgumentException The id is already in use
+   */
+  public ExpressionBundleWriter add(String id, AExpression expression) {
+    byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+
+    if (entries.containsKey(idBytes))
+      throw new IllegalArgumentException("The id " + id + " is already in use");
+
+    entries.put(idBytes, serializer.serialize(expression));
+    return this;
+  }
+
+  /**
+   * Get the number of expressions added so far
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Write the bundle into a file, replacing it if it already exists
+   * @param path Path of the file
+   */
+  public void write(Path path) throws IOException {
+    try (
+      OutputStream output = new BufferedOutputStream(Files.newOutputStream(path))
+    ) {
+      write(output);
+    }
+  }
+
+  /**
+   * Write the bundle into a stream
+   * @param output Stream to write to
+   */
+  public void write(OutputStream output) throws IOException {
+    DataOutputStream dataOutput = new DataOutputStream(output);
+
+    dataOutput.writeInt(MAGIC);
+    dataOutput.writeInt(FORMAT_VERSION);
+    dataOutput.writeInt(entries.size());
+
+    long idOffset = HEADER_SIZE + (long) INDEX_ENTRY_SIZE * entries.size();
+    long dataOffset = idOffset;
+
+    for (byte[] id : entries.keySet())
+      dataOffset += id.length;
+
+    List<byte[]> ids = new ArrayList<>(entries.keySet());
+
+    for (byte[] id : ids) {
+      byte[] data = entries.get(id);
+
+      if (dataOffset + data.length > Integer.MAX_VALUE)
+        throw new IOException("Bundles are limited to a size of 2GiB");
+
+      dataOutput.writeInt((int) idOffset);
+      dataOutput.writeInt(id.length);
+      dataOutput.writeLong(dataOffset);
+      dataOutput.writeInt(data.length);
+
+      idOffset += id.length;
+      dataOffset += data.length;
+    }
+
+    for (byte[] id : ids)
+      dataOutput.write(id);
+
+    for (byte[] data : entries.values())
+      dataOutput.write(data);
+
+    dataOutput.flush();
+  }
+
+  /**
+   * Compares UTF-8 encoded ids by their unsigned bytes, which is the order of the index
+   */
+  static int compareIds(byte[] a, byte[] b) {
+    int length = Math.min(a.length, b.length);
+
+    for (int i = 0; i < length; i++) {
+      int difference = (a[i] & 0xFF) - (b[i] & 0xFF);
+
+      if (difference != 0)
+        return difference;
+    }
+
+    return a.length - b.length;
+  }
+}
@@ -0,0 +1,711 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.serialization;
+
+import me.blvckbytes.gpeee.Tuple;
+import me.blvckbytes.gpeee.parser.ComparisonOperation;
+import me.blvckbytes.gpeee.parser.EqualityOperation;
+import me.blvckbytes.gpeee.parser.LiteralType;
+import me.blvckbytes.gpeee.parser.MathOperation;
+import me.blvckbytes.gpeee.parser.expression.*;
+import me.blvckbytes.gpeee.tokenizer.Token;
+import me.blvckbytes.gpeee.tokenizer.TokenType;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Serializes expression trees into a compact binary format and back, so that hosts can persist
+ * (optimized) expressions and skip tokenizing and parsing on later startups.
+ *
+ * Layout:
+ * - Header: magic number, format version and the SHA-256 hash of the expression's source
+ * - String table: all symbols, values, sources and token types, each stored once
+ * - Token table: type, row, col and value of all tokens the nodes refer to
+ * - Tree: all nodes in pre-order, each made up of it's tag, head and tail token, source and fields
+ *
+ * All counts and indices are stored as variable length integers. Tokens are kept, as they
+ * carry the positions which evaluator errors point at.
+ */
+public class ExpressionSerializer {
+
+  private static final int MAGIC = 0x47504545;
+
+  // Has to be increased on every change of the layout or of the node tags
+  public static final int FORMAT_VERSION = 4;
+
+  private static final int HASH_LENGTH = 32;
+
+  private static final byte
+    TAG_PROGRAM = 1, TAG_LONG = 2, TAG_DOUBLE = 3, TAG_LITERAL = 4, TAG_STRING = 5, TAG_IDENTIFIER = 6,
+    TAG_FUNCTION_INVOCATION = 7, TAG_CALLBACK = 8, TAG_IF_THEN_ELSE = 9, TAG_MEMBER_ACCESS = 10,
+    TAG_INDEX = 11, TAG_MATH = 12, TAG_COMPARISON = 13, TAG_EQUALITY = 14, TAG_CONCATENATION = 15,
+    TAG_CONJUNCTION = 16, TAG_DISJUNCTION = 17, TAG_NULL_COALESCE = 18, TAG_ASSIGNMENT = 19,
+    TAG_FLIP_SIGN = 20, TAG_INVERT = 21, TAG_CONCATENATION_CHAIN = 22,
+    TAG_TEMPLATE = 23, TAG_SLICE = 24;
+
+  private final @Nullable DebugMetadataTable metadataTable;
+
+  /**
+   * Create a new serializer
+   * @param metadataTable Table to share the debug metadata of deserialized expressions through,
+   *                      null to keep separate instances per expression
+   */
+  public ExpressionSerializer(@Nullable DebugMetadataTable metadataTable) {
+    this.metadataTable = metadataTable;
+  }
+
+  public ExpressionSerializer() {
+    this(null);
+  }
+
+  //=========================================================================//
+  //                                    API                                  //
+  //=========================================================================//
+
+  /**
+   * Serializes an expression tree, keyed by the source of it's root
+   * @param expression Root of the tree
+   * @return Serialized tree
+   */
+  public byte[] serialize(AExpression expression) {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    try {
+      serialize(expression, output);
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not write to an in-memory stream", e);
+    }
+
+    return output.toByteArray();
+  }
+
+  /**
+   * Serializes an expression tree, keyed by the source of it's root
+   * @param expression Root of the tree
+   * @param output Stream to write to
+   */
+  public void serialize(AExpression expression, OutputStream output) throws IOException {
+    TreeWriter writer = new TreeWriter();
+    writer.writeNode(expression);
+
+    DataOutputStream dataOutput = new DataOutputStream(output);
+
+    dataOutput.writeInt(MAGIC);
+    writeVarInt(dataOutput, FORMAT_VERSION);
+    dataOutput.write(hashSource(expression.getFullContainingExpression()));
+
+    writeVarInt(dataOutput, writer.strings.size());
+    for (String string : writer.strings.keySet()) {
+      byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+      writeVarInt(dataOutput, bytes.length);
+      dataOutput.write(bytes);
+    }
+
+    writeVarInt(dataOutput, writer.tokens.size());
+    for (Token token : writer.tokens) {
+      writeVarInt(dataOutput, writer.stringIndex(token.getType().name()));
+      writeVarInt(dataOutput, token.getRow());
+      writeVarInt(dataOutput, token.getCol());
+      writeVarInt(dataOutput, writer.stringIndex(token.getValue()));
+    }
+
+    writer.tree.writeTo(dataOutput);
+    dataOutput.flush();
+  }
+
+  /**
+   * Deserializes an expression tree, regardless of the source it has been compiled from
+   * @param data Serialized tree
+   * @return Root of the tree
+   * @throws IOException Malformed data or an unsupported format version
+   */
+  public AExpression deserialize(byte[] data) throws IOException {
+    AExpression result = deserialize(new DataInputStream(new ByteArrayInputStream(data)), null, data.length);
+
+    if (result == null)
+      throw new IOException("Unsupported serialization format");
+
+    return result;
+  }
+
+  /**
+   * Deserializes an expression tree, if it has been compiled from the expected
+   * source by a compatible version of the serializer
+   * @param data Serialized tree
+   * @param expectedSource Source the tree has to be compiled from
+   * @return Root of the tree, null if it's outdated and has to be parsed again
+   * @throws IOException Malformed data
+   */
+  public @Nullable AExpression deserialize(byte[] data, String expectedSource) throws IOException {
+    return deserialize(new DataInputStream(new ByteArrayInputStream(data)), expectedSource, data.length);
+  }
+
+  /**
+   * Deserializes an expression tree, if it has been compiled by a compatible version of the
+   * serializer and - if provided - from the expected source
+   * @param input Input to read from sequentially
+   * @param expectedSource Source the tree has to be compiled from, null to accept any source
+   * @return Root of the tree, null if it's outdated and has to be parsed again
+   * @throws IOException Malformed data
+   */
+  public @Nullable AExpression deserialize(DataInput input, @Nullable String expectedSource) throws IOException {
+    return deserialize(input, expectedSource, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Deserializes an expression tree, if it has been compiled by a compatible version of the
+   * serializer and - if provided - from the expected source
+   * @param input Input to read from sequentially
+   * @param expectedSource Source the tree has to be compiled from, null to accept any source
+   * @param length Number of bytes the tree spans at most, as no count within it may exceed that number
+   * @return Root of the tree, null if it's outdated and has to be parsed again
+   * @throws IOException Malformed data
+   */
+  public @Nullable AExpression deserialize(DataInput input, @Nullable String expectedSource, long length) throws IOException {
+    if (input.readInt() != MAGIC || readVarInt(input) != FORMAT_VERSION)
+      return null;
+
+    byte[] hash = new byte[HASH_LENGTH];
+    input.readFully(hash);
+
+    if (expectedSource != null && !Arrays.equals(hash, hashSource(expectedSource)))
+      return null;
+
+    String[] strings = new String[readCount(input, length)];
+    for (int i = 0; i < strings.length; i++) {
+      byte[] bytes = new byte[readCount(input, length)];
+      input.readFully(bytes);
+      strings[i] = new String(bytes, StandardCharsets.UTF_8);
+
+      if (metadataTable != null)
+        strings[i] = metadataTable.intern(strings[i]);
+    }
+
+    Token[] tokens = new Token[readCount(input, length)];
+    for (int i = 0; i < tokens.length; i++) {
+      TokenType type = readEnum(TokenType.class, strings, input);
+      int row = readCount(input, Integer.MAX_VALUE), col = readCount(input, Integer.MAX_VALUE);
+      tokens[i] = new Token(type, row, col, readString(strings, input));
+
+      if (metadataTable != null)
+        tokens[i] = metadataTable.token(tokens[i]);
+    }
+
+    return new TreeReader(input, length, strings, tokens).readNode();
+  }
+
+  /**
+   * Computes the hash of an expression's source which serialized trees are keyed by
+   * @param source Source to hash
+   * @return SHA-256 hash
+   */
+  public static byte[] hashSource(String source) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is required to be supported by every JVM", e);
+    }
+  }
+
+  //=========================================================================//
+  //                                  Writing                                //
+  //=========================================================================//
+
+  private static class TreeWriter {
+
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+    private final Map<Token, Integer> tokenIndices = new IdentityHashMap<>();
+    private final List<Token> tokens = new ArrayList<>();
+    private final ByteArrayOutputStream tree = new ByteArrayOutputStream();
+    private final DataOutputStream output = new DataOutputStream(tree);
+
+    private int stringIndex(String value) {
+      return strings.computeIfAbsent(value, k -> strings.size());
+    }
+
+    private void writeString(String value) throws IOException {
+      writeVarInt(output, stringIndex(value));
+    }
+
+    private void writeToken(@Nullable Token token) throws IOException {
+      if (token == null) {
+        writeVarInt(output, 0);
+        return;
+      }
+
+      Integer index = tokenIndices.get(token);
+
+      if (index == null) {
+        index = tokens.size();
+        tokenIndices.put(token, index);
+        tokens.add(token);
+
+        // Strings of tokens have to be part of the table, which is written first
+        stringIndex(token.getType().name());
+        stringIndex(token.getValue());
+      }
+
+      // Zero is reserved for null
+      writeVarInt(output, index + 1);
+    }
+
+    private void writeNodes(List<? extends AExpression> nodes) throws IOException {
+      writeVarInt(output, nodes.size());
+      for (AExpression node : nodes)
+        writeNode(node);
+    }
+
+    private void writeNullableNode(@Nullable AExpression node) throws IOException {
+      output.writeBoolean(node != null);
+
+      if (node != null)
+        writeNode(node);
+    }
+
+    private void writeNode(AExpression node) throws IOException {
+      output.writeByte(tagOf(node));
+      writeToken(node.getHead());
+      writeToken(node.getTail());
+      writeString(node.getFullContainingExpression());
+
+      if (node instanceof ProgramExpression) {
+        writeNodes(((ProgramExpression) node).getLines());
+        return;
+      }
+
+      if (node instanceof LongExpression) {
+        writeVarLong(output, ((LongExpression) node).getNumber());
+        return;
+      }
+
+      if (node instanceof DoubleExpression) {
+        output.writeDouble(((DoubleExpression) node).getValue());
+        return;
+      }
+
+      if (node instanceof LiteralExpression) {
+        writeString(((LiteralExpression) node).getType().name());
+        return;
+      }
+
+      if (node instanceof StringExpression) {
+        writeString(((StringExpression) node).getValue());
+        return;
+      }
+
+      if (node instanceof IdentifierExpression) {
+        writeString(((IdentifierExpression) node).getSymbol());
+        return;
+      }
+
+      if (node instanceof FunctionInvocationExpression) {
+        FunctionInvocationExpression invocation = (FunctionInvocationExpression) node;
+
+        writeNode(invocation.getName());
+        output.writeBoolean(invocation.isOptional());
+        writeVarInt(output, invocation.getArguments().size());
+
+        for (Tuple<AExpression, IdentifierExpression> argument : invocation.getArguments()) {
+          writeNode(argument.a);
+          writeNullableNode(argument.b);
+        }
+        return;
+      }
+
+      if (node instanceof ConcatenationChainExpression) {
+        writeNodes(((ConcatenationChainExpression) node).getParts());
+        return;
+      }
+
+      if (node instanceof TemplateExpression) {
+        TemplateExpression template = (TemplateExpression) node;
+
+        // There's always one more segment than there are slots
+        writeVarInt(output, template.getSlots().size());
+        for (String segment : template.getSegments())
+          writeString(segment);
+
+        for (AExpression slot : template.getSlots())
+          writeNode(slot);
+        return;
+      }
+
+      if (node instanceof CallbackExpression) {
+        CallbackExpression callback = (CallbackExpression) node;
+        writeNodes(callback.getSignature());
+        writeNode(callback.getBody());
+        return;
+      }
+
+      if (node instanceof SliceExpression) {
+        SliceExpression slice = (SliceExpression) node;
+        writeNode(slice.getTarget());
+        writeNullableNode(slice.getFrom());
+        writeNullableNode(slice.getTo());
+        output.writeBoolean(slice.isOptional());
+        return;
+      }
+
+      if (node instanceof IfThenElseExpression) {
+        IfThenElseExpression ifThenElse = (IfThenElseExpression) node;
+        writeNode(ifThenElse.getCondition());
+        writeNode(ifThenElse.getPositiveBody());
+        writeNode(ifThenElse.getNegativeBody());
+        return;
+      }
+
+      if (node instanceof ABinaryExpression) {
+        writeNode(((ABinaryExpression) node).getLhs());
+        writeNode(((ABinaryExpression) node).getRhs());
+
+        if (node instanceof MemberAccessExpression)
+          output.writeBoolean(((MemberAccessExpression) node).isOptional());
+
+        else if (node instanceof IndexExpression)
+          output.writeBoolean(((IndexExpression) node).isOptional());
+
+        else if (node instanceof MathExpression)
+          writeString(((MathExpression) node).getOperation().name());
+
+        else if (node instanceof ComparisonExpression)
+          writeString(((ComparisonExpression) node).getOperation().name());
+
+        else if (node instanceof EqualityExpression)
+          writeString(((EqualityExpression) node).getOperation().name());
+
+        return;
+      }
+
+      if (node instanceof AUnaryExpression) {
+        writeNode(((AUnaryExpression) node).getInput());
+        return;
+      }
+
+      throw new IllegalStateException("Cannot serialize unknown expression type " + node.getClass());
+    }
+
+    private static byte tagOf(AExpression node) {
+      if (node instanceof ProgramExpression) return TAG_PROGRAM;
+      if (node instanceof LongExpression) return TAG_LONG;
+      if (node instanceof DoubleExpression) return TAG_DOUBLE;
+      if (node instanceof LiteralExpression) return TAG_LITERAL;
+      if (node instanceof StringExpression) return TAG_STRING;
+      if (node instanceof IdentifierExpression) return TAG_IDENTIFIER;
+      if (node instanceof FunctionInvocationExpression) return TAG_FUNCTION_INVOCATION;
+      if (node instanceof CallbackExpression) return TAG_CALLBACK;
+      if (node instanceof IfThenElseExpression) return TAG_IF_THEN_ELSE;
+      if (node instanceof MemberAccessExpression) return TAG_MEMBER_ACCESS;
+      if (node instanceof IndexExpression) return TAG_INDEX;
+      if (node instanceof MathExpression) return TAG_MATH;
+      if (node instanceof ComparisonExpression) return TAG_COMPARISON;
+      if (node instanceof EqualityExpression) return TAG_EQUALITY;
+      if (node instanceof ConcatenationExpression) return TAG_CONCATENATION;
+      if (node instanceof ConjunctionExpression) return TAG_CONJUNCTION;
+      if (node instanceof DisjunctionExpression) return TAG_DISJUNCTION;
+      if (node instanceof NullCoalesceExpression) return TAG_NULL_COALESCE;
+      if (node instanceof AssignmentExpression) return TAG_ASSIGNMENT;
+      if (node instanceof FlipSignExpression) return TAG_FLIP_SIGN;
+      if (node instanceof InvertExpression) return TAG_INVERT;
+      if (node instanceof ConcatenationChainExpression) return TAG_CONCATENATION_CHAIN;
+      if (node instanceof TemplateExpression) return TAG_TEMPLATE;
+      if (node instanceof SliceExpression) return TAG_SLICE;
+      throw new IllegalStateException("Cannot serialize unknown expression type " + node.getClass());
+    }
+  }
+
+  //=========================================================================//
+  //                                  Reading                                //
+  //=========================================================================//
+
+  private static class TreeReader {
+
+    private final DataInput input;
+    private final long length;
+    private final String[] strings;
+    private final Token[] tokens;
+
+    private TreeReader(DataInput input, long length, String[] strings, Token[] tokens) {
+      this.input = input;
+      this.length = length;
+      this.strings = strings;
+      this.tokens = tokens;
+    }
+
+    private @Nullable Token readToken() throws IOException {
+      int index = readVarInt(input);
+
+      if (index == 0)
+        return null;
+
+      if (index < 0 || index > tokens.length)
+        throw new IOException("Token index " + index + " is out of range");
+
+      return tokens[index - 1];
+    }
+
+    private List<AExpression> readNodes() throws IOException {
+      int count = readCount(input, length);
+      List<AExpression> result = new ArrayList<>(count);
+
+      for (int i = 0; i < count; i++)
+        result.add(readNode());
+
+      return result;
+    }
+
+    private IdentifierExpression readIdentifier() throws IOException {
+      AExpression node = readNode();
+
+      if (!(node instanceof IdentifierExpression))
+        throw new IOException("Expected an identifier, found " + node.getClass().getSimpleName());
+
+      return (IdentifierExpression) node;
+    }
+
+    private AExpression readNode() throws IOException {
+      byte tag = input.readByte();
+      Token head = readToken(), tail = readToken();
+      String source = readString(strings, input);
+
+      switch (tag) {
+        case TAG_PROGRAM:
+          return new ProgramExpression(readNodes(), head, tail, source);
+
+        case TAG_LONG:
+          return new LongExpression(readVarLong(input), head, tail, source);
+
+        case TAG_DOUBLE:
+          return new DoubleExpression(input.readDouble(), head, tail, source);
+
+        case TAG_LITERAL:
+          return new LiteralExpression(readEnum(LiteralType.class, strings, input), head, tail, source);
+
+        case TAG_STRING:
+          return new StringExpression(readString(strings, input), head, tail, source);
+
+        case TAG_IDENTIFIER:
+          return new IdentifierExpression(readString(strings, input), head, tail, source);
+
+        case TAG_FUNCTION_INVOCATION: {
+          IdentifierExpression name = readIdentifier();
+          boolean optional = input.readBoolean();
+          int argumentCount = readCount(input, length);
+          List<Tuple<AExpression, @Nullable IdentifierExpression>> arguments = new ArrayList<>(argumentCount);
+
+          for (int i = 0; i < argumentCount; i++) {
+            AExpression value = readNode();
+            arguments.add(new Tuple<>(value, input.readBoolean() ? readIdentifier() : null));
+          }
+
+          return new FunctionInvocationExpression(name, arguments, optional, head, tail, source);
+        }
+
+        case TAG_CALLBACK: {
+          int parameterCount = readCount(input, length);
+          List<IdentifierExpression> signature = new ArrayList<>(parameterCount);
+
+          for (int i = 0; i < parameterCount; i++)
+            signature.add(readIdentifier());
+
+          return new CallbackExpression(signature, readNode(), head, tail, source);
+        }
+
+        case TAG_IF_THEN_ELSE: {
+          AExpression condition = readNode(), positiveBody = readNode();
+          return new IfThenElseExpression(condition, positiveBody, readNode(), head, tail, source);
+        }
+
+        case TAG_SLICE: {
+          AExpression target = readNode();
+          AExpression from = input.readBoolean() ? readNode() : null;
+          AExpression to = input.readBoolean() ? readNode() : null;
+          return new SliceExpression(target, from, to, input.readBoolean(), head, tail, source);
+        }
+
+        case TAG_FLIP_SIGN:
+          return new FlipSignExpression(readNode(), head, tail, source);
+
+        case TAG_INVERT:
+          return new InvertExpression(readNode(), head, tail, source);
+
+        case TAG_CONCATENATION_CHAIN:
+          return new ConcatenationChainExpression(readNodes(), head, tail, source);
+
+        case TAG_TEMPLATE: {
+          int slotCount = readCount(input, length);
+          List<String> segments = new ArrayList<>(slotCount + 1);
+
+          for (int i = 0; i <= slotCount; i++)
+            segments.add(readString(strings, input));
+
+          List<AExpression> slots = new ArrayList<>(slotCount);
+
+          for (int i = 0; i < slotCount; i++)
+            slots.add(readNode());
+
+          return new TemplateExpression(segments, slots, head, tail, source);
+        }
+
+        default:
+          break;
+      }
+
+      AExpression lhs = readNode(), rhs = readNode();
+
+      switch (tag) {
+        case TAG_MEMBER_ACCESS:
+          return new MemberAccessExpression(lhs, rhs, input.readBoolean(), head, tail, source);
+
+        case TAG_INDEX:
+          return new IndexExpression(lhs, rhs, input.readBoolean(), head, tail, source);
+
+        case TAG_MATH:
+          return new MathExpression(lhs, rhs, readEnum(MathOperation.class, strings, input), head, tail, source);
+
+        case TAG_COMPARISON:
+          return new ComparisonExpression(lhs, rhs, readEnum(ComparisonOperation.class, strings, input), head, tail, source);
+
+        case TAG_EQUALITY:
+          return new EqualityExpression(lhs, rhs, readEnum(EqualityOperation.class, strings, input), head, tail, source);
+
+        case TAG_CONCATENATION:
+          return new ConcatenationExpression(lhs, rhs, head, tail, source);
+
+        case TAG_CONJUNCTION:
+          return new ConjunctionExpression(lhs, rhs, head, tail, source);
+
+        case TAG_DISJUNCTION:
+          return new DisjunctionExpression(lhs, rhs, head, tail, source);
+
+        case TAG_NULL_COALESCE:
+          return new NullCoalesceExpression(lhs, rhs, head, tail, source);
+
+        case TAG_ASSIGNMENT:
+          if (!(lhs instanceof IdentifierExpression))
+            throw new IOException("Expected an identifier as the target of an assignment");
+
+          return new AssignmentExpression((IdentifierExpression) lhs, rhs, head, tail, source);
+
+        default:
+          throw new IOException("Unknown node tag " + tag);
+      }
+    }
+  }
+
+  //=========================================================================//
+  //                                 Utilities                               //
+  //=========================================================================//
+
+  private static String readString(String[] strings, DataInput input) throws IOException {
+    int index = readVarInt(input);
+
+    if (index < 0 || index >= strings.length)
+      throw new IOException("String index " + index + " is out of range");
+
+    return strings[index];
+  }
+
+  private static <T extends Enum<T>> T readEnum(Class<T> type, String[] strings, DataInput input) throws IOException {
+    String name = readString(strings, input);
+
+    try {
+      return Enum.valueOf(type, name);
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Unknown constant " + name + " of " + type.getSimpleName());
+    }
+  }
+
+  /**
+   * Reads a count or a length, which is never negative and - as every counted item occupies
+   * at least one byte - never exceeds the length of the input, so that malformed data cannot
+   * cause huge allocations
+   * @param input Input to read from
+   * @param limit Maximum value
+   * @return Count within the range of zero up to and including the limit
+   * @throws IOException The count is out of range
+   */
+  private static int readCount(DataInput input, long limit) throws IOException {
+    int count = readVarInt(input);
+
+    if (count < 0 || count > limit)
+      throw new IOException("Count " + count + " is out of range");
+
+    return count;
+  }
+
+  private static void writeVarInt(DataOutput output, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      output.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+
+    output.writeByte(value);
+  }
+
+  private static int readVarInt(DataInput input) throws IOException {
+    int result = 0;
+
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte current = input.readByte();
+      result |= (current & 0x7F) << shift;
+
+      if ((current & 0x80) == 0)
+        return result;
+    }
+
+    throw new IOException("Malformed variable length integer");
+  }
+
+  private static void writeVarLong(DataOutput output, long value) throws IOException {
+    // Zig-zag encoding keeps small negative numbers small
+    value = (value << 1) ^ (value >> 63);
+
+    while ((value & ~0x7FL) != 0) {
+      output.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+
+    output.writeByte((int) value);
+  }
+
+  private static long readVarLong(DataInput input) throws IOException {
+    long result = 0;
+
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte current = input.readByte();
+      result |= (long) (current & 0x7F) << shift;
+
+      if ((current & 0x80) == 0)
+        return (result >>> 1) ^ -(result & 1);
+    }
+
+    throw new IOException("Malformed variable length integer");
+  }
+}
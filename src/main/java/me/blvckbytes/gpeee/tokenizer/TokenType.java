@@ -162,6 +162,23 @@ public enum TokenType {
     return result.toString();
   }),
 
+  // `text {expression} text`, with \{, \} and \` as escapes within the text
+  TEMPLATE_STRING(TokenCategory.VALUE, null, tokenizer -> {
+    int startRow = tokenizer.getCurrentRow(), startCol = tokenizer.getCurrentCol();
+
+    // Template start marker not found
+    if (tokenizer.nextChar() != '`')
+      return null;
+
+    // Keep the raw contents, as the parser needs to know where placeholders are located
+    StringBuilder result = new StringBuilder();
+
+    if (!collectTemplateContents(tokenizer, result))
+      throw new UnterminatedStringError(startRow, startCol, tokenizer.getRawText());
+
+    return result.toString();
+  }),
+
   //=========================================================================//
   //                                Operators                                //
   //=========================================================================//
@@ -208,6 +225,7 @@ public enum TokenType {
   BRACKET_OPEN(TokenCategory.SYMBOL, "[", tokenizer -> tryCollectSequenceWithNextCheck(tokenizer, null, '[')),
   OPTIONAL_BRACKET_OPEN(TokenCategory.SYMBOL, "?[", tokenizer -> tryCollectSequenceWithNextCheck(tokenizer, null, '?', '[')),
   BRACKET_CLOSE(TokenCategory.SYMBOL, "]", tokenizer -> tryCollectSequenceWithNextCheck(tokenizer, null, ']')),
+  COLON(TokenCategory.SYMBOL, ":", tokenizer -> tryCollectSequenceWithNextCheck(tokenizer, null, ':')),
 
   //=========================================================================//
   //                                Invisible                                //
@@ -364,6 +382,66 @@ public enum TokenType {
     return result.toString();
   }
 
+  /**
+   * Collects the raw contents of a template up until it's closing marker, skipping over placeholders
+   * @return True if the closing marker has been found, false if the template is unterminated
+   */
+  private static boolean collectTemplateContents(ITokenizer tokenizer, StringBuilder result) {
+    int placeholderDepth = 0;
+
+    while (tokenizer.hasNextChar()) {
+      char c = tokenizer.nextChar();
+
+      // Escape sequences are resolved by the parser, just make sure to not interpret the escaped char
+      if (c == '\\' && placeholderDepth == 0) {
+        result.append(c);
+
+        if (tokenizer.hasNextChar())
+          result.append(tokenizer.nextChar());
+
+        continue;
+      }
+
+      if (c == '`') {
+        if (placeholderDepth == 0)
+          return true;
+
+        // Nested template within a placeholder
+        result.append(c);
+
+        if (!collectTemplateContents(tokenizer, result))
+          return false;
+
+        result.append(c);
+        continue;
+      }
+
+      result.append(c);
+
+      if (c == '{')
+        ++placeholderDepth;
+
+      else if (c == '}' && placeholderDepth > 0)
+        --placeholderDepth;
+
+      // Skip over strings within placeholders, as they may contain braces
+      else if (c == '"' && placeholderDepth > 0) {
+        while (tokenizer.hasNextChar()) {
+          char stringChar = tokenizer.nextChar();
+          result.append(stringChar);
+
+          if (stringChar == '\\' && tokenizer.hasNextChar())
+            result.append(tokenizer.nextChar());
+
+          else if (stringChar == '"')
+            break;
+        }
+      }
+    }
+
+    return false;
+  }
+
   private static char charToLowerCase(char input) {
     // Upper case character, convert to lowercase by shifting over 32 places
     if (input >= 'A' && input <= 'Z')
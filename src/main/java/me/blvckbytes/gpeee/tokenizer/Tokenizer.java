@@ -38,15 +38,35 @@ public class Tokenizer implements ITokenizer {
   private final String rawText;
   private final Logger logger;
   private final char[] text;
+  private final int endIndex;
   private final Stack<TokenizerState> saveStates;
   private TokenizerState state;
 
   public Tokenizer(Logger logger, String text) {
+    this(logger, text, 0, text.length(), 0, 0);
+  }
+
+  /**
+   * Create a tokenizer which only reads a region of the text, while all
+   * positions as well as the raw text still refer to the whole text
+   * @param logger Logger to log to
+   * @param text Whole text
+   * @param startIndex Index of the first char of the region
+   * @param endIndex Index after the last char of the region
+   * @param startRow Row of the first char of the region
+   * @param startCol Column of the first char of the region
+   */
+  public Tokenizer(Logger logger, String text, int startIndex, int endIndex, int startRow, int startCol) {
     this.rawText = text;
     this.logger = logger;
     this.text = text.toCharArray();
+    this.endIndex = endIndex;
     this.state = new TokenizerState();
     this.saveStates = new Stack<>();
+
+    this.state.charIndex = startIndex;
+    this.state.row = startRow;
+    this.state.col = startCol;
   }
 
   //=========================================================================//
@@ -60,7 +80,7 @@ public class Tokenizer implements ITokenizer {
 
   @Override
   public boolean hasNextChar() {
-    return state.charIndex < this.text.length;
+    return state.charIndex < this.endIndex;
   }
 
   @Override
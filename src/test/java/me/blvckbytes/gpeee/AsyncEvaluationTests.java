@@ -0,0 +1,240 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee;
+
+import me.blvckbytes.gpeee.error.UndefinedVariableError;
+import me.blvckbytes.gpeee.functions.AAsyncExpressionFunction;
+import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncEvaluationTests {
+
+  private final GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+  @Test
+  public void shouldFetchAsyncLiveVariablesConcurrently() throws Exception {
+    CompletableFuture<Object> balance = new CompletableFuture<>(), rank = new CompletableFuture<>();
+    AtomicInteger requests = new AtomicInteger();
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withAsyncLiveVariable("balance", () -> { requests.incrementAndGet(); return balance; })
+      .withAsyncLiveVariable("rank", () -> { requests.incrementAndGet(); return rank; })
+      .withAsyncLiveVariable("unused", () -> { requests.incrementAndGet(); return new CompletableFuture<>(); })
+      .build();
+
+    CompletableFuture<Object> result = evaluateAsync("rank & \": \" & balance * 2", env);
+
+    // Both referenced inputs have been requested at once, without blocking
+    assertEquals(2, requests.get());
+    assertFalse(result.isDone());
+
+    balance.complete(50);
+    assertFalse(result.isDone());
+
+    rank.complete("vip");
+    assertEquals("vip: 100", result.get());
+  }
+
+  @Test
+  public void shouldSuspendOnAsyncFunctions() throws Exception {
+    CompletableFuture<Object> lookup = new CompletableFuture<>();
+    AtomicInteger invocations = new AtomicInteger();
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withStaticVariable("name", "steve")
+      .withFunction("fetch_kills", new AAsyncExpressionFunction() {
+        @Override
+        public CompletableFuture<?> applyAsync(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+          invocations.incrementAndGet();
+          assertEquals("steve", args.get(0));
+          return lookup;
+        }
+
+        @Override
+        public @Nullable List<ExpressionFunctionArgument> getArguments() {
+          return null;
+        }
+      })
+      .build();
+
+    CompletableFuture<Object> result = evaluateAsync("name & \" has \" & (fetch_kills(name) + fetch_kills(name)) & \" kills\"", env);
+    assertFalse(result.isDone());
+
+    lookup.complete(3);
+
+    // Results are remembered per invocation site and arguments
+    assertEquals("steve has 6 kills", result.get());
+    assertEquals(2, invocations.get());
+  }
+
+  @Test
+  public void shouldAwaitAsyncInputsInSynchronousEvaluations() {
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withAsyncLiveVariable("balance", () -> CompletableFuture.completedFuture(5))
+      .build();
+
+    assertEquals(10L, evaluator.evaluateExpression(evaluator.parseString("balance * 2"), env));
+  }
+
+  @Test
+  public void shouldCompleteExceptionally() {
+    CompletableFuture<Object> balance = new CompletableFuture<>();
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withAsyncLiveVariable("balance", () -> balance)
+      .build();
+
+    CompletableFuture<Object> failingInput = evaluateAsync("balance * 2", env);
+    balance.completeExceptionally(new IllegalStateException("database unavailable"));
+
+    ExecutionException error = assertThrows(ExecutionException.class, failingInput::get);
+    assertTrue(error.getCause() instanceof IllegalStateException);
+
+    error = assertThrows(ExecutionException.class, evaluateAsync("unknown_variable", env)::get);
+    assertTrue(error.getCause() instanceof UndefinedVariableError);
+  }
+
+  @Test
+  public void shouldRequestIndependentAsyncFunctionsConcurrently() throws Exception {
+    Map<Object, CompletableFuture<Object>> lookups = new ConcurrentHashMap<>();
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withFunction("fetch", asyncFunction((environment, args) -> lookups.computeIfAbsent(args.get(0), k -> new CompletableFuture<>())))
+      .build();
+
+    CompletableFuture<Object> result = evaluateAsync("fetch(1) + fetch(2) + fetch(fetch(3))", env);
+
+    // All inputs which don't depend on pending results have been requested at once
+    assertEquals(new HashSet<>(Arrays.asList(1L, 2L, 3L)), lookups.keySet());
+
+    lookups.get(1L).complete(10);
+    lookups.get(2L).complete(20);
+    assertFalse(result.isDone());
+
+    // The dependent input is requested with the actual result of it's argument
+    lookups.get(3L).complete(4);
+    assertEquals(new HashSet<>(Arrays.asList(1L, 2L, 3L, 4)), lookups.keySet());
+
+    lookups.get(4).complete(30);
+    assertEquals(60L, result.get());
+  }
+
+  @Test
+  public void shouldNotRepeatSideEffects() throws Exception {
+    CompletableFuture<Object> lookup = new CompletableFuture<>();
+    List<Object> effects = new ArrayList<>();
+    AtomicInteger liveReads = new AtomicInteger();
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withLiveVariable("online", () -> liveReads.incrementAndGet())
+      .withFunction("fetch", asyncFunction((environment, args) -> lookup))
+      .withFunction("effect", new AExpressionFunction() {
+        @Override
+        public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+          effects.add(args.get(0));
+          return args.get(0);
+        }
+
+        @Override
+        public @Nullable List<ExpressionFunctionArgument> getArguments() {
+          return null;
+        }
+      })
+      .build();
+
+    CompletableFuture<Object> result = evaluateAsync(
+      "effect(\"start\") & online & \" \" & effect(fetch(1)) & \" \" & (if fetch(1) > 2 then effect(\"big\") else effect(\"small\"))",
+      env
+    );
+
+    // Nothing has been invoked with a pending value yet
+    assertEquals(Collections.singletonList("start"), effects);
+
+    lookup.complete(5);
+
+    // Every effect happened exactly once
+    assertEquals("start1 5 big", result.get());
+    assertEquals(Arrays.asList("start", "big", 5), effects);
+    assertEquals(1, liveReads.get());
+  }
+
+  @Test
+  public void shouldTellCallbacksApart() throws Exception {
+    AtomicInteger invocations = new AtomicInteger();
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withFunction("transform_async", asyncFunction((environment, args) -> {
+        invocations.incrementAndGet();
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        Object value = ((AExpressionFunction) args.get(1)).apply(environment, Collections.singletonList(args.get(0)));
+
+        // Complete later, so that both invocations are pending within the same pass
+        new Thread(() -> future.complete(value)).start();
+        return future;
+      }))
+      .build();
+
+    CompletableFuture<Object> result = evaluateAsync(
+      "map(list_of(2, 3), (a) => transform_async(10, (it) => it * a) & \"/\" & transform_async(10, (it) => it + a))",
+      env
+    );
+
+    assertEquals(Arrays.asList("20/12", "30/13"), result.get());
+    assertEquals(4, invocations.get());
+  }
+
+  private AAsyncExpressionFunction asyncFunction(BiFunction<IEvaluationEnvironment, List<@Nullable Object>, CompletableFuture<?>> handler) {
+    return new AAsyncExpressionFunction() {
+      @Override
+      public CompletableFuture<?> applyAsync(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+        return handler.apply(environment, args);
+      }
+
+      @Override
+      public @Nullable List<ExpressionFunctionArgument> getArguments() {
+        return null;
+      }
+    };
+  }
+
+  private CompletableFuture<Object> evaluateAsync(String input, IEvaluationEnvironment env) {
+    return evaluator.evaluateExpressionAsync(evaluator.parseString(input), env, Runnable::run);
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee;
+
+import me.blvckbytes.gpeee.error.UndefinedVariableError;
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+import me.blvckbytes.gpeee.parser.expression.DebugMetadataTable;
+import me.blvckbytes.gpeee.serialization.ExpressionSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DebugMetadataTableTests {
+
+  private final GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+  @Test
+  public void shouldShareMetadataAcrossExpressions() throws Exception {
+    DebugMetadataTable table = new DebugMetadataTable();
+    String input = "\"Hello \" & name & \"!\"";
+
+    AExpression first = evaluator.parseString(input);
+    String structure = first.stringify("  ", 0);
+
+    table.compact(first);
+    AExpression second = table.compact(evaluator.parseString(new String(input.toCharArray())));
+
+    assertSame(first.getFullContainingExpression(), second.getFullContainingExpression());
+    assertSame(first.getHead(), second.getHead());
+    assertSame(first.getTail(), second.getTail());
+    assertEquals(structure, second.stringify("  ", 0));
+
+    int tokenCount = table.getTokenCount();
+    table.compact(evaluator.parseString(input));
+    assertEquals(tokenCount, table.getTokenCount());
+  }
+
+  @Test
+  public void shouldKeepErrorMessages() {
+    String input = "1 +\n  undefined_variable";
+
+    UndefinedVariableError expected = assertThrows(UndefinedVariableError.class, () -> {
+      evaluator.evaluateExpression(evaluator.parseString(input), GPEEE.EMPTY_ENVIRONMENT);
+    });
+
+    UndefinedVariableError error = assertThrows(UndefinedVariableError.class, () -> {
+      evaluator.evaluateExpression(new DebugMetadataTable().compact(evaluator.parseString(input)), GPEEE.EMPTY_ENVIRONMENT);
+    });
+
+    assertEquals(expected.getMessage(), error.getMessage());
+  }
+
+  @Test
+  public void shouldShareMetadataOfDeserializedExpressions() throws Exception {
+    DebugMetadataTable table = new DebugMetadataTable();
+    ExpressionSerializer serializer = new ExpressionSerializer(table);
+    byte[] data = serializer.serialize(evaluator.parseString("a.b + 5"));
+
+    AExpression first = serializer.deserialize(data), second = serializer.deserialize(data);
+
+    assertNotSame(first, second);
+    assertSame(first.getFullContainingExpression(), second.getFullContainingExpression());
+    assertSame(first.getHead(), second.getHead());
+  }
+}
@@ -310,4 +310,41 @@ public class EqualityOperatorTests {
 
     return res;
   }
+
+  @Test
+  public void shouldEqualCollectionsIgnoringOrder() {
+    List<Long> manyNumbers = new ArrayList<>(), manyNumbersShuffled = new ArrayList<>();
+    for (long i = 0; i < 5000; i++) {
+      manyNumbers.add(i);
+      manyNumbersShuffled.add(4999 - i);
+    }
+
+    new EnvironmentBuilder()
+      .withStaticVariable("numbers", Arrays.asList(1, 2L, 3.0, 2.5))
+      .withStaticVariable("numbers_shuffled", Arrays.asList(2.5, 3L, 1.0, 2))
+      .withStaticVariable("numbers_duplicate", Arrays.asList(1, 1, 3.0, 2.5))
+      .withStaticVariable("words", Arrays.asList("Hello", " world ", "hello"))
+      .withStaticVariable("words_shuffled", Arrays.asList("WORLD", "hello", "HELLO "))
+      .withStaticVariable("words_numbers", Arrays.asList("five", "5", 2.5))
+      .withStaticVariable("words_numbers_shuffled", Arrays.asList("2.5", 5, "FIVE"))
+      .withStaticVariable("words_null", Arrays.asList("", null))
+      .withStaticVariable("words_null_shuffled", Arrays.asList(null, " "))
+      .withStaticVariable("number_array", new int[] {3, 1, 2})
+      .withStaticVariable("many_numbers", manyNumbers)
+      .withStaticVariable("many_numbers_shuffled", manyNumbersShuffled)
+      .launch(validator -> {
+        validator.validate("numbers == numbers_shuffled", true);
+        validator.validate("numbers == numbers_duplicate", false);
+        validator.validate("numbers_duplicate == numbers", false);
+        validator.validate("words == words_shuffled", true);
+        validator.validate("words_numbers == words_numbers_shuffled", true);
+        validator.validate("words_null == words_null_shuffled", true);
+        validator.validate("number_array == list(1, 2, 3)", true);
+        validator.validate("many_numbers == many_numbers_shuffled", true);
+
+        // Strict mode still requires the same order
+        validator.validate("numbers === numbers_shuffled", false);
+        validator.validate("many_numbers === many_numbers_shuffled", false);
+      });
+  }
 }
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee;
+
+import me.blvckbytes.gpeee.error.EvaluationLimitExceededError;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.EvaluationLimits;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EvaluationLimitsTests {
+
+  private final GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+  @Test
+  public void shouldLimitNodeVisits() {
+    IEvaluationEnvironment env = createEnvironment(new EvaluationLimits().withMaxNodeVisits(6));
+
+    // The program, two binary expressions and three terminals
+    assertEquals(6L, evaluate("1 + 2 + 3", env));
+    assertLimitExceeded("1 + 2 + 3 + 4", env, EvaluationLimitExceededError.Limit.NODE_VISITS);
+
+    // Callback bodies count towards the limit as well
+    assertLimitExceeded("map(list, (it) => it * 2)", env, EvaluationLimitExceededError.Limit.NODE_VISITS);
+  }
+
+  @Test
+  public void shouldLimitCollectionSizes() {
+    IEvaluationEnvironment env = createEnvironment(new EvaluationLimits().withMaxCollectionSize(5));
+
+    assertEquals(Arrays.asList(1L, 2L, 3L, 4L, 5L), evaluate("range(1, 5)", env));
+    assertLimitExceeded("range(1, 100000000)", env, EvaluationLimitExceededError.Limit.COLLECTION_SIZE);
+    assertLimitExceeded("len(range(1, 100000000))", env, EvaluationLimitExceededError.Limit.COLLECTION_SIZE);
+    assertLimitExceeded("flatten(list, list)", env, EvaluationLimitExceededError.Limit.COLLECTION_SIZE);
+    assertLimitExceeded("split(\"a,b,c,d,e,f\", \",\")", env, EvaluationLimitExceededError.Limit.COLLECTION_SIZE);
+
+    // Only the consumed part of a lazy sequence counts
+    assertEquals(3L, evaluate("range(1, 100000000)[2]", env));
+  }
+
+  @Test
+  public void shouldLimitStringLengths() {
+    IEvaluationEnvironment env = createEnvironment(new EvaluationLimits().withMaxStringLength(5));
+
+    assertEquals("abcde", evaluate("\"abc\" & \"de\"", env));
+    assertLimitExceeded("\"abc\" & \"def\"", env, EvaluationLimitExceededError.Limit.STRING_LENGTH);
+    assertLimitExceeded("iter_cat(list, (it) => it, \", \")", env, EvaluationLimitExceededError.Limit.STRING_LENGTH);
+  }
+
+  @Test
+  public void shouldLimitEvaluationTime() {
+    IEvaluationEnvironment env = createEnvironment(new EvaluationLimits().withTimeout(50, TimeUnit.MILLISECONDS));
+
+    assertEquals(6L, evaluate("1 + 2 + 3", env));
+    assertLimitExceeded("len(filter(range(1, 2000000000), (it) => false))", env, EvaluationLimitExceededError.Limit.TIMEOUT);
+  }
+
+  @Test
+  public void shouldNotLimitByDefault() {
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder().build();
+    assertEquals(100000L, evaluate("len(range(1, 100000))", env));
+  }
+
+  private void assertLimitExceeded(String input, IEvaluationEnvironment env, EvaluationLimitExceededError.Limit limit) {
+    EvaluationLimitExceededError error = assertThrows(EvaluationLimitExceededError.class, () -> evaluate(input, env));
+    assertEquals(limit, error.getLimit());
+  }
+
+  private IEvaluationEnvironment createEnvironment(EvaluationLimits limits) {
+    return new EvaluationEnvironmentBuilder()
+      .withStaticVariable("list", Arrays.asList(1, 2, 3, 4))
+      .withEvaluationLimits(limits)
+      .build();
+  }
+
+  private Object evaluate(String input, IEvaluationEnvironment env) {
+    return evaluator.evaluateExpression(evaluator.parseString(input), env);
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee;
+
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.parser.expression.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExpressionInternerTests {
+
+  private final GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+  @Test
+  public void shouldShareIdenticalExpressions() {
+    ExpressionInterner interner = new ExpressionInterner();
+    String input = "str(player.balance) & \" coins\"";
+
+    AExpression first = interner.intern(parse(input));
+    AExpression second = interner.intern(parse(new String(input.toCharArray())));
+
+    assertSame(first, second);
+  }
+
+  @Test
+  public void shouldOnlyShareSubtreesAtTheSamePositionByDefault() {
+    ExpressionInterner interner = new ExpressionInterner();
+
+    ABinaryExpression first = (ABinaryExpression) lineOf(interner.intern(parse("a.b & a.b")));
+    assertNotSame(first.getLhs(), first.getRhs());
+
+    ABinaryExpression second = (ABinaryExpression) lineOf(interner.intern(parse("a.b & c")));
+    assertNotSame(first.getLhs(), second.getLhs());
+  }
+
+  @Test
+  public void shouldShareSubtreesAcrossExpressions() {
+    ExpressionInterner interner = new ExpressionInterner(new DebugMetadataTable(), true);
+
+    ABinaryExpression first = (ABinaryExpression) lineOf(interner.intern(parse("player.name & \" joined\"")));
+    ABinaryExpression second = (ABinaryExpression) lineOf(interner.intern(parse("\"Hello, \" & player.name")));
+
+    assertSame(first.getLhs(), second.getRhs());
+    assertNotSame(first, second);
+
+    // Operators and flags are part of the structure
+    MathExpression sum = (MathExpression) lineOf(interner.intern(parse("1.5 + x")));
+    MathExpression difference = (MathExpression) lineOf(interner.intern(parse("1.5 - x")));
+    assertNotSame(sum, difference);
+    assertSame(sum.getLhs(), difference.getLhs());
+    assertSame(sum.getRhs(), difference.getRhs());
+
+    assertNotSame(lineOf(interner.intern(parse("a?.b"))), lineOf(interner.intern(parse("a.b"))));
+  }
+
+  @Test
+  public void shouldInternStringsAndSymbols() {
+    ExpressionInterner interner = new ExpressionInterner(new DebugMetadataTable(), true);
+
+    StringExpression first = (StringExpression) lineOf(interner.intern(parse("\"a long literal\"")));
+    IdentifierExpression identifier = (IdentifierExpression) lineOf(interner.intern(parse("a_long_literal")));
+    FunctionInvocationExpression invocation = (FunctionInvocationExpression) lineOf(interner.intern(parse("f(\"a long literal\", a_long_literal)")));
+
+    assertSame(first, invocation.getArguments().get(0).a);
+    assertSame(identifier, invocation.getArguments().get(1).a);
+    assertSame(first.getValue(), ((StringExpression) invocation.getArguments().get(0).a).getValue());
+
+    // Function names are shared as well, while prepared arguments are kept
+    FunctionInvocationExpression match = (FunctionInvocationExpression) lineOf(interner.intern(parse("regex_match(f, \"a.c\")")));
+    FunctionInvocationExpression otherMatch = (FunctionInvocationExpression) lineOf(interner.intern(parse("regex_match(f, \"b.c\")")));
+
+    assertSame(match.getName(), otherMatch.getName());
+    assertSame(invocation.getName().getSymbol(), ((IdentifierExpression) match.getArguments().get(0).a).getSymbol());
+    assertNotNull(match.getPrecompiledArguments());
+    assertNotNull(otherMatch.getPrecompiledArguments());
+  }
+
+  @Test
+  public void shouldEvaluateInternedExpressions() {
+    ExpressionInterner interner = new ExpressionInterner(new DebugMetadataTable(), true);
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withStaticVariable("numbers", Arrays.asList(1, 2, 3))
+      .build();
+
+    AExpression first = interner.intern(parse("iter_cat(numbers, (it) => it * 2, \",\") & len(numbers)"));
+    AExpression second = interner.intern(parse("iter_cat(numbers, (it) => it * 3, \",\") & len(numbers)"));
+
+    assertEquals("2,4,63", evaluator.evaluateExpression(first, env));
+    assertEquals("3,6,93", evaluator.evaluateExpression(second, env));
+  }
+
+  private AExpression parse(String input) {
+    return evaluator.optimizeExpression(evaluator.parseString(input));
+  }
+
+  private AExpression lineOf(AExpression program) {
+    return ((ProgramExpression) program).getLines().get(0);
+  }
+}
@@ -30,14 +30,16 @@ import me.blvckbytes.gpeee.error.NonIndexableValueError;
 import me.blvckbytes.gpeee.error.UnexpectedTokenError;
 import me.blvckbytes.gpeee.functions.AExpressionFunction;
 import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
+import me.blvckbytes.gpeee.interpreter.ArrayView;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
 import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
+import java.util.*;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 public class IndexingTests {
 
@@ -71,6 +73,115 @@ public class IndexingTests {
     });
   }
 
+  @Test
+  public void shouldIndexFromTheEnd() {
+    EnvironmentBuilder env = new EnvironmentBuilder()
+      .withStaticVariable("my_list", Arrays.asList(1, 2, 3))
+      .withStaticVariable("my_linked_list", new LinkedList<>(Arrays.asList(4, 5, 6)))
+      .withStaticVariable("my_array", new Integer[] {7, 8, 9});
+
+    env.launch(validator -> {
+      validator.validate("my_list[-1]", 3);
+      validator.validate("my_list[-3]", 1);
+      validator.validate("my_linked_list[-2]", 5);
+      validator.validate("my_array[-1]", 9);
+      validator.validate("range(1, 10)[-1]", 10);
+      validator.validate("map(my_list, (it) => it * 2)[-1]", 6);
+
+      validator.validateThrows("my_list[-4]", InvalidIndexError.class);
+      validator.validateThrows("my_array[-4]", InvalidIndexError.class);
+      validator.validate("my_list?[-4]", (Object) null);
+      validator.validate("map(my_list, (it) => it * 2)?[-4]", (Object) null);
+    });
+  }
+
+  @Test
+  public void shouldIndexPrimitiveArrays() {
+    EnvironmentBuilder env = new EnvironmentBuilder()
+      .withStaticVariable("my_ints", new int[] {1, 2, 3})
+      .withStaticVariable("my_doubles", new double[] {.5, 1.5})
+      .withStaticVariable("my_chars", new char[] {'a', 'b'})
+      .withStaticVariable("my_booleans", new boolean[] {true, false});
+
+    env.launch(validator -> {
+      validator.validate("my_ints[1]", 2);
+      validator.validate("my_doubles[-1]", 1.5);
+      validator.validate("my_chars[0] & my_chars[1]", "ab");
+      validator.validate("my_booleans[1]", false);
+
+      validator.validateThrows("my_ints[3]", InvalidIndexError.class);
+      validator.validate("my_ints?[3]", (Object) null);
+    });
+  }
+
+  @Test
+  public void shouldSliceListsAndArrays() {
+    EnvironmentBuilder env = new EnvironmentBuilder()
+      .withStaticVariable("my_list", Arrays.asList(1, 2, 3, 4, 5))
+      .withStaticVariable("my_ints", new int[] {1, 2, 3, 4, 5})
+      .withStaticVariable("my_null", null)
+      .withStaticVariable("my_map", Collections.singletonMap("a", 1));
+
+    env.launch(validator -> {
+      validator.validate("my_list[1:3]", Arrays.asList(2, 3));
+      validator.validate("my_list[:2]", Arrays.asList(1, 2));
+      validator.validate("my_list[3:]", Arrays.asList(4, 5));
+      validator.validate("my_list[:]", Arrays.asList(1, 2, 3, 4, 5));
+      validator.validate("my_list[-2:]", Arrays.asList(4, 5));
+      validator.validate("my_list[1:-1]", Arrays.asList(2, 3, 4));
+      validator.validate("my_list[1 + 1:2 * 2][0]", 3);
+
+      // Bounds are clamped into the collection
+      validator.validate("my_list[3:100]", Arrays.asList(4, 5));
+      validator.validate("my_list[-100:1]", Collections.singletonList(1));
+      validator.validate("my_list[4:2]", Collections.emptyList());
+
+      validator.validate("my_ints[1:3]", Arrays.asList(2, 3));
+      validator.validate("my_ints[-1:]", Collections.singletonList(5));
+      validator.validate("range(1, 100)[10:13]", Arrays.asList(11, 12, 13));
+      validator.validate("my_list[1:][1:][0]", 3);
+
+      validator.validate("my_null?[1:2]", (Object) null);
+      validator.validateThrows("my_null[1:2]", NonIndexableValueError.class);
+      validator.validateThrows("my_map[0:1]", NonIndexableValueError.class);
+      validator.validateThrows("my_list[1:2", UnexpectedTokenError.class);
+    });
+  }
+
+  @Test
+  public void shouldSliceIntoViews() {
+    GPEEE evaluator = new GPEEE(Logger.getGlobal());
+    List<Integer> items = new ArrayList<>(Arrays.asList(1, 2, 3, 4));
+    int[] numbers = { 1, 2, 3, 4 };
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withStaticVariable("items", items)
+      .withStaticVariable("numbers", numbers)
+      .build();
+
+    List<?> itemsView = (List<?>) evaluator.evaluateExpression(evaluator.parseString("items[1:3]"), env);
+    Object numbersView = evaluator.evaluateExpression(evaluator.parseString("numbers[1:3]"), env);
+
+    // Changes of the source are visible within it's views, as nothing has been copied
+    items.set(1, 20);
+    numbers[2] = 30;
+
+    assertEquals(Arrays.asList(20, 3), itemsView);
+    assertInstanceOf(ArrayView.class, numbersView);
+    assertEquals(Arrays.asList(2, 30), numbersView);
+  }
+
+  @Test
+  public void shouldIndexMapsHoldingNull() {
+    EnvironmentBuilder env = new EnvironmentBuilder()
+      .withStaticVariable("my_map", Collections.singletonMap("key", null));
+
+    env.launch(validator -> {
+      validator.validate("my_map[\"key\"]", (Object) null);
+      validator.validateThrows("my_map[\"unknown\"]", InvalidMapKeyError.class);
+    });
+  }
+
   @Test
   public void shouldIndexMaps() {
     EnvironmentBuilder env = new EnvironmentBuilder()
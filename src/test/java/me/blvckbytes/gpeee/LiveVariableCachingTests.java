@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee;
+
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LiveVariableCachingTests {
+
+  private final GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+  @Test
+  public void shouldResolveLiveVariablesOncePerEvaluation() {
+    AtomicInteger reads = new AtomicInteger();
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withLiveVariableCaching(true)
+      .withLiveVariable("balance", () -> reads.incrementAndGet() * 100L)
+      .build();
+
+    // Callbacks share the session's cache
+    assertEquals(100L * 4, evaluate("balance + balance + len(map(range(1, 2), (it) => balance)) * balance", env));
+    assertEquals(1, reads.get());
+
+    // Every evaluation session starts out fresh
+    assertEquals(200L, evaluate("balance", env));
+    assertEquals(2, reads.get());
+  }
+
+  @Test
+  public void shouldReadVolatileLiveVariablesFresh() {
+    AtomicInteger counter = new AtomicInteger();
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withLiveVariableCaching(true)
+      .withVolatileLiveVariable("next", counter::incrementAndGet)
+      .build();
+
+    assertEquals(6L, evaluate("next + next + next", env));
+    assertEquals(3, counter.get());
+  }
+
+  @Test
+  public void shouldReadLiveVariablesFreshByDefault() {
+    AtomicInteger counter = new AtomicInteger();
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withLiveVariable("next", counter::incrementAndGet)
+      .build();
+
+    assertEquals(3L, evaluate("next + next", env));
+    assertEquals(2, counter.get());
+  }
+
+  @Test
+  public void shouldInheritCachingFromExtendedEnvironment() {
+    AtomicInteger valueReads = new AtomicInteger(), nextReads = new AtomicInteger();
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withLiveVariable("value", valueReads::incrementAndGet)
+      .build(
+        new EvaluationEnvironmentBuilder()
+          .withLiveVariableCaching(true)
+          .withVolatileLiveVariable("next", nextReads::incrementAndGet)
+          .build()
+      );
+
+    evaluate("value & value & next & next", env);
+    assertEquals(1, valueReads.get());
+    assertEquals(2, nextReads.get());
+  }
+
+  private Object evaluate(String input, IEvaluationEnvironment env) {
+    return evaluator.evaluateExpression(evaluator.parseString(input), env);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee;
+
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.StandardValueInterpreter;
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+
+import java.math.MathContext;
+import java.util.logging.Logger;
+
+/**
+ * Reports the time per evaluation of arithmetic on small numbers, which the overflow
+ * checks should not slow down, as well as the cost of arbitrary precision on decimals.
+ */
+public class MathBenchmark {
+
+  private static final int WARMUP_ITERATIONS = 200_000;
+  private static final int ITERATIONS = 2_000_000;
+
+  private static final String[] INPUTS = {
+    "a * b + c - a / 2",
+    "a ^ 3 % b + c * -a",
+    "price * amount * 1.19 - discount",
+  };
+
+  public static void main(String[] args) {
+    GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+    for (String input : INPUTS) {
+      AExpression expression = evaluator.optimizeExpression(evaluator.parseString(input));
+
+      run("primitive", input, evaluator, expression, new StandardValueInterpreter());
+      run("arbitrary precision", input, evaluator, expression, new StandardValueInterpreter(MathContext.DECIMAL64));
+    }
+  }
+
+  private static void run(String name, String input, GPEEE evaluator, AExpression expression, StandardValueInterpreter valueInterpreter) {
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withValueInterpreter(valueInterpreter)
+      .withStaticVariable("a", 12L)
+      .withStaticVariable("b", 7L)
+      .withStaticVariable("c", 300L)
+      .withStaticVariable("price", 4.99)
+      .withStaticVariable("amount", 3L)
+      .withStaticVariable("discount", 0.5)
+      .build();
+
+    Object result = null;
+
+    for (int i = 0; i < WARMUP_ITERATIONS; i++)
+      result = evaluator.evaluateExpression(expression, env);
+
+    long start = System.nanoTime();
+
+    for (int i = 0; i < ITERATIONS; i++)
+      result = evaluator.evaluateExpression(expression, env);
+
+    long elapsed = System.nanoTime() - start;
+    System.out.printf("%s [%s]: %d ns per evaluation, result %s%n", input, name, elapsed / ITERATIONS, result);
+  }
+}
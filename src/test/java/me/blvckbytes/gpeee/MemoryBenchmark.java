@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee;
+
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+import me.blvckbytes.gpeee.parser.expression.DebugMetadataTable;
+import me.blvckbytes.gpeee.parser.expression.ExpressionInterner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Reports the heap retained per loaded expression, with and without compacted debug metadata and interning.
+ * Run with a fixed heap size (e.g. -Xms1g -Xmx1g) for stable numbers.
+ */
+public class MemoryBenchmark {
+
+  private static final int EXPRESSION_COUNT = 50_000;
+
+  private static final String[] TEMPLATES = {
+    "\"Welcome back, \" & player.name & \"! Your balance is \" & str(balance_%d) & \" coins.\"",
+    "if player.level >= %d then \"&aUnlocked\" else \"&cRequires level %d\"",
+    "iter_cat(map(items_%d, (item) => item.name), (name) => \"&7- \" & name, \"\\n\")",
+  };
+
+  public static void main(String[] args) {
+    GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+    run("plain", evaluator, expression -> expression);
+
+    DebugMetadataTable table = new DebugMetadataTable();
+    run("compacted", evaluator, table::compact);
+
+    System.out.println("shared tokens: " + table.getTokenCount() + ", shared strings: " + table.getStringCount());
+
+    ExpressionInterner interner = new ExpressionInterner(new DebugMetadataTable(), true);
+    run("interned", evaluator, interner::intern);
+
+    System.out.println("shared nodes: " + interner.size());
+  }
+
+  private static void run(String name, GPEEE evaluator, Function<AExpression, AExpression> postProcessor) {
+    long before = usedMemory();
+    List<AExpression> expressions = new ArrayList<>(EXPRESSION_COUNT);
+
+    for (int i = 0; i < EXPRESSION_COUNT; i++) {
+      // Hosts commonly load the same expressions many times, with a few variations
+      String template = TEMPLATES[i % TEMPLATES.length];
+      String input = String.format(template, i % 100, i % 100);
+      expressions.add(postProcessor.apply(evaluator.optimizeExpression(evaluator.parseString(input))));
+    }
+
+    long retained = usedMemory() - before;
+    System.out.printf(
+      "%s: %d expressions retain %d bytes, %d bytes per expression%n",
+      name, expressions.size(), retained, retained / expressions.size()
+    );
+  }
+
+  private static long usedMemory() {
+    Runtime runtime = Runtime.getRuntime();
+
+    for (int i = 0; i < 5; i++) {
+      System.gc();
+
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee;
+
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.IValueInterpreter;
+import me.blvckbytes.gpeee.interpreter.StandardValueInterpreter;
+import me.blvckbytes.gpeee.parser.MathOperation;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NumericModeTests {
+
+  private final GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+  @Test
+  public void shouldPromoteOverflowingLongs() {
+    IEvaluationEnvironment env = createEnvironment(new StandardValueInterpreter());
+
+    assertEquals(Long.MAX_VALUE, evaluate("max - 1 + 1", env));
+    assertEquals(Long.MAX_VALUE + 1D, evaluate("max + 1", env));
+    assertEquals(Long.MIN_VALUE - 1D, evaluate("min - 1", env));
+    assertEquals(Long.MAX_VALUE * 2D, evaluate("max * 2", env));
+    assertEquals(-(double) Long.MIN_VALUE, evaluate("-min", env));
+
+    // Whole powers are computed exactly as long as they fit
+    assertEquals(4611686018427387904L, evaluate("2^62", env));
+    assertEquals(3486784401L, evaluate("3^20", env));
+    assertEquals(Math.pow(2, 64), evaluate("2^64", env));
+  }
+
+  @Test
+  public void shouldComputeWithArbitraryPrecision() {
+    IEvaluationEnvironment env = createEnvironment(new StandardValueInterpreter(MathContext.DECIMAL128));
+
+    assertEquals(new BigDecimal("0.3"), evaluate("0.1 + 0.2", env));
+    assertEquals(true, evaluate("0.1 + 0.2 == 0.3", env));
+    assertEquals(new BigDecimal("2.5"), evaluate("10 / 4", env));
+    assertEquals(new BigDecimal("0.25"), evaluate("2 ^ -2", env));
+    assertEquals(BigDecimal.ONE.divide(new BigDecimal(3), MathContext.DECIMAL128), evaluate("1 / 3", env));
+
+    // Whole results stay longs, unless they don't fit
+    assertEquals(3L, evaluate("1.5 * 2", env));
+    assertEquals(5L, evaluate("10 / 2", env));
+    assertEquals(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE), evaluate("max + 1", env));
+    assertEquals(Long.MAX_VALUE, evaluate("max + 1 - 1", env));
+    assertEquals(BigInteger.valueOf(2).pow(100), evaluate("2^100", env));
+    assertEquals(new BigDecimal("1267650600228229401496703205376.5"), evaluate("2^100 + 0.5", env));
+
+    // Balances compare and stringify exactly
+    assertEquals(true, evaluate("balance > 100", env));
+    assertEquals(false, evaluate("balance > 100.01", env));
+    assertEquals(new BigDecimal("100.02"), evaluate("balance + 0.01", env));
+    assertEquals("balance: 0.000000010001", evaluate("\"balance: \" & balance / 1000000 / 10000", env));
+
+    // Dividing decimals by zero behaves like it does without arbitrary precision
+    assertEquals(Double.POSITIVE_INFINITY, evaluate("1.5 / 0", env));
+    assertEquals(Double.NEGATIVE_INFINITY, evaluate("-1.5 / 0.0", env));
+    assertEquals(Double.NaN, evaluate("1.5 % 0", env));
+
+    // Remainders of quotients beyond the precision are approximated
+    assertEquals(1e40 % 3, evaluate("10^40 % 3", env));
+  }
+
+  @Test
+  public void shouldAggregateWithAnyPreciseValueInterpreter() {
+    IEvaluationEnvironment env = createEnvironment(new DelegatingValueInterpreter(new StandardValueInterpreter(MathContext.DECIMAL128)));
+
+    assertEquals(new BigDecimal("0.6"), evaluate("sum(list_of(0.1, 0.2, 0.3))", env));
+    assertEquals(new BigDecimal("0.2"), evaluate("avg(list_of(0.1, 0.2, 0.3))", env));
+    assertEquals(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(2)), evaluate("sum(list_of(max, max))", env));
+  }
+
+  @Test
+  public void shouldOptimizeWithTheBaseEnvironmentsValueInterpreter() {
+    GPEEE preciseEvaluator = new GPEEE(Logger.getGlobal());
+    preciseEvaluator.setBaseEnvironment(
+      new EvaluationEnvironmentBuilder()
+        .withValueInterpreter(new StandardValueInterpreter(MathContext.DECIMAL128))
+    );
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder().build();
+    Object result = preciseEvaluator.evaluateExpression(preciseEvaluator.optimizeExpression(preciseEvaluator.parseString("0.1 + 0.2")), env);
+    assertEquals(new BigDecimal("0.3"), result);
+
+    // Results which have a literal representation are still resolved ahead of time
+    assertEquals("6", preciseEvaluator.optimizeExpression(preciseEvaluator.parseString("1.5 * 4")).expressionify());
+  }
+
+  @Test
+  public void shouldOptimizeWithoutChangingTheEvaluationEnvironmentsNumericMode() {
+    IEvaluationEnvironment env = createEnvironment(new StandardValueInterpreter(MathContext.DECIMAL128));
+
+    for (String input : new String[] { "0.1 + 0.2", "2 ^ 100", "0.1 * 3 == 0.3", "-(0.1 + 0.2)", "max * 2" })
+      assertEquals(evaluate(input, env), evaluator.evaluateExpression(evaluator.optimizeExpression(evaluator.parseString(input)), env), input);
+
+    assertEquals(new BigDecimal("0.3"), evaluator.evaluateExpression(evaluator.optimizeExpression(evaluator.parseString("0.1 + 0.2")), env));
+    assertEquals(true, evaluator.evaluateExpression(evaluator.optimizeExpression(evaluator.parseString("0.1 * 3 == 0.3")), env));
+
+    // Whole results don't depend on the numeric mode and are still resolved ahead of time
+    assertEquals("10", evaluator.optimizeExpression(evaluator.parseString("2 * 5")).expressionify());
+  }
+
+  private IEvaluationEnvironment createEnvironment(IValueInterpreter valueInterpreter) {
+    return new EvaluationEnvironmentBuilder()
+      .withValueInterpreter(valueInterpreter)
+      .withStaticVariable("max", Long.MAX_VALUE)
+      .withStaticVariable("min", Long.MIN_VALUE)
+      .withStaticVariable("balance", new BigDecimal("100.01"))
+      .build();
+  }
+
+  private Object evaluate(String input, IEvaluationEnvironment env) {
+    return evaluator.evaluateExpression(evaluator.parseString(input), env);
+  }
+
+  /**
+   * Value interpreter which isn't a {@link StandardValueInterpreter}, but computes just like the wrapped one
+   */
+  private static class DelegatingValueInterpreter implements IValueInterpreter {
+
+    private final IValueInterpreter delegate;
+
+    private DelegatingValueInterpreter(IValueInterpreter delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public boolean asBoolean(@Nullable Object value) {
+      return delegate.asBoolean(value);
+    }
+
+    @Override
+    public long asLong(@Nullable Object value) {
+      return delegate.asLong(value);
+    }
+
+    @Override
+    public double asDouble(@Nullable Object value) {
+      return delegate.asDouble(value);
+    }
+
+    @Override
+    public String asString(@Nullable Object value) {
+      return delegate.asString(value);
+    }
+
+    @Override
+    public List<Object> asCollection(@Nullable Object value) {
+      return delegate.asCollection(value);
+    }
+
+    @Override
+    public boolean hasDecimalPoint(@Nullable Object value) {
+      return delegate.hasDecimalPoint(value);
+    }
+
+    @Override
+    public int compare(@Nullable Object a, @Nullable Object b) {
+      return delegate.compare(a, b);
+    }
+
+    @Override
+    public boolean areEqual(@Nullable Object a, @Nullable Object b, boolean strict) {
+      return delegate.areEqual(a, b, strict);
+    }
+
+    @Override
+    public Object performMath(@Nullable Object a, @Nullable Object b, MathOperation operation) {
+      return delegate.performMath(a, b, operation);
+    }
+
+    @Override
+    public boolean isArbitraryPrecision() {
+      return delegate.isArbitraryPrecision();
+    }
+  }
+}
@@ -24,9 +24,15 @@
 
 package me.blvckbytes.gpeee;
 
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.parser.expression.*;
 import org.junit.jupiter.api.Test;
 
+import java.util.logging.Logger;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class OptimizerTests {
 
@@ -40,4 +46,32 @@ public class OptimizerTests {
         );
       });
   }
+
+  @Test
+  public void shouldFlattenConcatenationChains() {
+    GPEEE evaluator = new GPEEE(Logger.getGlobal());
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withStaticVariable("a", "A")
+      .withStaticVariable("b", 2)
+      .withStaticVariable("c", null)
+      .build();
+
+    AExpression chain = lineOf(evaluator.optimizeExpression(evaluator.parseString("a & \" \" & (b & \" - \" & c) & 5")));
+
+    assertTrue(chain instanceof ConcatenationChainExpression);
+    assertEquals(6, ((ConcatenationChainExpression) chain).getParts().size());
+    assertEquals("A 2 - <null>5", evaluator.evaluateExpression(chain, env));
+
+    // Chains are also flattened within other expressions, while pairs remain binary
+    IfThenElseExpression ifExpression = (IfThenElseExpression) lineOf(evaluator.optimizeExpression(
+      evaluator.parseString("if a then a & b & c else a & b")
+    ));
+
+    assertTrue(ifExpression.getPositiveBody() instanceof ConcatenationChainExpression);
+    assertTrue(ifExpression.getNegativeBody() instanceof ConcatenationExpression);
+  }
+
+  private AExpression lineOf(AExpression program) {
+    return ((ProgramExpression) program).getLines().get(0);
+  }
 }
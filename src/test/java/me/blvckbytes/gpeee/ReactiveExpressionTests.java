@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee;
+
+import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.ReactiveExpression;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReactiveExpressionTests {
+
+  private final GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+  @Test
+  public void shouldOnlyReevaluateAffectedSubtrees() {
+    AtomicLong a = new AtomicLong(2), b = new AtomicLong(3);
+    AtomicInteger aReads = new AtomicInteger(), bReads = new AtomicInteger();
+
+    ReactiveExpression expression = createReactive(
+      "a * 10 + b",
+      new EvaluationEnvironmentBuilder()
+        .withLiveVariable("a", () -> { aReads.incrementAndGet(); return a.get(); })
+        .withLiveVariable("b", () -> { bReads.incrementAndGet(); return b.get(); })
+    );
+
+    assertEquals(23L, expression.evaluate());
+    assertEquals(new HashSet<>(Arrays.asList("a", "b")), expression.getDependencies());
+
+    // Nothing changed, no supplier is invoked
+    assertEquals(23L, expression.evaluate());
+    assertEquals(1, aReads.get());
+    assertEquals(1, bReads.get());
+
+    // Only the subtree reading b is evaluated again
+    b.set(5);
+    expression.signalChanged("b");
+    assertEquals(25L, expression.evaluate());
+    assertEquals(1, aReads.get());
+    assertEquals(2, bReads.get());
+
+    a.set(1);
+    expression.signalChanged("A");
+    assertEquals(15L, expression.evaluate());
+    assertEquals(2, aReads.get());
+    assertEquals(2, bReads.get());
+
+    expression.invalidateAll();
+    assertEquals(15L, expression.evaluate());
+    assertEquals(3, aReads.get());
+    assertEquals(3, bReads.get());
+  }
+
+  @Test
+  public void shouldOnlyTrackTakenBranches() {
+    Map<String, Object> variables = new HashMap<>();
+    variables.put("flag", true);
+    variables.put("x", "x");
+    variables.put("y", "y");
+
+    ReactiveExpression expression = createReactive(
+      "if flag then x else y",
+      new EvaluationEnvironmentBuilder()
+        .withLiveVariable("flag", () -> variables.get("flag"))
+        .withLiveVariable("x", () -> variables.get("x"))
+        .withLiveVariable("y", () -> variables.get("y"))
+    );
+
+    assertEquals("x", expression.evaluate());
+    assertEquals(new HashSet<>(Arrays.asList("flag", "x")), expression.getDependencies());
+
+    // The untaken branch is not a dependency
+    variables.put("y", "z");
+    expression.signalChanged("y");
+    assertEquals("x", expression.evaluate());
+
+    variables.put("flag", false);
+    expression.signalChanged("flag");
+    assertEquals("z", expression.evaluate());
+    assertEquals(new HashSet<>(Arrays.asList("flag", "y")), expression.getDependencies());
+  }
+
+  @Test
+  public void shouldTrackReadsWithinCallbacksAndLocals() {
+    AtomicLong factor = new AtomicLong(2);
+
+    ReactiveExpression expression = createReactive(
+      "doubled = map(items, (it) => it * factor)\n" +
+      "iter_cat(doubled, (it) => it, \",\")",
+      new EvaluationEnvironmentBuilder()
+        .withStaticVariable("items", Arrays.asList(1, 2, 3))
+        .withLiveVariable("factor", factor::get)
+    );
+
+    assertEquals("2,4,6", expression.evaluate());
+    assertEquals(new HashSet<>(Arrays.asList("items", "factor")), expression.getDependencies());
+
+    // Re-evaluating defines the local variable again
+    assertEquals("2,4,6", expression.evaluate());
+
+    factor.set(3);
+    expression.signalChanged("factor");
+    assertEquals("3,6,9", expression.evaluate());
+  }
+
+  @Test
+  public void shouldAlwaysReinvokeImpureFunctions() {
+    AtomicInteger counter = new AtomicInteger();
+    AtomicInteger pureCalls = new AtomicInteger();
+
+    ReactiveExpression expression = createReactive(
+      "next() & \"-\" & twice(5)",
+      new EvaluationEnvironmentBuilder()
+        .withFunction("next", new AExpressionFunction() {
+          @Override
+          public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+            return counter.incrementAndGet();
+          }
+
+          @Override
+          public @Nullable List<ExpressionFunctionArgument> getArguments() {
+            return null;
+          }
+        })
+        .withFunction("twice", new AExpressionFunction() {
+          @Override
+          public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+            pureCalls.incrementAndGet();
+            return ((Number) nonNull(args, 0)).longValue() * 2;
+          }
+
+          @Override
+          public @Nullable List<ExpressionFunctionArgument> getArguments() {
+            return null;
+          }
+
+          @Override
+          public boolean isPure() {
+            return true;
+          }
+        })
+    );
+
+    assertEquals("1-10", expression.evaluate());
+    assertEquals("2-10", expression.evaluate());
+    assertEquals("3-10", expression.evaluate());
+    assertEquals(1, pureCalls.get());
+  }
+
+  private ReactiveExpression createReactive(String input, EvaluationEnvironmentBuilder environment) {
+    return evaluator.createReactiveExpression(evaluator.parseString(input), environment.build());
+  }
+}
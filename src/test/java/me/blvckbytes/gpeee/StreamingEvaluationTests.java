@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee;
+
+import me.blvckbytes.gpeee.error.EvaluationLimitExceededError;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.EvaluationLimits;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StreamingEvaluationTests {
+
+  private final GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+  @Test
+  public void shouldStreamTheStringRepresentation() throws IOException {
+    IEvaluationEnvironment env = createEnvironment(null);
+
+    String[] inputs = {
+      "\"hello\"",
+      "\"a\" & \"b\" & 5 & null",
+      "\"a\" & (\"b\" & \"c\")",
+      "`Hello, {name}! {iter_cat(list, (it) => it * 2, \", \")}`",
+      "iter_cat(list, (it) => it, \"-\")",
+      "iter_cat(empty, (it) => it, \"-\", \"nothing\")",
+      "iter_cat(words, (it) => it, \",\")",
+      "if len(list) > 2 then \"many\" & \"!\" else \"few\"",
+      "iter_cat(list, (it) => it, \", \") & \" and \" & name",
+      "x = \"ignored\"\nname & x",
+      "list",
+      "5 + 5",
+    };
+
+    for (String input : inputs) {
+      AExpression expression = evaluator.optimizeExpression(evaluator.parseString(input));
+      Object expected = env.getValueInterpreter().asString(evaluator.evaluateExpression(expression, env));
+
+      StringWriter writer = new StringWriter();
+      evaluator.evaluateInto(expression, env, writer);
+      assertEquals(expected, writer.toString(), input);
+    }
+  }
+
+  @Test
+  public void shouldLimitStreamedStringLengths() {
+    IEvaluationEnvironment env = createEnvironment(new EvaluationLimits().withMaxStringLength(5));
+
+    EvaluationLimitExceededError error = assertThrows(EvaluationLimitExceededError.class, () -> {
+      evaluator.evaluateInto(evaluator.parseString("iter_cat(list, (it) => it, \", \")"), env, new StringBuilder());
+    });
+
+    assertEquals(EvaluationLimitExceededError.Limit.STRING_LENGTH, error.getLimit());
+  }
+
+  @Test
+  public void shouldPropagateOutputErrors() {
+    IEvaluationEnvironment env = createEnvironment(null);
+
+    Writer failingWriter = new Writer() {
+      @Override
+      public void write(char[] buffer, int offset, int length) throws IOException {
+        throw new IOException("Output closed");
+      }
+
+      @Override
+      public void flush() {}
+
+      @Override
+      public void close() {}
+    };
+
+    IOException error = assertThrows(IOException.class, () -> {
+      evaluator.evaluateInto(evaluator.parseString("`Hello, {name}!`"), env, failingWriter);
+    });
+
+    assertEquals("Output closed", error.getMessage());
+  }
+
+  private IEvaluationEnvironment createEnvironment(EvaluationLimits limits) {
+    return new EvaluationEnvironmentBuilder()
+      .withStaticVariable("name", "Steve")
+      .withStaticVariable("list", Arrays.asList(1, 2, 3, 4))
+      .withStaticVariable("words", Arrays.asList("", "a", "b"))
+      .withStaticVariable("empty", Collections.emptyList())
+      .withEvaluationLimits(limits)
+      .build();
+  }
+}
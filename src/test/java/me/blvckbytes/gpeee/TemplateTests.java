@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee;
+
+import me.blvckbytes.gpeee.error.UndefinedVariableError;
+import me.blvckbytes.gpeee.error.UnexpectedTokenError;
+import me.blvckbytes.gpeee.error.UnterminatedStringError;
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+import me.blvckbytes.gpeee.parser.expression.ProgramExpression;
+import me.blvckbytes.gpeee.parser.expression.TemplateExpression;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TemplateTests {
+
+  @Test
+  public void shouldRenderTemplates() {
+    new EnvironmentBuilder()
+      .withStaticVariable("name", "Steve")
+      .withStaticVariable("balance", 12.5)
+      .withStaticVariable("items", Arrays.asList("a", "b"))
+      .launch(validator -> {
+        validator.validate("`Hello, {name}! You have {balance} coins.`", "Hello, Steve! You have 12.5 coins.");
+        validator.validate("`{name}{name}`", "SteveSteve");
+        validator.validate("`no placeholders`", "no placeholders");
+        validator.validate("``", "");
+        validator.validate("`{ if balance > 10 then \"rich\" else \"poor\" }`", "rich");
+        validator.validate("`{iter_cat(items, (it) => `<{it}>`, \", \")}`", "<a>, <b>");
+        validator.validate("`{null}` & `{5 * 2}`", "<null>10");
+        validator.validate("`line one\nline {1 + 1}`", "line one\nline 2");
+      });
+  }
+
+  @Test
+  public void shouldHandleEscapesAndStrings() {
+    new EnvironmentBuilder()
+      .launch(validator -> {
+        validator.validate("`\\{not a placeholder\\} \\` \\\\`", "{not a placeholder} ` \\");
+        validator.validate("`{\"}\" & \"{\"}`", "}{");
+        validator.validate("`a \"quoted\" word`", "a \"quoted\" word");
+      });
+  }
+
+  @Test
+  public void shouldReportErrorsWithinPlaceholders() {
+    new EnvironmentBuilder()
+      .launch(validator -> {
+        validator.validateThrows("`unterminated {1}", UnterminatedStringError.class);
+        validator.validateThrows("`unterminated {1`", UnterminatedStringError.class);
+        validator.validateThrows("`empty {}`", UnexpectedTokenError.class);
+        validator.validateThrows("`two {1 2}`", UnexpectedTokenError.class);
+        validator.validateThrows("`undefined {unknown}`", UndefinedVariableError.class);
+      });
+
+    GPEEE evaluator = new GPEEE(Logger.getGlobal());
+    UndefinedVariableError error = assertThrows(UndefinedVariableError.class, () -> {
+      evaluator.evaluateExpression(evaluator.parseString("1 &\n  `a\n  b {unknown}`"), GPEEE.EMPTY_ENVIRONMENT);
+    });
+
+    assertTrue(error.getMessage().contains("3:   b {unknown}`\n        ^"), error.getMessage());
+  }
+
+  @Test
+  public void shouldRenderStaticTemplatesAheadOfTime() {
+    GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+    AExpression constant = lineOf(evaluator.optimizeExpression(evaluator.parseString("`{1 + 2} and {\"a\" & \"b\"}`")));
+    assertEquals("\"3 and ab\"", constant.expressionify());
+
+    AExpression template = lineOf(evaluator.optimizeExpression(evaluator.parseString("`\\{{1 + 2}\\} {name}`")));
+    assertTrue(template instanceof TemplateExpression);
+    assertEquals("`\\{{3}\\} {name}`", template.expressionify());
+  }
+
+  private AExpression lineOf(AExpression program) {
+    return ((ProgramExpression) program).getLines().get(0);
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee;
+
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.IValueConverter;
+import me.blvckbytes.gpeee.interpreter.StandardValueInterpreter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValueConverterTests {
+
+  private static class Balance {
+    private final long cents;
+
+    private Balance(long cents) {
+      this.cents = cents;
+    }
+  }
+
+  private final GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+  @Test
+  public void shouldUseRegisteredConverters() {
+    StandardValueInterpreter valueInterpreter = new StandardValueInterpreter();
+
+    // Unknown types are interpreted as zero
+    assertFalse(valueInterpreter.asBoolean(new Balance(250)));
+    assertEquals(0, valueInterpreter.asLong(new Balance(250)));
+
+    valueInterpreter.registerConverter(Balance.class, new IValueConverter<Balance>() {
+      @Override
+      public long asLong(Balance value) {
+        return value.cents / 100;
+      }
+
+      @Override
+      public double asDouble(Balance value) {
+        return value.cents / 100D;
+      }
+
+      @Override
+      public boolean hasDecimalPoint(Balance value) {
+        return value.cents % 100 != 0;
+      }
+    });
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withValueInterpreter(valueInterpreter)
+      .withStaticVariable("balance", new Balance(250))
+      .withStaticVariable("empty_balance", new Balance(0))
+      .build();
+
+    assertEquals(true, evaluate("balance > 2", env));
+    assertEquals(false, evaluate("balance > 2.5", env));
+    assertEquals(true, evaluate("balance == 2.5", env));
+    assertEquals(3.5, evaluate("balance + 1", env));
+    assertEquals("yes", evaluate("if balance then \"yes\" else \"no\"", env));
+    assertEquals("no", evaluate("if empty_balance then \"yes\" else \"no\"", env));
+  }
+
+  @Test
+  public void shouldPreferMostSpecificConverters() {
+    StandardValueInterpreter valueInterpreter = new StandardValueInterpreter();
+
+    assertEquals(1, valueInterpreter.asLong(new BigDecimal("1.5")));
+    assertTrue(valueInterpreter.hasDecimalPoint(new BigDecimal("1.5")));
+
+    valueInterpreter.registerConverter(Number.class, value -> -1);
+    assertEquals(-1, valueInterpreter.asLong(new BigDecimal("1.5")));
+    assertFalse(valueInterpreter.hasDecimalPoint(new BigDecimal("1.5")));
+    assertEquals(-1, valueInterpreter.asLong(5L));
+
+    valueInterpreter.registerConverter(BigDecimal.class, new IValueConverter<BigDecimal>() {
+      @Override
+      public long asLong(BigDecimal value) {
+        return value.longValue();
+      }
+
+      @Override
+      public double asDouble(BigDecimal value) {
+        return value.doubleValue();
+      }
+
+      @Override
+      public boolean hasDecimalPoint(BigDecimal value) {
+        return value.stripTrailingZeros().scale() > 0;
+      }
+    });
+
+    assertTrue(valueInterpreter.hasDecimalPoint(new BigDecimal("1.5")));
+    assertEquals(1.5, valueInterpreter.asDouble(new BigDecimal("1.5")));
+    assertEquals(-1, valueInterpreter.asLong(5L));
+  }
+
+  private Object evaluate(String input, IEvaluationEnvironment env) {
+    return evaluator.evaluateExpression(evaluator.parseString(input), env);
+  }
+}
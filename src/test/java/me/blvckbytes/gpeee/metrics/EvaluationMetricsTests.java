@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.metrics;
+
+import me.blvckbytes.gpeee.GPEEE;
+import me.blvckbytes.gpeee.error.UndefinedVariableError;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+import org.junit.jupiter.api.Test;
+
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EvaluationMetricsTests {
+
+  @Test
+  public void shouldRecordPerExpressionMetrics() {
+    GPEEE evaluator = new GPEEE(Logger.getGlobal());
+    EvaluationMetricsCollector collector = new EvaluationMetricsCollector();
+    evaluator.setMetricsCollector(collector);
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withStaticVariable("a", 5)
+      .build();
+
+    AExpression expression = evaluator.parseString("str(a) & \"!\"");
+
+    for (int i = 0; i < 10; i++)
+      assertEquals("5!", evaluator.evaluateExpression(expression, env));
+
+    assertThrows(UndefinedVariableError.class, () -> evaluator.evaluateExpression(evaluator.parseString("b"), env));
+
+    EvaluationMetrics metrics = collector.snapshot();
+
+    EvaluationMetrics.ExpressionMetrics expressionMetrics = metrics.getExpressions().get("str(a) & \"!\"");
+    assertEquals(10, expressionMetrics.getEvaluations());
+    assertEquals(0, expressionMetrics.getFailures());
+
+    LatencyStatistics latency = expressionMetrics.getLatency();
+    assertTrue(latency.getP50Nanos() <= latency.getP90Nanos());
+    assertTrue(latency.getP90Nanos() <= latency.getP99Nanos());
+    assertTrue(latency.getP99Nanos() <= latency.getMaxNanos());
+    assertTrue(latency.getMaxNanos() <= latency.getTotalNanos());
+
+    assertEquals(1, metrics.getExpressions().get("b").getFailures());
+
+    // Per evaluation: one concatenation, one invocation, an identifier and a string
+    assertEquals(10, metrics.getNodeTypes().get("ConcatenationExpression").getCount());
+    assertEquals(10, metrics.getNodeTypes().get("FunctionInvocationExpression").getCount());
+    assertEquals(11, metrics.getNodeTypes().get("IdentifierExpression").getCount());
+    assertEquals(10L, metrics.getFunctionCalls().get("str"));
+
+    collector.reset();
+    assertTrue(collector.snapshot().getExpressions().isEmpty());
+  }
+
+  @Test
+  public void shouldNotRecordWhenDisabled() {
+    GPEEE evaluator = new GPEEE(Logger.getGlobal());
+    EvaluationMetricsCollector collector = new EvaluationMetricsCollector();
+
+    evaluator.setMetricsCollector(collector);
+    evaluator.setMetricsCollector(null);
+
+    evaluator.evaluateExpression(evaluator.parseString("1 + 2"), GPEEE.EMPTY_ENVIRONMENT);
+
+    EvaluationMetrics metrics = collector.snapshot();
+    assertTrue(metrics.getExpressions().isEmpty());
+    assertTrue(metrics.getNodeTypes().isEmpty());
+    assertTrue(metrics.getFunctionCalls().isEmpty());
+  }
+
+  @Test
+  public void shouldApproximatePercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    for (int i = 1; i <= 100; i++)
+      histogram.record(i * 1000L);
+
+    LatencyStatistics statistics = histogram.snapshot();
+
+    assertEquals(100, statistics.getCount());
+    assertEquals(100_000, statistics.getMaxNanos());
+    assertEquals(5_050_000, statistics.getTotalNanos());
+
+    // Bucket upper bounds are at most twice the exact value
+    assertTrue(statistics.getP50Nanos() >= 50_000 && statistics.getP50Nanos() < 100_000);
+    assertTrue(statistics.getP90Nanos() >= 90_000 && statistics.getP90Nanos() <= 100_000);
+    assertEquals(100_000, statistics.getP99Nanos());
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.metrics;
+
+import me.blvckbytes.gpeee.GPEEE;
+import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SamplingProfilerTests {
+
+  @Test
+  public void shouldAttributeSamplesToSourceSpans() {
+    GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+    // Samples are taken explicitly from within the evaluation, the background thread never wakes up
+    SamplingProfiler profiler = new SamplingProfiler(1, TimeUnit.HOURS);
+    evaluator.setProfiler(profiler);
+    profiler.start();
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withFunction("probe", new AExpressionFunction() {
+        @Override
+        public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+          profiler.sample();
+          return args.get(0);
+        }
+
+        @Override
+        public @Nullable List<ExpressionFunctionArgument> getArguments() {
+          return null;
+        }
+      })
+      .build();
+
+    String source = "a = 1 + 2\n\"x\" & probe(a)";
+    assertEquals("x3", evaluator.evaluateExpression(evaluator.parseString(source), env));
+    profiler.stop();
+
+    assertEquals(1, profiler.getSampleCount());
+
+    List<HotSpot> hotSpots = profiler.getHotSpots();
+    HotSpot hottest = hotSpots.get(0);
+
+    assertEquals("FunctionInvocationExpression", hottest.getNodeType());
+    assertEquals(1, hottest.getSelfSamples());
+    assertEquals(1, hottest.getStartRow());
+    assertEquals(6, hottest.getStartCol());
+    assertEquals("probe(a)", hottest.getExcerpt());
+    assertEquals(source, hottest.getSource());
+
+    // All ancestors have been sampled, but aren't evaluating themselves
+    assertEquals(3, hotSpots.size());
+    assertEquals(0, hotSpots.get(1).getSelfSamples());
+    assertEquals(1, hotSpots.get(1).getTotalSamples());
+
+    assertEquals(
+      "[a = 1 + 2...];ProgramExpression@1:1-2:14;ConcatenationExpression@2:1-2:14;FunctionInvocationExpression@2:7-2:14 1\n",
+      profiler.dumpCollapsedStacks()
+    );
+
+    profiler.reset();
+    assertEquals("", profiler.dumpCollapsedStacks());
+  }
+
+  @Test
+  public void shouldNotTrackNodesWhileStopped() {
+    GPEEE evaluator = new GPEEE(Logger.getGlobal());
+    SamplingProfiler profiler = new SamplingProfiler(1, TimeUnit.HOURS);
+    evaluator.setProfiler(profiler);
+
+    evaluator.evaluateExpression(evaluator.parseString("1 + 2"), GPEEE.EMPTY_ENVIRONMENT);
+    profiler.sample();
+
+    assertEquals(0, profiler.getSampleCount());
+    assertTrue(profiler.getHotSpots().isEmpty());
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.serialization;
+
+import me.blvckbytes.gpeee.GPEEE;
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+import me.blvckbytes.gpeee.parser.expression.FunctionInvocationExpression;
+import me.blvckbytes.gpeee.parser.expression.ProgramExpression;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExpressionBundleTests {
+
+  private final GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void shouldLoadExpressionsLazily() throws Exception {
+    ExpressionBundleWriter writer = new ExpressionBundleWriter();
+
+    for (int i = 0; i < 1000; i++)
+      writer.add("expression_" + i, evaluator.parseString(i + " * 2"));
+
+    Path path = directory.resolve("expressions.bundle");
+    writer.write(path);
+
+    ExpressionBundle bundle = ExpressionBundle.open(path);
+
+    assertEquals(1000, bundle.size());
+    assertEquals(0, bundle.getLoadedCount());
+
+    assertEquals(1998L, evaluate(bundle.get("expression_999")));
+    assertEquals(0L, evaluate(bundle.get("expression_0")));
+    assertEquals(2, bundle.getLoadedCount());
+
+    // Loaded expressions are cached
+    assertSame(bundle.get("expression_0"), bundle.get("expression_0"));
+    assertEquals(2, bundle.getLoadedCount());
+
+    assertTrue(bundle.contains("expression_500"));
+    assertFalse(bundle.contains("expression_1000"));
+    assertNull(bundle.get("expression_1000"));
+    assertNull(bundle.get(""));
+  }
+
+  @Test
+  public void shouldPrecompileArgumentsOfLoadedExpressions() throws Exception {
+    String input = "regex_match(x, \"a.c\")";
+    Path path = directory.resolve("precompiled.bundle");
+    new ExpressionBundleWriter().add("match", evaluator.optimizeExpression(evaluator.parseString(input))).write(path);
+
+    AExpression expression = evaluator.openBundle(path).get("match", input);
+    assertNotNull(expression);
+
+    FunctionInvocationExpression invocation = (FunctionInvocationExpression) ((ProgramExpression) expression).getLines().get(0);
+    Object[] precompiledArguments = invocation.getPrecompiledArguments();
+    assertNotNull(precompiledArguments);
+    assertNull(precompiledArguments[0]);
+    assertEquals("a.c", ((Pattern) precompiledArguments[1]).pattern());
+  }
+
+  @Test
+  public void shouldRejectOutdatedExpressions() throws Exception {
+    ByteBuffer buffer = write(new ExpressionBundleWriter()
+      .add("greeting", evaluator.parseString("\"hello\""))
+      .add("übergröße", evaluator.parseString("\"unicode\""))
+    );
+
+    ExpressionBundle bundle = ExpressionBundle.wrap(buffer, new ExpressionSerializer());
+
+    assertNull(bundle.get("greeting", "\"hi\""));
+    assertEquals("hello", evaluate(bundle.get("greeting", "\"hello\"")));
+    assertNull(bundle.get("greeting", "\"hi\""));
+    assertEquals("unicode", evaluate(bundle.get("übergröße")));
+  }
+
+  @Test
+  public void shouldRejectInvalidBundles() throws Exception {
+    ExpressionBundleWriter writer = new ExpressionBundleWriter().add("a", evaluator.parseString("1"));
+    assertThrows(IllegalArgumentException.class, () -> writer.add("a", evaluator.parseString("2")));
+
+    Path path = directory.resolve("invalid.bundle");
+    Files.write(path, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 });
+    assertThrows(IOException.class, () -> ExpressionBundle.open(path));
+
+    ByteBuffer truncated = write(writer);
+    truncated.limit(16);
+    assertThrows(IOException.class, () -> ExpressionBundle.wrap(truncated, new ExpressionSerializer()));
+
+    // Negative length of the only entry's expression
+    ByteBuffer negativeLength = write(writer);
+    negativeLength.putInt(ExpressionBundleWriter.HEADER_SIZE + 16, -1);
+    assertThrows(IOException.class, () -> ExpressionBundle.wrap(negativeLength, new ExpressionSerializer()).get("a"));
+
+    // Id of the only entry beyond the end of the bundle
+    ByteBuffer misplacedId = write(writer);
+    misplacedId.putInt(ExpressionBundleWriter.HEADER_SIZE, misplacedId.capacity());
+    ExpressionBundle misplacedIdBundle = ExpressionBundle.wrap(misplacedId, new ExpressionSerializer());
+    assertThrows(IOException.class, () -> misplacedIdBundle.contains("a"));
+    assertThrows(IOException.class, () -> misplacedIdBundle.get("a"));
+  }
+
+  private ByteBuffer write(ExpressionBundleWriter writer) throws IOException {
+    Path path = Files.createTempFile(directory, "bundle", null);
+    writer.write(path);
+    return ByteBuffer.wrap(Files.readAllBytes(path));
+  }
+
+  private Object evaluate(AExpression expression) {
+    assertNotNull(expression);
+    return evaluator.evaluateExpression(expression, GPEEE.EMPTY_ENVIRONMENT);
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.serialization;
+
+import me.blvckbytes.gpeee.GPEEE;
+import me.blvckbytes.gpeee.error.UndefinedVariableError;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.parser.expression.AExpression;
+import me.blvckbytes.gpeee.parser.expression.FunctionInvocationExpression;
+import me.blvckbytes.gpeee.parser.expression.ProgramExpression;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExpressionSerializerTests {
+
+  private final GPEEE evaluator = new GPEEE(Logger.getGlobal());
+  private final ExpressionSerializer serializer = new ExpressionSerializer();
+
+  @Test
+  public void shouldRoundTripAllExpressionTypes() throws Exception {
+    assertRoundTrip("5 + -2.5 * 3 ^ 2 % 4 / 1");
+    assertRoundTrip("true and not false or null == \"a\" & \"b\"");
+    assertRoundTrip("a ?? b.c?.d[1]?[2] >= -1234567 !== x <= 3 != 4 > 2 === 1 < 2");
+    assertRoundTrip("a[1:-1] & b?[:2][x:] & c[:]");
+    assertRoundTrip("if a then map(list, (it, ix) => it * ix) else str?(value=b)");
+    assertRoundTrip("`a {b & c & d} \\{ {`nested {e}`}`");
+    assertRoundTrip("x = 5\ny = x + 1\nlet_it_be_unicode = \"äöü ✓\"\ny");
+  }
+
+  @Test
+  public void shouldEvaluateDeserializedExpressions() throws Exception {
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withStaticVariable("items", Arrays.asList(1, 2, 3))
+      .build();
+
+    String input = "iter_cat(map(items, (it) => it * 2), (it) => \"#\" & it & \"!\", \", \")";
+    AExpression expression = serializer.deserialize(serializer.serialize(evaluator.optimizeExpression(evaluator.parseString(input))));
+
+    assertEquals("#2!, #4!, #6!", evaluator.evaluateExpression(expression, env));
+  }
+
+  @Test
+  public void shouldPrecompileArgumentsOfLoadedExpressions() throws Exception {
+    String input = "regex_match(x, \"a.c\")";
+    AExpression optimized = evaluator.optimizeExpression(evaluator.parseString(input));
+    AExpression loaded = evaluator.loadOrParse(input, serializer.serialize(optimized));
+
+    FunctionInvocationExpression invocation = (FunctionInvocationExpression) ((ProgramExpression) loaded).getLines().get(0);
+    Object[] precompiledArguments = invocation.getPrecompiledArguments();
+    assertNotNull(precompiledArguments);
+    assertNull(precompiledArguments[0]);
+    assertEquals("a.c", ((Pattern) precompiledArguments[1]).pattern());
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withStaticVariable("x", "abc")
+      .build();
+
+    assertEquals(true, evaluator.evaluateExpression(loaded, env));
+  }
+
+  @Test
+  public void shouldKeepErrorPositions() throws Exception {
+    String input = "5 +\n  undefined_variable";
+    AExpression expression = serializer.deserialize(serializer.serialize(evaluator.parseString(input)));
+
+    UndefinedVariableError error = assertThrows(UndefinedVariableError.class, () -> {
+      evaluator.evaluateExpression(expression, GPEEE.EMPTY_ENVIRONMENT);
+    });
+
+    UndefinedVariableError expected = assertThrows(UndefinedVariableError.class, () -> {
+      evaluator.evaluateExpression(evaluator.parseString(input), GPEEE.EMPTY_ENVIRONMENT);
+    });
+
+    assertEquals(expected.getMessage(), error.getMessage());
+  }
+
+  @Test
+  public void shouldRejectMismatchingSources() throws Exception {
+    byte[] data = serializer.serialize(evaluator.parseString("1 + 2"));
+
+    assertNotNull(serializer.deserialize(data, "1 + 2"));
+    assertNull(serializer.deserialize(data, "1 + 3"));
+
+    // Produced by another format version
+    byte[] outdated = data.clone();
+    outdated[4] = (byte) (ExpressionSerializer.FORMAT_VERSION + 1);
+    assertNull(serializer.deserialize(outdated, "1 + 2"));
+    assertThrows(IOException.class, () -> serializer.deserialize(outdated));
+  }
+
+  @Test
+  public void shouldRejectMalformedCounts() throws Exception {
+    byte[] data = serializer.serialize(evaluator.parseString("1"));
+
+    // Magic number, format version and source hash
+    int headerLength = 4 + 1 + 32;
+
+    // Negative number of strings
+    byte[] negative = Arrays.copyOf(data, headerLength + 5);
+    System.arraycopy(new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F }, 0, negative, headerLength, 5);
+    assertThrows(IOException.class, () -> serializer.deserialize(negative));
+
+    // More strings than there are bytes
+    byte[] oversized = Arrays.copyOf(data, headerLength + 3);
+    System.arraycopy(new byte[] { (byte) 0xA0, (byte) 0x8D, 0x06 }, 0, oversized, headerLength, 3);
+    assertThrows(IOException.class, () -> serializer.deserialize(oversized));
+    assertEquals(1L, evaluator.evaluateExpression(evaluator.loadOrParse("1", oversized), GPEEE.EMPTY_ENVIRONMENT));
+  }
+
+  @Test
+  public void shouldFallBackToParsing() throws Exception {
+    byte[] data = serializer.serialize(evaluator.parseString("\"cached\""));
+
+    assertEquals("cached", evaluator.evaluateExpression(evaluator.loadOrParse("\"cached\"", data), GPEEE.EMPTY_ENVIRONMENT));
+    assertEquals("parsed", evaluator.evaluateExpression(evaluator.loadOrParse("\"parsed\"", data), GPEEE.EMPTY_ENVIRONMENT));
+    assertEquals("parsed", evaluator.evaluateExpression(evaluator.loadOrParse("\"parsed\"", null), GPEEE.EMPTY_ENVIRONMENT));
+
+    // Truncated data
+    byte[] truncated = Arrays.copyOf(data, data.length - 3);
+    assertEquals("cached", evaluator.evaluateExpression(evaluator.loadOrParse("\"cached\"", truncated), GPEEE.EMPTY_ENVIRONMENT));
+  }
+
+  private void assertRoundTrip(String input) throws Exception {
+    AExpression expression = evaluator.parseString(input);
+    AExpression deserialized = serializer.deserialize(serializer.serialize(expression), input);
+
+    assertNotNull(deserialized);
+    assertEquals(expression.stringify("  ", 0), deserialized.stringify("  ", 0));
+    assertEquals(expression.expressionify(), deserialized.expressionify());
+  }
+}
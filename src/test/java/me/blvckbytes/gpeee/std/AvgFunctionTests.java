@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.std;
+
+import me.blvckbytes.gpeee.EnvironmentBuilder;
+import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class AvgFunctionTests {
+
+  @Test
+  public void shouldRequireArguments() {
+    new EnvironmentBuilder()
+      .launch(validator -> {
+        validator.validateThrows("avg()", InvalidFunctionArgumentTypeError.class);
+        validator.validateThrows("avg(5)", InvalidFunctionArgumentTypeError.class);
+      });
+  }
+
+  @Test
+  public void shouldAverageItems() {
+    new EnvironmentBuilder()
+      .withStaticVariable("numbers", Arrays.asList(3, null, 4))
+      .withStaticVariable("words", Arrays.asList("a", "bb", "ccc", "dddd"))
+      .withStaticVariable("items_empty", Collections.emptyList())
+      .launch(validator -> {
+        // Null values are not counted
+        validator.validateExact("avg(numbers)", 3.5);
+        validator.validate("avg(words, (it) => len(it))", 2.5);
+        validator.validate("avg(range(1, 100))", 50.5);
+        validator.validate("avg(items_empty)", (Object) null);
+      });
+  }
+}
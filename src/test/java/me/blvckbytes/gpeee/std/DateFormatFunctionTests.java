@@ -25,11 +25,21 @@
 package me.blvckbytes.gpeee.std;
 
 import me.blvckbytes.gpeee.EnvironmentBuilder;
+import me.blvckbytes.gpeee.GPEEE;
 import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
 import me.blvckbytes.gpeee.error.InvalidFunctionInvocationError;
+import me.blvckbytes.gpeee.functions.std.DateFormatCache;
+import me.blvckbytes.gpeee.parser.expression.FunctionInvocationExpression;
+import me.blvckbytes.gpeee.parser.expression.ProgramExpression;
 import org.junit.jupiter.api.Test;
 
+import java.text.SimpleDateFormat;
+import java.time.*;
 import java.util.Date;
+import java.util.TimeZone;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 public class DateFormatFunctionTests {
 
@@ -144,4 +154,86 @@ public class DateFormatFunctionTests {
         validator.validate("date_format(date, \"date\", format_c, \"CET\")", "28.02.2023 11:17:02");
       });
   }
+
+  @Test
+  public void shouldFormatTemporals() {
+    new EnvironmentBuilder()
+      .withStaticVariable("format_a", "yyyy-MM-dd")
+      .withStaticVariable("format_c", "dd.MM.yyyy HH:mm:ss")
+      .withStaticVariable("instant", Instant.ofEpochSecond(1677579422)) // Tue Feb 28 2023 10:17:02 UTC
+      .withStaticVariable("local", LocalDateTime.of(2023, 2, 28, 10, 17, 2))
+      .withStaticVariable("local_date", LocalDate.of(2023, 2, 28))
+      .withStaticVariable("zone", ZoneId.of("CET"))
+      .launch(validator -> {
+        validator.validate("date_format(instant, \"date\", format_c)", "28.02.2023 10:17:02");
+        validator.validate("date_format(instant, \"date\", format_c, zone)", "28.02.2023 11:17:02");
+        validator.validate("date_format(instant, \"DATE\", format_c, \"+02:00\")", "28.02.2023 12:17:02");
+
+        // Temporals without an instant are formatted as is
+        validator.validate("date_format(local, \"date\", format_c, zone)", "28.02.2023 10:17:02");
+        validator.validate("date_format(local_date, \"date\", format_a)", "2023-02-28");
+        validator.validateThrows("date_format(local_date, \"date\", format_c)", InvalidFunctionInvocationError.class);
+      });
+  }
+
+  @Test
+  public void shouldKeepLegacyPatternMeanings() {
+    long stamp = 1678887930045L; // Wed Mar 15 2023 13:45:30.045 UTC
+
+    String[] patterns = {
+      "[HH:mm]", "u", "S", "SSS", "F", "#{yyyy}", "'at' HH 'o''clock'''", "EEEE, MMMM d", "EEEEE MMMMM",
+      "yy-M-d h:mm a", "D DDDD", "k K", "Z", "XXX", "z"
+    };
+
+    for (String pattern : patterns) {
+      SimpleDateFormat legacyFormat = new SimpleDateFormat(pattern);
+      legacyFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+      new EnvironmentBuilder()
+        .withStaticVariable("stamp", stamp)
+        .withStaticVariable("format", pattern)
+        .launch(validator -> {
+          validator.validate("date_format(stamp, \"millis\", format)", legacyFormat.format(new Date(stamp)));
+        });
+    }
+
+    new EnvironmentBuilder()
+      .withStaticVariable("format", "'unterminated")
+      .launch(validator -> {
+        validator.validateThrows("date_format(0, \"millis\", format)", InvalidFunctionInvocationError.class);
+      });
+  }
+
+  @Test
+  public void shouldPrecompileConstantFormatsAndZones() {
+    GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+    ProgramExpression program = (ProgramExpression) evaluator.optimizeExpression(evaluator.parseString("date_format(stamp, \"seconds\", \"HH:mm\", \"CET\")"));
+    Object[] precompiledArguments = ((FunctionInvocationExpression) program.getLines().get(0)).getPrecompiledArguments();
+
+    assertNotNull(precompiledArguments);
+    assertNull(precompiledArguments[0]);
+    assertNull(precompiledArguments[1]);
+    assertEquals("HH:mm", ((DateFormatCache.CompiledFormat) precompiledArguments[2]).getPattern());
+    assertEquals(ZoneId.of("CET"), precompiledArguments[3]);
+
+    // Malformed formats and zones are left up to the invocation
+    program = (ProgramExpression) evaluator.optimizeExpression(evaluator.parseString("date_format(stamp, \"seconds\", \"hello, world\", \"hello\")"));
+    assertNull(((FunctionInvocationExpression) program.getLines().get(0)).getPrecompiledArguments());
+  }
+
+  @Test
+  public void shouldReuseCompiledFormats() {
+    DateFormatCache cache = new DateFormatCache(2);
+
+    DateFormatCache.CompiledFormat format = cache.getFormat("HH:mm");
+    assertSame(format, cache.getFormat("HH:mm"));
+    assertSame(format.inZone(ZoneOffset.UTC), format.inZone(ZoneOffset.UTC));
+    assertSame(cache.getZone("CET"), cache.getZone("CET"));
+
+    cache.getFormat("mm:ss");
+    cache.getFormat("ss");
+    assertEquals(2, cache.size());
+    assertNotSame(format, cache.getFormat("HH:mm"));
+  }
 }
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.std;
+
+import me.blvckbytes.gpeee.EnvironmentBuilder;
+import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class GroupByFunctionTests {
+
+  @Test
+  public void shouldRequireArguments() {
+    new EnvironmentBuilder()
+      .withStaticVariable("items", Collections.emptyList())
+      .launch(validator -> {
+        validator.validateThrows("group_by()", InvalidFunctionArgumentTypeError.class);
+        validator.validateThrows("group_by(items)", InvalidFunctionArgumentTypeError.class);
+      });
+  }
+
+  @Test
+  public void shouldGroupItemsByKey() {
+    new EnvironmentBuilder()
+      .withStaticVariable("words", Arrays.asList("apple", "avocado", "banana", "blueberry", "cherry"))
+      .withStaticVariable("items_empty", Collections.emptyList())
+      .launch(validator -> {
+        validator.validate("group_by(words, (it) => substring(it, 0, 1))[\"a\"]", Arrays.asList("apple", "avocado"));
+        validator.validate("group_by(words, (it) => substring(it, 0, 1))[\"c\"]", Collections.singletonList("cherry"));
+        validator.validate("group_by(words, (it) => substring(it, 0, 1), (it) => len(it))[\"b\"]", Arrays.asList(6, 9));
+        validator.validate("len(group_by(words, (it) => substring(it, 0, 1)))", 3);
+        validator.validate("len(group_by(items_empty, (it) => it))", 0);
+        validator.validate("group_by(range(1, 8), (it) => if it % 2 == 0 then \"even\" else \"odd\")[\"even\"]", Arrays.asList(2, 4, 6, 8));
+      });
+  }
+
+  @Test
+  public void shouldGroupByStringifiedKeys() {
+    new EnvironmentBuilder()
+      .withStaticVariable("items", Arrays.asList(1, 2, 3, 4, 5))
+      .launch(validator -> {
+        validator.validate("group_by(items, (it) => it % 2)[1]", Arrays.asList(1, 3, 5));
+        validator.validate("group_by(items, (it) => it % 2)[\"0\"]", Arrays.asList(2, 4));
+        validator.validate("group_by(items, (it) => it > 2)[true]", Arrays.asList(3, 4, 5));
+        validator.validate("key(list(group_by(items, (it) => it % 2))[0])", "1");
+      });
+  }
+}
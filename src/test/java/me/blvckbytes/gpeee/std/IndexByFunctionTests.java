@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.std;
+
+import me.blvckbytes.gpeee.EnvironmentBuilder;
+import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class IndexByFunctionTests {
+
+  @Test
+  public void shouldRequireArguments() {
+    new EnvironmentBuilder()
+      .withStaticVariable("items", Collections.emptyList())
+      .launch(validator -> {
+        validator.validateThrows("index_by()", InvalidFunctionArgumentTypeError.class);
+        validator.validateThrows("index_by(items)", InvalidFunctionArgumentTypeError.class);
+      });
+  }
+
+  @Test
+  public void shouldIndexItemsByKey() {
+    new EnvironmentBuilder()
+      .withStaticVariable("players", Arrays.asList(
+        Arrays.asList(7, "Alice"), Arrays.asList(3, "Bob"), Arrays.asList(7, "Carol"), Arrays.asList(null, "Dave")
+      ))
+      .launch(validator -> {
+        validator.validate("lookup(index_by(players, (it) => it[0]), 3)[1]", "Bob");
+
+        // The first item of a key wins, while items without a key are left out
+        validator.validate("lookup(index_by(players, (it) => it[0]), 7)[1]", "Alice");
+        validator.validate("lookup(index_by(players, (it) => it[0]), null)", (Object) null);
+
+        validator.validate("lookup(index_by(players, (it, index) => index), 2)[1]", "Carol");
+        validator.validate("lookup(index_by(range(1, 1000), (it) => it * 2), 1000)", 500);
+        validator.validate("lookup(index_by(range(1, 1000), (it) => it * 2), 999)", (Object) null);
+      });
+  }
+}
@@ -55,6 +55,8 @@ public class LenFunctionTests {
         validator.validate("len(null)", 0);
         validator.validate("len(1)", 0);
         validator.validate("len(1.1)", 0);
+        validator.validate("len(filter(range(1, 10), (it) => it % 2 == 0))", 5);
+        validator.validate("len(flatten(my_list, range(1, 3)))", 7);
       });
   }
 }
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.std;
+
+import me.blvckbytes.gpeee.EnvironmentBuilder;
+import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
+import me.blvckbytes.gpeee.interpreter.HashIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class LookupFunctionTests {
+
+  @Test
+  public void shouldRequireArguments() {
+    new EnvironmentBuilder()
+      .launch(validator -> {
+        validator.validateThrows("lookup()", InvalidFunctionArgumentTypeError.class);
+        validator.validateThrows("lookup(5, 5)", InvalidFunctionArgumentTypeError.class);
+      });
+  }
+
+  @Test
+  public void shouldLookUpHostBuiltIndexes() {
+    List<List<Object>> players = Arrays.asList(
+      Arrays.asList(1, "Alice"), Arrays.asList(2, "Bob"), Arrays.asList(3, "Carol")
+    );
+
+    new EnvironmentBuilder()
+      .withStaticVariable("players_by_id", HashIndex.of(players, player -> ((List<?>) player).get(0)))
+      .withStaticVariable("players_by_name", HashIndex.of(players, player -> ((List<?>) player).get(1)))
+      .withStaticVariable("big_id", 2L)
+      .launch(validator -> {
+        validator.validate("lookup(players_by_id, 2)[1]", "Bob");
+        validator.validate("lookup(players_by_name, \"Carol\")[0]", 3);
+        validator.validate("lookup(players_by_name, \"Dave\")", (Object) null);
+        validator.validate("lookup(players_by_id)", (Object) null);
+
+        // Numeric keys match independently of their type
+        validator.validate("lookup(players_by_id, big_id)[1]", "Bob");
+        validator.validate("lookup(players_by_id, 1.5 * 2)[1]", "Carol");
+        validator.validate("lookup(players_by_id, 1.5)", (Object) null);
+
+        // Keys match like they do when compared non-strictly
+        validator.validate("lookup(players_by_name, \" carol \")[0]", 3);
+        validator.validate("lookup(players_by_id, \"3\")[1]", "Carol");
+        validator.validate("lookup(players_by_id, \"2.0\")[1]", "Bob");
+        validator.validate("lookup(players_by_id, \"two\")", (Object) null);
+      });
+  }
+}
@@ -25,12 +25,26 @@
 package me.blvckbytes.gpeee.std;
 
 import me.blvckbytes.gpeee.EnvironmentBuilder;
+import me.blvckbytes.gpeee.GPEEE;
 import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
+import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
+import me.blvckbytes.gpeee.interpreter.EvaluationEnvironmentBuilder;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.interpreter.LazySequence;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 public class MapFunctionTests {
 
@@ -65,4 +79,88 @@ public class MapFunctionTests {
         validator.validate("map(items_empty, (item, index) => index & item)", Collections.emptyList());
       });
   }
+
+  @Test
+  public void shouldOnlyMapConsumedItems() {
+    AtomicInteger mapperCalls = new AtomicInteger();
+
+    new EnvironmentBuilder()
+      .withFunction("track", new AExpressionFunction() {
+        @Override
+        public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+          mapperCalls.incrementAndGet();
+          return args.get(0);
+        }
+
+        @Override
+        public @Nullable List<ExpressionFunctionArgument> getArguments() {
+          return null;
+        }
+      })
+      .launch(validator -> {
+        validator.validate("filter(map(range(1, 100000), (it) => track(it) * 2), (it) => it % 3 == 0)[1]", 12);
+
+        // Evaluated twice (unoptimized and optimized), stopping at the sixth item each time
+        assertEquals(12, mapperCalls.get());
+      });
+  }
+
+  @Test
+  public void shouldMapEachItemOnlyOnce() {
+    AtomicInteger mapperCalls = new AtomicInteger();
+
+    new EnvironmentBuilder()
+      .withStaticVariable("items", Arrays.asList(1, 2, 3, 4))
+      .withFunction("track", new AExpressionFunction() {
+        @Override
+        public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+          mapperCalls.incrementAndGet();
+          return args.get(0);
+        }
+
+        @Override
+        public @Nullable List<ExpressionFunctionArgument> getArguments() {
+          return null;
+        }
+      })
+      .launch(validator -> {
+        String[] expressions = {
+          "sort(map(items, (it) => track(it)), null, true)",
+          "map(items, (it) => track(it))[-1]",
+          "map(items, (it) => track(it))[1:3]",
+          "map(items, (it) => track(it)) == items",
+          "list_of(map(items, (it) => track(it)))",
+          "len(filter(map(items, (it) => track(it)), (it) => it > 2))",
+          "mapped = map(items, (it) => track(it))\nlen(mapped) + len(filter(mapped, (it) => true))",
+        };
+
+        Object[] results = {
+          Arrays.asList(4, 3, 2, 1), 4, Arrays.asList(2, 3), true,
+          Collections.singletonList(Arrays.asList(1, 2, 3, 4)), 2, 8,
+        };
+
+        for (int i = 0; i < expressions.length; i++) {
+          mapperCalls.set(0);
+          validator.validate(expressions[i], results[i]);
+
+          // Evaluated twice (unoptimized and optimized), computing each item once each time
+          assertEquals(8, mapperCalls.get(), expressions[i]);
+        }
+      });
+  }
+
+  @Test
+  public void shouldMaterializeNestedSequencesWithinTheSession() {
+    GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+    IEvaluationEnvironment env = new EvaluationEnvironmentBuilder()
+      .withStaticVariable("items", Arrays.asList(1, 2, 3))
+      .build();
+
+    Object result = evaluator.evaluateExpression(evaluator.parseString("map_of(\"doubled\", list_of(map(items, (it) => it * 2)))"), env);
+    Object doubled = ((List<?>) ((Map<?, ?>) result).get("doubled")).get(0);
+
+    assertFalse(doubled instanceof LazySequence);
+    assertEquals(Arrays.asList(2L, 4L, 6L), doubled);
+  }
 }
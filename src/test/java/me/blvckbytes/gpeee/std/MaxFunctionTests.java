@@ -28,6 +28,7 @@ import me.blvckbytes.gpeee.EnvironmentBuilder;
 import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 public class MaxFunctionTests {
@@ -52,4 +53,20 @@ public class MaxFunctionTests {
         validator.validate("max(my_list, my_list_empty)", Collections.singletonList(1));
       });
   }
+
+  @Test
+  public void shouldReturnTheBiggestItem() {
+    new EnvironmentBuilder()
+      .withStaticVariable("numbers", Arrays.asList(3, -2, 8, 5))
+      .withStaticVariable("my_list_empty", Collections.emptyList())
+      .launch(validator -> {
+        validator.validate("max(numbers)", 8);
+        validator.validate("max(a=numbers)", 8);
+        validator.validate("max(my_list_empty)", (Object) null);
+
+        // Ranges are not visited
+        validator.validate("max(range(1000000000, 2000000000))", 2000000000L);
+        validator.validate("max(range(5, 4))", (Object) null);
+      });
+  }
 }
@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.std;
+
+import me.blvckbytes.gpeee.EnvironmentBuilder;
+import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class MaxOfFunctionTests {
+
+  @Test
+  public void shouldRequireArguments() {
+    new EnvironmentBuilder()
+      .launch(validator -> {
+        validator.validateThrows("max_of()", InvalidFunctionArgumentTypeError.class);
+        validator.validateThrows("max_of(5)", InvalidFunctionArgumentTypeError.class);
+      });
+  }
+
+  @Test
+  public void shouldReturnTheItemWithTheBiggestKey() {
+    new EnvironmentBuilder()
+      .withStaticVariable("numbers", Arrays.asList(3, null, -2, 8, 5))
+      .withStaticVariable("words", Arrays.asList("ab", "ccc", "d", "ee"))
+      .withStaticVariable("scores", Arrays.asList(Arrays.asList("Alice", 12), Arrays.asList("Bob", 7), Arrays.asList("Carol", 12)))
+      .withStaticVariable("items_empty", Collections.emptyList())
+      .launch(validator -> {
+        validator.validate("max_of(numbers)", 8);
+        validator.validate("max_of(scores, (it) => it[1])[0]", "Alice");
+        validator.validate("max_of(words, (it, index) => if index == 0 then null else -len(it))", "d");
+        validator.validate("max_of(range(1, 1000000))", 1000000);
+        validator.validate("max_of(items_empty)", (Object) null);
+      });
+  }
+}
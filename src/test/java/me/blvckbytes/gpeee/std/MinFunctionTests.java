@@ -28,6 +28,7 @@ import me.blvckbytes.gpeee.EnvironmentBuilder;
 import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 public class MinFunctionTests {
@@ -52,4 +53,20 @@ public class MinFunctionTests {
         validator.validate("min(my_list, my_list_empty)", Collections.emptyList());
       });
   }
+
+  @Test
+  public void shouldReturnTheSmallestItem() {
+    new EnvironmentBuilder()
+      .withStaticVariable("numbers", Arrays.asList(3, -2, 8, 5))
+      .withStaticVariable("my_list_empty", Collections.emptyList())
+      .launch(validator -> {
+        validator.validate("min(numbers)", -2);
+        validator.validate("min(a=numbers)", -2);
+        validator.validate("min(my_list_empty)", (Object) null);
+
+        // Ranges are not visited
+        validator.validate("min(range(1000000000, 2000000000))", 1000000000L);
+        validator.validate("min(range(5, 4))", (Object) null);
+      });
+  }
 }
@@ -26,11 +26,15 @@ package me.blvckbytes.gpeee.std;
 
 import me.blvckbytes.gpeee.EnvironmentBuilder;
 import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
+import me.blvckbytes.gpeee.error.InvalidIndexError;
+import me.blvckbytes.gpeee.interpreter.LongRange;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 public class RangeFunctionTests {
 
   @Test
@@ -62,4 +66,45 @@ public class RangeFunctionTests {
         validator.validate("range(-5, -3)", Arrays.asList(-5, -4, -3));
       });
   }
+
+  @Test
+  public void shouldNotMaterializeRanges() {
+    new EnvironmentBuilder()
+      .withStaticVariable("max", Long.MAX_VALUE)
+      .withStaticVariable("trillion", 1000000000000L)
+      .launch(validator -> {
+        validator.validate("len(range(1, trillion))", 1000000000000L);
+        validator.validate("range(1, trillion)[trillion - 1]", 1000000000000L);
+        validator.validate("range(-5, 5)[10]", 5);
+        validator.validate("range(-5, 5)?[11]", (Object) null);
+        validator.validateThrows("range(-5, 5)[11]", InvalidIndexError.class);
+        validator.validate("range(max - 1, max)[1]", Long.MAX_VALUE);
+        validator.validate("iter_cat(range(1, 4), (it) => it * it, \"-\")", "1-4-9-16");
+      });
+  }
+
+  @Test
+  public void shouldAnswerRangeQueriesArithmetically() {
+    LongRange range = new LongRange(-3, 3);
+
+    assertEquals(7, range.size());
+    assertEquals(-3L, range.get(0));
+    assertEquals(3L, range.getLast());
+    assertTrue(range.contains(2));
+    assertTrue(range.contains(-3.0));
+    assertFalse(range.contains(2.5));
+    assertFalse(range.contains(4L));
+    assertFalse(range.contains("2"));
+    assertEquals(5, range.indexOf(2L));
+    assertEquals(new LongRange(-2, 0), range.subList(1, 4));
+    assertEquals(Arrays.asList(-3L, -2L, -1L, 0L, 1L, 2L, 3L), range);
+
+    LongRange huge = new LongRange(0, Long.MAX_VALUE);
+    assertEquals(Integer.MAX_VALUE, huge.size());
+    assertEquals(Long.MAX_VALUE, huge.getLength());
+    assertTrue(huge.contains(Long.MAX_VALUE - 1));
+
+    assertTrue(new LongRange(1, 0).isEmpty());
+    assertThrows(IndexOutOfBoundsException.class, () -> new LongRange(1, 0).get(0));
+  }
 }
@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.std;
+
+import me.blvckbytes.gpeee.EnvironmentBuilder;
+import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
+import me.blvckbytes.gpeee.error.InvalidFunctionInvocationError;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class RegexFindAllFunctionTests {
+
+  @Test
+  public void shouldRequireArguments() {
+    new EnvironmentBuilder()
+      .launch(validator -> {
+        validator.validateThrows("regex_find_all()", InvalidFunctionArgumentTypeError.class);
+        validator.validateThrows("regex_find_all(\"a\")", InvalidFunctionArgumentTypeError.class);
+      });
+  }
+
+  @Test
+  public void shouldFindAllMatches() {
+    new EnvironmentBuilder()
+      .withStaticVariable("text", "Costs 5 coins, 12 gems and 300 xp")
+      .launch(validator -> {
+        validator.validate("regex_find_all(text, \"\\\\d+\")", Arrays.asList("5", "12", "300"));
+        validator.validate("regex_find_all(text, \"diamonds\")", Collections.emptyList());
+        validator.validate("len(regex_find_all(text, \"[a-z]+\"))", 5);
+        validator.validateThrows("regex_find_all(text, \"*\")", InvalidFunctionInvocationError.class);
+      });
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.std;
+
+import me.blvckbytes.gpeee.EnvironmentBuilder;
+import me.blvckbytes.gpeee.GPEEE;
+import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
+import me.blvckbytes.gpeee.error.InvalidFunctionInvocationError;
+import me.blvckbytes.gpeee.functions.AExpressionFunction;
+import me.blvckbytes.gpeee.functions.ExpressionFunctionArgument;
+import me.blvckbytes.gpeee.interpreter.IEvaluationEnvironment;
+import me.blvckbytes.gpeee.parser.expression.FunctionInvocationExpression;
+import me.blvckbytes.gpeee.parser.expression.ProgramExpression;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegexMatchFunctionTests {
+
+  @Test
+  public void shouldRequireArguments() {
+    new EnvironmentBuilder()
+      .launch(validator -> {
+        validator.validateThrows("regex_match()", InvalidFunctionArgumentTypeError.class);
+        validator.validateThrows("regex_match(\"a\")", InvalidFunctionArgumentTypeError.class);
+      });
+  }
+
+  @Test
+  public void shouldMatchWholeInputs() {
+    new EnvironmentBuilder()
+      .withStaticVariable("name", "Steve_123")
+      .withStaticVariable("pattern", Pattern.compile("[A-Z].*"))
+      .launch(validator -> {
+        validator.validate("regex_match(name, \"[A-Za-z]+_\\\\d+\")", true);
+        validator.validate("regex_match(name, \"[A-Za-z]+\")", false);
+        validator.validate("regex_match(name, pattern)", true);
+        validator.validate("regex_match(\"abc\", \"a.c\")", true);
+        validator.validateThrows("regex_match(name, \"[\")", InvalidFunctionInvocationError.class);
+      });
+  }
+
+  @Test
+  public void shouldPrecompileConstantPatterns() {
+    GPEEE evaluator = new GPEEE(Logger.getGlobal());
+
+    ProgramExpression program = (ProgramExpression) evaluator.optimizeExpression(evaluator.parseString("regex_match(name, \"[a-z]+\")"));
+    Object[] precompiledArguments = ((FunctionInvocationExpression) program.getLines().get(0)).getPrecompiledArguments();
+
+    assertNotNull(precompiledArguments);
+    assertNull(precompiledArguments[0]);
+    assertEquals("[a-z]+", ((Pattern) precompiledArguments[1]).pattern());
+
+    // Malformed patterns are left up to the invocation
+    program = (ProgramExpression) evaluator.optimizeExpression(evaluator.parseString("regex_match(name, \"[\")"));
+    assertNull(((FunctionInvocationExpression) program.getLines().get(0)).getPrecompiledArguments());
+  }
+
+  @Test
+  public void shouldBeShadowedByEnvironmentFunctions() {
+    new EnvironmentBuilder()
+      .withFunction(
+        "regex_match",
+        new AExpressionFunction() {
+          @Override
+          public Object apply(IEvaluationEnvironment environment, List<@Nullable Object> args) {
+            // Receives the plain pattern string, as precompiled arguments only target the standard function
+            return args.get(1) instanceof String ? "custom " + args.get(1) : null;
+          }
+
+          @Override
+          public @Nullable List<ExpressionFunctionArgument> getArguments() {
+            return null;
+          }
+        })
+      .launch(validator -> {
+        validator.validate("regex_match(\"abc\", \"[a-z]+\")", "custom [a-z]+");
+      });
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.std;
+
+import me.blvckbytes.gpeee.EnvironmentBuilder;
+import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
+import me.blvckbytes.gpeee.error.InvalidFunctionInvocationError;
+import org.junit.jupiter.api.Test;
+
+public class RegexReplaceFunctionTests {
+
+  @Test
+  public void shouldRequireArguments() {
+    new EnvironmentBuilder()
+      .launch(validator -> {
+        validator.validateThrows("regex_replace()", InvalidFunctionArgumentTypeError.class);
+        validator.validateThrows("regex_replace(\"a\", \"b\")", InvalidFunctionArgumentTypeError.class);
+      });
+  }
+
+  @Test
+  public void shouldReplaceAllMatches() {
+    new EnvironmentBuilder()
+      .withStaticVariable("message", "&aHello &cworld")
+      .launch(validator -> {
+        validator.validate("regex_replace(message, \"&[0-9a-f]\", \"\")", "Hello world");
+        validator.validate("regex_replace(message, \"(\\\\S+) (\\\\S+)\", \"$2 $1\")", "&cworld &aHello");
+        validator.validate("regex_replace(\"a-b-c\", \"-\", \"+\")", "a+b+c");
+        validator.validateThrows("regex_replace(message, \"(\", \"\")", InvalidFunctionInvocationError.class);
+        validator.validateThrows("regex_replace(message, \"a\", \"$5\")", InvalidFunctionInvocationError.class);
+      });
+  }
+}
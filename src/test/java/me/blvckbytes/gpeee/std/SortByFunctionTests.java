@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.std;
+
+import me.blvckbytes.gpeee.EnvironmentBuilder;
+import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class SortByFunctionTests {
+
+  @Test
+  public void shouldRequireArguments() {
+    new EnvironmentBuilder()
+      .withStaticVariable("items", Collections.emptyList())
+      .launch(validator -> {
+        validator.validateThrows("sort_by()", InvalidFunctionArgumentTypeError.class);
+        validator.validateThrows("sort_by(items)", InvalidFunctionArgumentTypeError.class);
+      });
+  }
+
+  @Test
+  public void shouldSortItemsByKey() {
+    new EnvironmentBuilder()
+      .withStaticVariable("words", Arrays.asList("ccc", "a", "dd", "bb", "eeee"))
+      .withStaticVariable("items_empty", Collections.emptyList())
+      .launch(validator -> {
+        // Items of equal keys keep their order
+        validator.validate("sort_by(words, (it) => len(it))", Arrays.asList("a", "dd", "bb", "ccc", "eeee"));
+        validator.validate("sort_by(words, (it) => len(it), true)", Arrays.asList("eeee", "ccc", "dd", "bb", "a"));
+        validator.validate("sort_by(words, (it) => it)", Arrays.asList("a", "bb", "ccc", "dd", "eeee"));
+        validator.validate("sort_by(range(1, 5), (it) => -it)", Arrays.asList(5, 4, 3, 2, 1));
+        validator.validate("sort_by(items_empty, (it) => it)", Collections.emptyList());
+
+        // Items without a key are placed last
+        validator.validate("sort_by(words, (it) => if it == \"dd\" then null else len(it), true)", Arrays.asList("eeee", "ccc", "bb", "a", "dd"));
+      });
+  }
+}
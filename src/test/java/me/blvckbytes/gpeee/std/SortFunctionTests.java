@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.std;
+
+import me.blvckbytes.gpeee.EnvironmentBuilder;
+import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class SortFunctionTests {
+
+  @Test
+  public void shouldRequireArguments() {
+    new EnvironmentBuilder()
+      .launch(validator -> {
+        validator.validateThrows("sort()", InvalidFunctionArgumentTypeError.class);
+        validator.validateThrows("sort(5)", InvalidFunctionArgumentTypeError.class);
+      });
+  }
+
+  @Test
+  public void shouldSortItems() {
+    new EnvironmentBuilder()
+      .withStaticVariable("numbers", Arrays.asList(5, -3, 8, null, 1))
+      .withStaticVariable("words", Arrays.asList("ccc", "a", "dd", "bb"))
+      .withStaticVariable("items_empty", Collections.emptyList())
+      .launch(validator -> {
+        validator.validate("sort(numbers)", Arrays.asList(-3, 1, 5, 8, null));
+        validator.validate("sort(numbers, null, true)", Arrays.asList(8, 5, 1, -3, null));
+        validator.validate("sort(words)", Arrays.asList("a", "bb", "ccc", "dd"));
+        validator.validate("sort(words, (it) => len(it), true)", Arrays.asList("ccc", "dd", "bb", "a"));
+        validator.validate("sort(range(1, 4), null, true)", Arrays.asList(4, 3, 2, 1));
+        validator.validate("sort(items_empty)", Collections.emptyList());
+
+        // Ranges are already sorted, so they're returned as is
+        validator.validate("len(sort(range(1, 1000000000)))", 1000000000);
+      });
+  }
+}
@@ -26,6 +26,7 @@ package me.blvckbytes.gpeee.std;
 
 import me.blvckbytes.gpeee.EnvironmentBuilder;
 import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
+import me.blvckbytes.gpeee.error.InvalidFunctionInvocationError;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
@@ -59,4 +60,28 @@ public class SplitFunctionTests {
         validator.validate("split(\"myhelloworldhellotext\", \"hello\")", Arrays.asList("my", "world", "text"));
       });
   }
+
+  @Test
+  public void shouldSplitLikeStringSplit() {
+    String[] inputs = { "a,b,,c,,", ",a,b", ",,", "", "no delimiter", "a, b,c ,d" };
+
+    new EnvironmentBuilder()
+      .withStaticVariable("inputs", Arrays.asList(inputs))
+      .launch(validator -> {
+        for (int i = 0; i < inputs.length; i++) {
+          validator.validate("split(inputs[" + i + "])", Arrays.asList(inputs[i].split(",")));
+          validator.validate("split(inputs[" + i + "], \", ?\")", Arrays.asList(inputs[i].split(", ?")));
+          validator.validate("split(inputs[" + i + "], \"\")", Arrays.asList(inputs[i].split("")));
+        }
+      });
+  }
+
+  @Test
+  public void shouldThrowOnMalformedDelimiters() {
+    new EnvironmentBuilder()
+      .withStaticVariable("input", "a(b")
+      .launch(validator -> {
+        validator.validateThrows("split(input, \"(\")", InvalidFunctionInvocationError.class);
+      });
+  }
 }
@@ -67,4 +67,29 @@ public class StrFunctionTests {
       validator.validate("str(my_map)", env.stringifiedPermutations("my_map"));
     });
   }
+
+  @Test
+  public void shouldStringifyNestedValuesAndPrimitiveArrays() {
+    Map<Object, Object> nestedMap = new LinkedHashMap<>();
+    nestedMap.put("a", Arrays.asList(1, null));
+    nestedMap.put(null, new String[] {"x", "y"});
+
+    new EnvironmentBuilder()
+      .withStaticVariable("int_array", new int[] {1, -2, 3})
+      .withStaticVariable("double_array", new double[] {.5, 2})
+      .withStaticVariable("char_array", new char[] {'a', 'b'})
+      .withStaticVariable("boolean_array", new boolean[] {true, false})
+      .withStaticVariable("empty_array", new long[0])
+      .withStaticVariable("nested_map", nestedMap)
+      .withStaticVariable("nested_list", Arrays.asList(new byte[] {1, 2}, Collections.emptyList(), nestedMap))
+      .launch(validator -> {
+        validator.validate("str(int_array)", "[1, -2, 3]");
+        validator.validate("str(double_array)", "[0.5, 2.0]");
+        validator.validate("str(char_array)", "[a, b]");
+        validator.validate("str(boolean_array)", "[true, false]");
+        validator.validate("str(empty_array)", "[]");
+        validator.validate("str(nested_map)", "[(a -> [1, <null>]), (<null> -> [x, y])]");
+        validator.validate("str(nested_list)", "[[1, 2], [], [(a -> [1, <null>]), (<null> -> [x, y])]]");
+      });
+  }
 }
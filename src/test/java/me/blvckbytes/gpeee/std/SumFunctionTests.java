@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.std;
+
+import me.blvckbytes.gpeee.EnvironmentBuilder;
+import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class SumFunctionTests {
+
+  @Test
+  public void shouldRequireArguments() {
+    new EnvironmentBuilder()
+      .launch(validator -> {
+        validator.validateThrows("sum()", InvalidFunctionArgumentTypeError.class);
+        validator.validateThrows("sum(5)", InvalidFunctionArgumentTypeError.class);
+      });
+  }
+
+  @Test
+  public void shouldSumItems() {
+    new EnvironmentBuilder()
+      .withStaticVariable("numbers", Arrays.asList(3, -2, 8, null, 5))
+      .withStaticVariable("decimals", Arrays.asList(1, 2.5, 3))
+      .withStaticVariable("words", Arrays.asList("a", "bb", "ccc"))
+      .withStaticVariable("max", Long.MAX_VALUE)
+      .withStaticVariable("items_empty", Collections.emptyList())
+      .launch(validator -> {
+        validator.validateExact("sum(numbers)", 14L);
+        validator.validateExact("sum(decimals)", 6.5);
+        validator.validate("sum(words, (it) => len(it))", 6);
+        validator.validate("sum(words, (it, index) => index)", 3);
+        validator.validateExact("sum(items_empty)", 0L);
+
+        // Lazy and large inputs are consumed in a single pass
+        validator.validate("sum(range(1, 1000000))", 500000500000L);
+        validator.validate("sum(map(range(1, 4), (it) => it * it))", 30);
+
+        // Overflowing sums continue as a decimal
+        validator.validate("sum(list_of(max, max))", 2.0 * Long.MAX_VALUE);
+      });
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 BlvckBytes
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package me.blvckbytes.gpeee.std;
+
+import me.blvckbytes.gpeee.EnvironmentBuilder;
+import me.blvckbytes.gpeee.error.InvalidFunctionArgumentTypeError;
+import me.blvckbytes.gpeee.error.InvalidFunctionInvocationError;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class TopKFunctionTests {
+
+  @Test
+  public void shouldRequireArguments() {
+    new EnvironmentBuilder()
+      .withStaticVariable("items", Collections.emptyList())
+      .launch(validator -> {
+        validator.validateThrows("top_k()", InvalidFunctionArgumentTypeError.class);
+        validator.validateThrows("top_k(items)", InvalidFunctionArgumentTypeError.class);
+        validator.validateThrows("top_k(items, -1)", InvalidFunctionInvocationError.class);
+      });
+  }
+
+  @Test
+  public void shouldReturnTheItemsWithTheBiggestKeys() {
+    new EnvironmentBuilder()
+      .withStaticVariable("numbers", Arrays.asList(5, -3, 8, null, 1, 8))
+      .withStaticVariable("scores", Arrays.asList(
+        Arrays.asList("Alice", 12), Arrays.asList("Bob", 7), Arrays.asList("Carol", 15),
+        Arrays.asList("Dave", 12), Arrays.asList("Eve", 3)
+      ))
+      .withStaticVariable("items_empty", Collections.emptyList())
+      .launch(validator -> {
+        validator.validate("top_k(numbers, 3)", Arrays.asList(8, 8, 5));
+        validator.validate("top_k(numbers, 10)", Arrays.asList(8, 8, 5, 1, -3, null));
+        validator.validate("top_k(numbers, 0)", Collections.emptyList());
+        validator.validate("top_k(items_empty, 3)", Collections.emptyList());
+
+        // Of equal keys, the first items win
+        validator.validate("map(top_k(scores, 2, (it) => it[1]), (it) => it[0])", Arrays.asList("Carol", "Alice"));
+        validator.validate("map(top_k(scores, 3, (it) => it[1]), (it) => it[0])", Arrays.asList("Carol", "Alice", "Dave"));
+        validator.validate("map(top_k(scores, 2, (it) => -it[1]), (it) => it[0])", Arrays.asList("Eve", "Bob"));
+
+        validator.validate("top_k(range(1, 1000000000), 3)", Arrays.asList(1000000000, 999999999, 999999998));
+        validator.validate("top_k(range(1, 1000000 * 1000000), 1000000 * 1000000)[1]", 999999999999L);
+        validator.validate("len(top_k(range(1, 5), 1000000 * 1000000))", 5);
+        validator.validate("top_k(range(1, 100000), 2, (it) => it % 1000)", Arrays.asList(999, 1999));
+      });
+  }
+}